@@ -0,0 +1,97 @@
+package benchmarks;
+
+import main.ast.nodes.Program;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import parsers.SimpleLOOPLexer;
+import parsers.SimpleLOOPParser;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+//Sources the benchmarks run on:
+//  "sample1".."sample4"  the files in samples/ (directory overridable with -Dsimpleloop.samples)
+//  "scaled-<n>"          n copies of a small class, linked into a binary inheritance tree
+//  "generated-<lines>"   a valid ProgramGenerator program of about that many lines, with the default shape and seed
+public class BenchmarkInputs {
+    public static final String SAMPLES_PROPERTY = "simpleloop.samples";
+
+    public static String load(String name) {
+        if (name.startsWith("scaled-"))
+            return scaled(Integer.parseInt(name.substring("scaled-".length())));
+        if (name.startsWith("generated-")) {
+            ProgramGenerator.Parameters parameters = new ProgramGenerator.Parameters();
+            parameters.lines = Integer.parseInt(name.substring("generated-".length()));
+            return ProgramGenerator.generate(parameters);
+        }
+        Path samples = Path.of(System.getProperty(SAMPLES_PROPERTY, "samples"));
+        try {
+            return Files.readString(samples.resolve(name + ".sl"));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static Program parse(String source) {
+        SimpleLOOPLexer simpleLOOPLexer = new SimpleLOOPLexer(CharStreams.fromString(source));
+        simpleLOOPLexer.removeErrorListeners();
+        SimpleLOOPParser simpleLOOPParser = new SimpleLOOPParser(new CommonTokenStream(simpleLOOPLexer));
+        simpleLOOPParser.removeErrorListeners();
+        return simpleLOOPParser.simpleLOOP().simpleLOOPProgram;
+    }
+
+    public static String scaled(int classes) {
+        StringBuilder program = new StringBuilder();
+        program.append("int counter\n\n");
+        for (int i = 0; i < classes; i++) {
+            program.append("class C").append(i);
+            if (i != 0)
+                program.append(" < C").append((i - 1) / 2);
+            program.append(" {\n");
+            program.append("    private int f").append(i).append(";\n");
+            program.append("    private Set<int> s").append(i).append(";\n");
+            // constructors are inherited and may not be redeclared below C0
+            if (i == 0) {
+                program.append("    public initialize(int x, bool flag = true) {\n");
+                program.append("        self.f0 = x\n");
+                program.append("        self.s0 = Set.new((1, 2, x))\n");
+                program.append("    }\n");
+            }
+            program.append("    public int m").append(i).append("(int a, int b) {\n");
+            program.append("        int t\n");
+            program.append("        bool c\n");
+            program.append("        t = a + b * 2 - self.f").append(i).append(" / 3\n");
+            program.append("        c = t > 3 && !(a == b) || b < 0\n");
+            program.append("        if c {\n");
+            program.append("            t = t - 1\n");
+            program.append("        }\n");
+            program.append("        elsif a > b {\n");
+            program.append("            t = -t\n");
+            program.append("        }\n");
+            program.append("        else {\n");
+            program.append("            t = t + 1\n");
+            program.append("        }\n");
+            program.append("        self.s").append(i).append(".add(t)\n");
+            program.append("        print(self.s").append(i).append(".include(a))\n");
+            program.append("        return t\n");
+            program.append("    }\n");
+            program.append("}\n\n");
+        }
+        program.append("class Main {\n");
+        program.append("    public initialize() {\n");
+        program.append("        int result\n");
+        for (int i = 0; i < classes; i++) {
+            program.append("        C").append(i).append(" o").append(i).append("\n");
+        }
+        for (int i = 0; i < classes; i++) {
+            program.append("        o").append(i).append(" = C").append(i).append(".new(").append(i).append(")\n");
+            program.append("        result = o").append(i).append(".m").append(i).append("(result, ").append(i).append(")\n");
+        }
+        program.append("        print(result)\n");
+        program.append("    }\n");
+        program.append("}\n");
+        return program.toString();
+    }
+}
@@ -0,0 +1,36 @@
+package benchmarks;
+
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.Token;
+import org.openjdk.jmh.annotations.*;
+import parsers.SimpleLOOPLexer;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class LexerBenchmark {
+    @Param({"sample1", "sample2", "sample3", "sample4", "scaled-100", "scaled-1000", "generated-10000"})
+    public String input;
+
+    private String source;
+
+    @Setup(Level.Trial)
+    public void load() {
+        this.source = BenchmarkInputs.load(this.input);
+    }
+
+    @Benchmark
+    public int tokens() {
+        SimpleLOOPLexer simpleLOOPLexer = new SimpleLOOPLexer(CharStreams.fromString(this.source));
+        simpleLOOPLexer.removeErrorListeners();
+        int count = 0;
+        while (simpleLOOPLexer.nextToken().getType() != Token.EOF)
+            count += 1;
+        return count;
+    }
+}
@@ -0,0 +1,41 @@
+package benchmarks;
+
+import main.CompilationContext;
+import main.ast.nodes.Program;
+import main.visitor.nameAnalyzer.NameAnalyzer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+//Name analysis annotates the AST it runs on, so every invocation gets a freshly parsed one
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class NameAnalysisBenchmark {
+    @Param({"sample1", "sample2", "sample3", "sample4", "scaled-100", "scaled-1000", "generated-10000"})
+    public String input;
+
+    private String source;
+    private Program program;
+    private CompilationContext context;
+
+    @Setup(Level.Trial)
+    public void load() {
+        this.source = BenchmarkInputs.load(this.input);
+    }
+
+    @Setup(Level.Invocation)
+    public void parse() {
+        this.program = BenchmarkInputs.parse(this.source);
+        this.context = new CompilationContext();
+    }
+
+    @Benchmark
+    public CompilationContext analyze() {
+        new NameAnalyzer(this.program, this.context).analyze();
+        return this.context;
+    }
+}
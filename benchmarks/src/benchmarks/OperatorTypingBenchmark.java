@@ -0,0 +1,43 @@
+package benchmarks;
+
+import main.CompilationContext;
+import main.ast.nodes.Program;
+import main.visitor.nameAnalyzer.NameAnalyzer;
+import main.visitor.typeChecker.TypeChecker;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+//Type checking of programs made mostly of deep operator expressions, where the cost is in typing binary and unary
+//operators. The programs are valid, so checking one again leaves its tree as it was and the tree can be analyzed
+//once per trial, which keeps parsing and name analysis out of the measurement.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class OperatorTypingBenchmark {
+    @Param({"3", "6", "9"})
+    public int expressionDepth;
+
+    private Program program;
+    private CompilationContext context;
+
+    @Setup(Level.Trial)
+    public void analyze() {
+        ProgramGenerator.Parameters parameters = new ProgramGenerator.Parameters();
+        parameters.lines = 5000;
+        parameters.statements = 8;
+        parameters.expressionDepth = this.expressionDepth;
+        this.program = BenchmarkInputs.parse(ProgramGenerator.generate(parameters));
+        this.context = new CompilationContext();
+        new NameAnalyzer(this.program, this.context).analyze();
+    }
+
+    @Benchmark
+    public Program typeCheck() {
+        this.program.accept(new TypeChecker(this.context));
+        return this.program;
+    }
+}
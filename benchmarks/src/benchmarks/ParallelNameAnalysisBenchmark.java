@@ -0,0 +1,55 @@
+package benchmarks;
+
+import main.CompilationContext;
+import main.ast.nodes.Program;
+import main.visitor.nameAnalyzer.NameAnalyzer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+//Name analysis of large inputs with class members collected serially (parallelism 1) and on a pool of the given
+//size. Every invocation gets a freshly parsed AST, as in NameAnalysisBenchmark.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ParallelNameAnalysisBenchmark {
+    @Param({"scaled-1000", "generated-10000"})
+    public String input;
+
+    @Param({"1", "2", "4", "8"})
+    public int parallelism;
+
+    private String source;
+    private ForkJoinPool pool;
+    private Program program;
+    private CompilationContext context;
+
+    @Setup(Level.Trial)
+    public void load() {
+        this.source = BenchmarkInputs.load(this.input);
+        if (this.parallelism > 1)
+            this.pool = new ForkJoinPool(this.parallelism);
+    }
+
+    @TearDown(Level.Trial)
+    public void shutdown() {
+        if (this.pool != null)
+            this.pool.shutdown();
+    }
+
+    @Setup(Level.Invocation)
+    public void parse() {
+        this.program = BenchmarkInputs.parse(this.source);
+        this.context = new CompilationContext();
+    }
+
+    @Benchmark
+    public CompilationContext analyze() {
+        new NameAnalyzer(this.program, this.context, this.pool).analyze();
+        return this.context;
+    }
+}
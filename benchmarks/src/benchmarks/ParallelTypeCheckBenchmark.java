@@ -0,0 +1,61 @@
+package benchmarks;
+
+import main.CompilationContext;
+import main.ast.nodes.Program;
+import main.visitor.nameAnalyzer.NameAnalyzer;
+import main.visitor.typeChecker.ParallelTypeChecker;
+import main.visitor.typeChecker.TypeChecker;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+//Type checking of large inputs serially (parallelism 1, the plain TypeChecker) and with the methods spread over a
+//pool of the given size. Every invocation gets a freshly analyzed AST, as in TypeCheckBenchmark.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ParallelTypeCheckBenchmark {
+    @Param({"scaled-1000", "generated-10000"})
+    public String input;
+
+    @Param({"1", "2", "4", "8"})
+    public int parallelism;
+
+    private String source;
+    private ForkJoinPool pool;
+    private Program program;
+    private CompilationContext context;
+
+    @Setup(Level.Trial)
+    public void load() {
+        this.source = BenchmarkInputs.load(this.input);
+        if (this.parallelism > 1)
+            this.pool = new ForkJoinPool(this.parallelism);
+    }
+
+    @TearDown(Level.Trial)
+    public void shutdown() {
+        if (this.pool != null)
+            this.pool.shutdown();
+    }
+
+    @Setup(Level.Invocation)
+    public void analyze() {
+        this.program = BenchmarkInputs.parse(this.source);
+        this.context = new CompilationContext();
+        new NameAnalyzer(this.program, this.context).analyze();
+    }
+
+    @Benchmark
+    public Program typeCheck() {
+        if (this.pool == null)
+            this.program.accept(new TypeChecker(this.context));
+        else
+            new ParallelTypeChecker(this.context, this.pool).check(this.program);
+        return this.program;
+    }
+}
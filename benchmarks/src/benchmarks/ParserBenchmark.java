@@ -0,0 +1,53 @@
+package benchmarks;
+
+import main.ParseMode;
+import main.SimpleLOOPCompiler;
+import main.ast.nodes.Program;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.UnbufferedCharStream;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+//Parsing with full LL prediction only ("ll", the way the compiler parses by default and BenchmarkInputs.parse does),
+//with SLL prediction first ("sll-first": full LL only for input SLL gives up on, which includes the samples with
+//method call statements, so that sample3 is slower than with "ll") and with lean parsing over unbuffered streams
+//("lean"), whose allocation rate the GC profiler of BenchmarkRunner reports against the others
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ParserBenchmark {
+    @Param({"sample1", "sample2", "sample3", "sample4", "scaled-100", "scaled-1000", "generated-10000"})
+    public String input;
+
+    @Param({"ll", "sll-first", "lean"})
+    public String strategy;
+
+    private String source;
+    private SimpleLOOPCompiler compiler;
+    private PrintStream err;
+
+    @Setup(Level.Trial)
+    public void load() {
+        this.source = BenchmarkInputs.load(this.input);
+        this.compiler = new SimpleLOOPCompiler();
+        if (!this.strategy.equals("ll"))
+            this.compiler.setParseMode(ParseMode.fromName(this.strategy));
+        this.err = new PrintStream(OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public Program parse() {
+        if (this.strategy.equals("ll"))
+            return BenchmarkInputs.parse(this.source);
+        if (this.strategy.equals("lean"))
+            return this.compiler.parse(new UnbufferedCharStream(new StringReader(this.source)), this.err);
+        return this.compiler.parse(CharStreams.fromString(this.source), this.err);
+    }
+}
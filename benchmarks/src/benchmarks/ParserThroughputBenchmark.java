@@ -0,0 +1,43 @@
+package benchmarks;
+
+import main.SimpleLOOPCompiler;
+import main.ast.nodes.Program;
+import org.antlr.v4.runtime.CharStreams;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+//Programs parsed per second, the way the compiler parses them, for generated programs of about 5000 lines whose
+//statements are operator expressions of the given depth, so most of the work is in parsing expressions
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ParserThroughputBenchmark {
+    @Param({"1", "3", "6", "9"})
+    public int expressionDepth;
+
+    private String source;
+    private SimpleLOOPCompiler compiler;
+    private PrintStream err;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        ProgramGenerator.Parameters parameters = new ProgramGenerator.Parameters();
+        parameters.lines = 5000;
+        parameters.statements = 8;
+        parameters.expressionDepth = this.expressionDepth;
+        this.source = ProgramGenerator.generate(parameters);
+        this.compiler = new SimpleLOOPCompiler();
+        this.err = new PrintStream(OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public Program parse() {
+        return this.compiler.parse(CharStreams.fromString(this.source), this.err);
+    }
+}
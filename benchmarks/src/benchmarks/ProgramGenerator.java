@@ -0,0 +1,415 @@
+package benchmarks;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+//Seeded generator of SimpleLOOP programs for scaling tests. The same parameters and seed always give the same program.
+//Classes form a forest of inheritance trees with the given depth and fan-out; every member name is unique along a
+//hierarchy so a valid program is accepted without errors. With an error rate above zero, methods and classes get
+//a known kind of mistake (undeclared names, type mismatches, redefinitions, cycles, ...) with that probability.
+//
+//  ProgramGenerator [--name=value]... [output.sl]
+//  e.g. ProgramGenerator --lines=100000 --seed=7 --errors=0.05 big.sl
+public class ProgramGenerator {
+    public static class Parameters {
+        public long seed = 1;
+        public int classes = 50;
+        //when set, classes are added until the program has about this many lines and "classes" is ignored
+        public int lines = 0;
+        public int depth = 4;
+        public int fanOut = 2;
+        public int methods = 3;
+        public int fields = 2;
+        public int globals = 2;
+        public int statements = 4;
+        public int nesting = 2;
+        public int expressionDepth = 3;
+        public boolean sets = true;
+        public boolean arrays = true;
+        public boolean fptrs = true;
+        public double errors = 0;
+
+        public static Parameters parse(List<String> args) {
+            Parameters parameters = new Parameters();
+            for (String arg : args) {
+                int equals = arg.indexOf('=');
+                if (!arg.startsWith("--") || equals < 0)
+                    throw new IllegalArgumentException("expected --name=value, got " + arg);
+                parameters.set(arg.substring(2, equals), arg.substring(equals + 1));
+            }
+            return parameters;
+        }
+
+        private void set(String name, String value) {
+            switch (name) {
+                case "seed": this.seed = Long.parseLong(value); break;
+                case "classes": this.classes = Integer.parseInt(value); break;
+                case "lines": this.lines = Integer.parseInt(value); break;
+                case "depth": this.depth = Math.max(1, Integer.parseInt(value)); break;
+                case "fan-out": this.fanOut = Math.max(1, Integer.parseInt(value)); break;
+                case "methods": this.methods = Math.max(1, Integer.parseInt(value)); break;
+                case "fields": this.fields = Integer.parseInt(value); break;
+                case "globals": this.globals = Integer.parseInt(value); break;
+                case "statements": this.statements = Math.max(1, Integer.parseInt(value)); break;
+                case "nesting": this.nesting = Integer.parseInt(value); break;
+                case "expression-depth": this.expressionDepth = Integer.parseInt(value); break;
+                case "sets": this.sets = Boolean.parseBoolean(value); break;
+                case "arrays": this.arrays = Boolean.parseBoolean(value); break;
+                case "fptrs": this.fptrs = Boolean.parseBoolean(value); break;
+                case "errors": this.errors = Double.parseDouble(value); break;
+                default: throw new IllegalArgumentException("unknown parameter " + name);
+            }
+        }
+    }
+
+    private static class GeneratedClass {
+        final int index;
+        final GeneratedClass parent;
+        final List<String> intFields = new ArrayList<>();
+        final List<String> methods = new ArrayList<>();
+        String set;
+        String array;
+
+        GeneratedClass(int index, GeneratedClass parent) {
+            this.index = index;
+            this.parent = parent;
+        }
+
+        String name() {
+            return "C" + this.index;
+        }
+    }
+
+    private final Parameters parameters;
+    private final Random random;
+    private final StringBuilder out = new StringBuilder();
+    private final List<GeneratedClass> classes = new ArrayList<>();
+    private int treeSize = 0;
+    private int lineCount = 0;
+    private int indent = 0;
+
+    public ProgramGenerator(Parameters parameters) {
+        this.parameters = parameters;
+        this.random = new Random(parameters.seed);
+    }
+
+    public static String generate(Parameters parameters) {
+        return new ProgramGenerator(parameters).generate();
+    }
+
+    public String generate() {
+        for (int i = 0; i < this.parameters.globals; i++)
+            this.line("int g" + i);
+        this.line("");
+        for (int level = 0, width = 1; level < this.parameters.depth; level++, width *= this.parameters.fanOut)
+            this.treeSize += width;
+        for (int i = 0; this.parameters.lines > 0 ? this.lineCount < this.parameters.lines : i < this.parameters.classes; i++) {
+            int inTree = i % this.treeSize;
+            GeneratedClass parent = inTree == 0 ? null : this.classes.get(i - inTree + (inTree - 1) / this.parameters.fanOut);
+            GeneratedClass generatedClass = new GeneratedClass(i, parent);
+            this.classes.add(generatedClass);
+            this.classDeclaration(generatedClass);
+        }
+        this.mainClass();
+        return this.out.toString();
+    }
+
+    private void classDeclaration(GeneratedClass generatedClass) {
+        String header = "class " + generatedClass.name();
+        if (generatedClass.parent != null)
+            header += " < " + generatedClass.parent.name();
+        else if (this.error())
+            // an undeclared parent, or a cycle through the first child
+            header += this.random.nextBoolean() ? " < Missing" + generatedClass.index : " < C" + (generatedClass.index + (this.treeSize > 1 ? 1 : 0));
+        this.line(header + " {");
+        this.indent += 1;
+        for (int k = 0; k < this.parameters.fields; k++) {
+            String field = "f" + generatedClass.index + "_" + k;
+            generatedClass.intFields.add(field);
+            this.line((k % 2 == 0 ? "private" : "public") + " int " + field);
+        }
+        if (this.parameters.sets) {
+            generatedClass.set = "s" + generatedClass.index;
+            this.line("private Set<int> " + generatedClass.set);
+        }
+        if (this.parameters.arrays) {
+            generatedClass.array = "a" + generatedClass.index;
+            this.line("private int[8] " + generatedClass.array);
+        }
+        if (this.error()) {
+            List<String> fields = this.visibleFields(generatedClass);
+            // no field is given a method's name: calls of that method crash the checker once the field hides it
+            switch (this.random.nextInt(2)) {
+                case 0: this.line("private int " + (fields.isEmpty() ? "x" : this.pick(fields))); break;
+                default: this.line("private Undeclared" + generatedClass.index + " u" + generatedClass.index); break;
+            }
+        }
+        // constructors are inherited, so only the roots declare one
+        if (generatedClass.parent == null)
+            this.constructor(generatedClass);
+        for (int k = 0; k < this.parameters.methods; k++)
+            generatedClass.methods.add("m" + generatedClass.index + "_" + k);
+        for (String method : generatedClass.methods)
+            this.method(generatedClass, method);
+        if (this.error())
+            this.method(generatedClass, this.pick(generatedClass.methods));
+        this.indent -= 1;
+        this.line("}");
+        this.line("");
+    }
+
+    private void constructor(GeneratedClass generatedClass) {
+        this.line("public initialize(int x, bool flag = true) {");
+        this.indent += 1;
+        for (String field : generatedClass.intFields)
+            this.line("self." + field + " = x");
+        if (generatedClass.set != null)
+            this.line("self." + generatedClass.set + " = Set.new((1, 2, x))");
+        this.indent -= 1;
+        this.line("}");
+    }
+
+    private void method(GeneratedClass generatedClass, String name) {
+        this.line("public int " + name + "(int a, int b = 1) {");
+        this.indent += 1;
+        this.line("int t, e");
+        this.line("bool c");
+        if (this.parameters.arrays)
+            this.line("int[4] arr");
+        if (this.parameters.fptrs)
+            this.line("fptr<int, int -> int> p");
+        if (this.error())
+            this.line("int " + (this.parameters.globals > 0 && this.random.nextBoolean() ? "g0" : "t"));
+        this.line("t = " + this.intExpression(generatedClass, this.parameters.expressionDepth));
+        this.statements(generatedClass, this.parameters.nesting);
+        this.line("return " + (this.error() ? "c" : "t"));
+        this.indent -= 1;
+        this.line("}");
+    }
+
+    private void statements(GeneratedClass generatedClass, int nesting) {
+        for (int i = 0; i < this.parameters.statements; i++) {
+            if (this.error()) {
+                this.invalidStatement(generatedClass);
+                continue;
+            }
+            int kind = this.random.nextInt(nesting > 0 ? 8 : 5);
+            switch (kind) {
+                case 0:
+                    // array elements are untyped for the checker, so they are only ever written
+                    String target = this.parameters.arrays && this.random.nextBoolean() ? "arr[" + this.random.nextInt(4) + "]" : "t";
+                    this.line(target + " = " + this.intExpression(generatedClass, this.parameters.expressionDepth));
+                    break;
+                case 1:
+                    this.line("c = " + this.boolExpression(generatedClass, this.parameters.expressionDepth));
+                    break;
+                case 2:
+                    this.line("print(" + this.intExpression(generatedClass, this.parameters.expressionDepth) + ")");
+                    break;
+                case 3:
+                    this.setStatement(generatedClass);
+                    break;
+                case 4:
+                    this.callStatement(generatedClass);
+                    break;
+                case 5:
+                    if (this.parameters.arrays) {
+                        String array = this.random.nextBoolean() ? "self." + generatedClass.array : "arr";
+                        this.line(array + ".each do |e| {");
+                        this.block(generatedClass, nesting - 1);
+                        break;
+                    }
+                    // fall through: without arrays this is an if statement
+                case 6:
+                    this.line("if " + this.boolExpression(generatedClass, this.parameters.expressionDepth) + " {");
+                    this.block(generatedClass, nesting - 1);
+                    break;
+                default:
+                    this.line("if " + this.boolExpression(generatedClass, this.parameters.expressionDepth) + " {");
+                    this.block(generatedClass, nesting - 1);
+                    this.line("elsif " + this.boolExpression(generatedClass, this.parameters.expressionDepth) + " {");
+                    this.block(generatedClass, nesting - 1);
+                    this.line("else {");
+                    this.block(generatedClass, nesting - 1);
+                    break;
+            }
+        }
+    }
+
+    private void block(GeneratedClass generatedClass, int nesting) {
+        this.indent += 1;
+        this.statements(generatedClass, nesting);
+        this.indent -= 1;
+        this.line("}");
+    }
+
+    private void setStatement(GeneratedClass generatedClass) {
+        List<String> sets = this.visibleSets(generatedClass);
+        if (sets.isEmpty()) {
+            this.line("t = t + 1");
+            return;
+        }
+        String set = "self." + this.pick(sets);
+        switch (this.random.nextInt(4)) {
+            case 0: this.line(set + ".add(" + this.intExpression(generatedClass, 1) + ")"); break;
+            case 1: this.line(set + ".delete(t)"); break;
+            case 2: this.line(set + ".merge(Set.new((a, b)), t)"); break;
+            default: this.line("print(" + set + ".include(" + this.intExpression(generatedClass, 1) + "))"); break;
+        }
+    }
+
+    private void callStatement(GeneratedClass generatedClass) {
+        String method = "self." + this.pick(this.visibleMethods(generatedClass));
+        if (this.parameters.fptrs && this.random.nextBoolean()) {
+            // the call through p has to follow the access that gave p its value
+            this.line("p = " + method);
+            this.line("t = p(" + this.intExpression(generatedClass, 1) + ", t)");
+        }
+        else
+            this.line("t = " + method + "(" + this.intExpression(generatedClass, 1) + ")");
+    }
+
+    private void invalidStatement(GeneratedClass generatedClass) {
+        switch (this.random.nextInt(6)) {
+            case 0: this.line("t = undeclared + 1"); break;
+            case 1: this.line("t = c"); break;
+            case 2: this.line("t = t + true"); break;
+            case 3: this.line("t = self.missing" + generatedClass.index); break;
+            case 4: this.line("t = self." + this.pick(this.visibleMethods(generatedClass)) + "(1, 2, 3)"); break;
+            default:
+                this.line("if t {");
+                this.indent += 1;
+                this.line("t = 0");
+                this.indent -= 1;
+                this.line("}");
+                break;
+        }
+    }
+
+    private String intExpression(GeneratedClass generatedClass, int depth) {
+        if (depth <= 0 || this.random.nextInt(4) == 0) {
+            switch (this.random.nextInt(5)) {
+                case 0: return Integer.toString(this.random.nextInt(100));
+                case 1: return "a";
+                case 2: return "t";
+                case 3:
+                    List<String> fields = this.visibleFields(generatedClass);
+                    return fields.isEmpty() ? "b" : "self." + this.pick(fields);
+                default:
+                    return this.parameters.globals > 0 ? "g" + this.random.nextInt(this.parameters.globals) : "b";
+            }
+        }
+        switch (this.random.nextInt(7)) {
+            case 0: return this.intExpression(generatedClass, depth - 1) + " + " + this.intExpression(generatedClass, depth - 1);
+            case 1: return this.intExpression(generatedClass, depth - 1) + " - " + this.intExpression(generatedClass, depth - 1);
+            case 2: return this.intExpression(generatedClass, depth - 1) + " * " + this.intExpression(generatedClass, depth - 1);
+            case 3: return this.intExpression(generatedClass, depth - 1) + " / " + (this.random.nextInt(9) + 1);
+            case 4: return "-" + this.intExpression(generatedClass, 0);
+            case 5: return "(" + this.intExpression(generatedClass, depth - 1) + ")";
+            default:
+                return "self." + this.pick(this.visibleMethods(generatedClass)) + "(" + this.intExpression(generatedClass, depth - 1) + ")";
+        }
+    }
+
+    private String boolExpression(GeneratedClass generatedClass, int depth) {
+        if (depth <= 0 || this.random.nextInt(4) == 0) {
+            switch (this.random.nextInt(3)) {
+                case 0: return "c";
+                case 1: return this.random.nextBoolean() ? "true" : "false";
+                default: return this.intExpression(generatedClass, 0) + " == " + this.intExpression(generatedClass, 0);
+            }
+        }
+        switch (this.random.nextInt(6)) {
+            case 0: return this.boolExpression(generatedClass, depth - 1) + " && " + this.boolExpression(generatedClass, depth - 1);
+            case 1: return this.boolExpression(generatedClass, depth - 1) + " || " + this.boolExpression(generatedClass, depth - 1);
+            case 2: return "!(" + this.boolExpression(generatedClass, depth - 1) + ")";
+            case 3: return this.intExpression(generatedClass, depth - 1) + " < " + this.intExpression(generatedClass, depth - 1);
+            case 4: return this.intExpression(generatedClass, depth - 1) + " > " + this.intExpression(generatedClass, depth - 1);
+            default: return "(" + this.boolExpression(generatedClass, depth - 1) + ")";
+        }
+    }
+
+    private void mainClass() {
+        this.line("class Main {");
+        this.indent += 1;
+        this.line("public initialize() {");
+        this.indent += 1;
+        this.line("int result");
+        for (GeneratedClass generatedClass : this.classes)
+            this.line(generatedClass.name() + " o" + generatedClass.index);
+        for (GeneratedClass generatedClass : this.classes) {
+            String object = "o" + generatedClass.index;
+            this.line(object + " = " + generatedClass.name() + ".new(" + generatedClass.index + ")");
+            this.line("result = " + object + "." + this.pick(this.visibleMethods(generatedClass)) + "(result, " + generatedClass.index + ")");
+        }
+        this.line("print(result)");
+        this.indent -= 1;
+        this.line("}");
+        this.indent -= 1;
+        this.line("}");
+    }
+
+    private List<String> visibleFields(GeneratedClass generatedClass) {
+        List<String> fields = new ArrayList<>();
+        for (GeneratedClass c = generatedClass; c != null; c = c.parent)
+            fields.addAll(c.intFields);
+        return fields;
+    }
+
+    private List<String> visibleSets(GeneratedClass generatedClass) {
+        List<String> sets = new ArrayList<>();
+        for (GeneratedClass c = generatedClass; c != null; c = c.parent)
+            if (c.set != null)
+                sets.add(c.set);
+        return sets;
+    }
+
+    private List<String> visibleMethods(GeneratedClass generatedClass) {
+        List<String> methods = new ArrayList<>();
+        for (GeneratedClass c = generatedClass; c != null; c = c.parent)
+            methods.addAll(c.methods);
+        if (methods.isEmpty())
+            methods.add("m" + generatedClass.index + "_0");
+        return methods;
+    }
+
+    private String pick(List<String> names) {
+        return names.get(this.random.nextInt(names.size()));
+    }
+
+    private boolean error() {
+        return this.parameters.errors > 0 && this.random.nextDouble() < this.parameters.errors;
+    }
+
+    private void line(String text) {
+        if (!text.isEmpty())
+            this.out.append("    ".repeat(this.indent));
+        this.out.append(text).append('\n');
+        this.lineCount += 1;
+    }
+
+    public static void main(String[] args) throws IOException {
+        List<String> options = new ArrayList<>();
+        String output = null;
+        for (String arg : args) {
+            if (arg.startsWith("--"))
+                options.add(arg);
+            else
+                output = arg;
+        }
+        String program = generate(Parameters.parse(options));
+        if (output == null) {
+            System.out.print(program);
+            return;
+        }
+        try (Writer writer = Files.newBufferedWriter(Path.of(output), StandardCharsets.UTF_8)) {
+            writer.write(program);
+        }
+    }
+}
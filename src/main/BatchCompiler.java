@@ -0,0 +1,113 @@
+package main;
+
+import org.antlr.v4.runtime.CharStreams;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class BatchCompiler {
+    public static final String SOURCE_EXTENSION = ".sl";
+
+    private final int jobs;
+    private final PrintStream out;
+    private final ThreadLocal<SimpleLOOPCompiler> compilers = ThreadLocal.withInitial(SimpleLOOPCompiler::new);
+
+    public BatchCompiler(int jobs, PrintStream out) {
+        this.jobs = jobs;
+        this.out = out;
+    }
+
+    // Directories are expanded to the .sl files below them, "@list" reads one path per line
+    public static List<Path> collectSources(List<String> arguments) throws IOException {
+        List<Path> sources = new ArrayList<>();
+        for (String argument : arguments) {
+            if (argument.startsWith("@")) {
+                for (String line : Files.readAllLines(Path.of(argument.substring(1)))) {
+                    if (!line.isBlank())
+                        sources.add(Path.of(line.trim()));
+                }
+                continue;
+            }
+            Path path = Path.of(argument);
+            if (Files.isDirectory(path)) {
+                try (Stream<Path> walk = Files.walk(path)) {
+                    sources.addAll(walk.filter(Files::isRegularFile)
+                            .filter(p -> p.getFileName().toString().endsWith(SOURCE_EXTENSION))
+                            .collect(Collectors.toList()));
+                }
+            }
+            else
+                sources.add(path);
+        }
+        Collections.sort(sources);
+        return sources;
+    }
+
+    // Results are printed in the order of sources no matter which worker finishes first
+    public int compileAll(List<Path> sources) {
+        ExecutorService pool = Executors.newFixedThreadPool(this.jobs);
+        int failures = 0;
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (Path source : sources)
+                results.add(pool.submit(() -> compileOne(source)));
+            for (int i = 0; i < sources.size(); i++) {
+                this.out.println("=== " + sources.get(i) + " ===");
+                try {
+                    this.out.print(results.get(i).get());
+                } catch (ExecutionException e) {
+                    failures += 1;
+                    if (e.getCause() instanceof CompilerCrash)
+                        this.out.print(((CompilerCrash) e.getCause()).output);
+                    else
+                        this.out.println("Internal error: " + e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            pool.shutdownNow();
+        }
+        this.out.flush();
+        return failures;
+    }
+
+    // A crash still shows what the file printed before it, but counts as a failure. A stack overflow on deeply nested
+    // source is a crash like any other, and the compiler it left half way is not reused either
+    private String compileOne(Path source) throws IOException, CompilerCrash {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (PrintStream fileOut = new PrintStream(buffer, false, StandardCharsets.UTF_8)) {
+            try {
+                this.compilers.get().compile(CharStreams.fromPath(source), fileOut, fileOut);
+            } catch (RuntimeException | StackOverflowError e) {
+                this.compilers.remove();
+                fileOut.println("Internal error: " + e);
+                fileOut.flush();
+                throw new CompilerCrash(buffer.toString(StandardCharsets.UTF_8), e);
+            }
+        }
+        return buffer.toString(StandardCharsets.UTF_8);
+    }
+
+    private static class CompilerCrash extends Exception {
+        private final String output;
+
+        CompilerCrash(String output, Throwable cause) {
+            super(cause);
+            this.output = output;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package main;
+
+import main.ast.types.TypeInterner;
+import main.ast.types.TypeRelationCache;
+import main.compileError.DiagnosticSink;
+import main.symbolTable.ClassMemberTable;
+import main.symbolTable.SymbolTable;
+import main.symbolTable.utils.graph.Graph;
+import main.symbolTable.utils.stack.Stack;
+
+import java.util.Map;
+
+//State of a single compilation, shared by all of its passes
+public class CompilationContext {
+    private SymbolTable top;
+    private SymbolTable root;
+    private final Stack<SymbolTable> stack = new Stack<>();
+    private Graph<String> classHierarchy;
+    private Map<String, ClassMemberTable> classMembers;
+    private final DiagnosticSink diagnostics;
+    private final TypeInterner types;
+    private TypeRelationCache sameTypes = new TypeRelationCache();
+    private TypeRelationCache subtypes = new TypeRelationCache();
+
+    public CompilationContext() {
+        this(new DiagnosticSink(), new TypeInterner());
+    }
+
+    private CompilationContext(DiagnosticSink diagnostics, TypeInterner types) {
+        this.diagnostics = diagnostics;
+        this.types = types;
+    }
+
+    // A context for checking part of the program on another thread once name analysis is done. It shares the tables,
+    // the hierarchy, the types and the caches, all of which are only read or are safe to share, and reports into a
+    // fork of the diagnostics that is merged back with getDiagnostics().merge
+    public CompilationContext fork() {
+        CompilationContext fork = new CompilationContext(this.diagnostics.fork(), this.types);
+        fork.root = this.root;
+        fork.classHierarchy = this.classHierarchy;
+        fork.classMembers = this.classMembers;
+        fork.sameTypes = this.sameTypes;
+        fork.subtypes = this.subtypes;
+        return fork;
+    }
+
+    public SymbolTable getTop() {
+        return top;
+    }
+
+    public SymbolTable getRoot() {
+        return root;
+    }
+
+    public void setRoot(SymbolTable root) {
+        this.root = root;
+    }
+
+    public void push(SymbolTable symbolTable) {
+        if (this.top != null)
+            this.stack.push(this.top);
+        this.top = symbolTable;
+    }
+
+    public void pop() {
+        this.top = this.stack.pop();
+    }
+
+    public Graph<String> getClassHierarchy() {
+        return classHierarchy;
+    }
+
+    // Answers cached against the previous hierarchy are dropped
+    public void setClassHierarchy(Graph<String> classHierarchy) {
+        this.classHierarchy = classHierarchy;
+        this.sameTypes = new TypeRelationCache();
+        this.subtypes = new TypeRelationCache();
+    }
+
+    // Null for a name that is not a declared class
+    public ClassMemberTable getClassMembers(String className) {
+        return classMembers.get(className);
+    }
+
+    public void setClassMembers(Map<String, ClassMemberTable> classMembers) {
+        this.classMembers = classMembers;
+    }
+
+    public TypeInterner getTypes() {
+        return types;
+    }
+
+    // Answers of ExpressionTypeChecker.isAllSameType
+    public TypeRelationCache getSameTypes() {
+        return sameTypes;
+    }
+
+    // Answers of ExpressionTypeChecker.areTypesOfFirstAndSecondTheSame, the assignability check
+    public TypeRelationCache getSubtypes() {
+        return subtypes;
+    }
+
+    public DiagnosticSink getDiagnostics() {
+        return diagnostics;
+    }
+}
@@ -0,0 +1,111 @@
+package main;
+
+import org.antlr.v4.runtime.CharStreams;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Resident compiler speaking a framed protocol, one request per frame:
+//   request:  "COMPILE <bytes>\n" followed by <bytes> of UTF-8 source, or "QUIT\n"
+//   response: "RESULT <bytes> <micros>\n" followed by <bytes> of compiler output,
+//             or "ERROR <message>\n" for a malformed request
+// <micros> is the time spent compiling the request inside the server.
+public class CompileServer {
+    private static final int MAX_HEADER_LENGTH = 256;
+
+    private final ThreadLocal<SimpleLOOPCompiler> compilers = ThreadLocal.withInitial(SimpleLOOPCompiler::new);
+
+    public void serve(InputStream in, OutputStream out) throws IOException {
+        InputStream input = new BufferedInputStream(in);
+        OutputStream output = new BufferedOutputStream(out);
+        String header;
+        while ((header = readHeader(input)) != null) {
+            if (header.equals("QUIT"))
+                break;
+            if (!header.startsWith("COMPILE ")) {
+                writeHeader(output, "ERROR unknown request " + header);
+                continue;
+            }
+            int length;
+            try {
+                length = Integer.parseInt(header.substring("COMPILE ".length()).trim());
+            } catch (NumberFormatException e) {
+                writeHeader(output, "ERROR bad length " + header);
+                continue;
+            }
+            byte[] source = input.readNBytes(length);
+            if (source.length != length)
+                break;
+            long start = System.nanoTime();
+            byte[] result = this.compile(source);
+            long micros = (System.nanoTime() - start) / 1000;
+            writeHeader(output, "RESULT " + result.length + " " + micros);
+            output.write(result);
+            output.flush();
+        }
+        output.flush();
+    }
+
+    // Listens on the loopback interface only; every connection is served on its own pool thread
+    public void serve(int port, int jobs) throws IOException {
+        ExecutorService pool = Executors.newFixedThreadPool(jobs);
+        try (ServerSocket serverSocket = new ServerSocket(port, 50, InetAddress.getLoopbackAddress())) {
+            while (!Thread.currentThread().isInterrupted()) {
+                Socket socket = serverSocket.accept();
+                pool.execute(() -> {
+                    try (socket) {
+                        this.serve(socket.getInputStream(), socket.getOutputStream());
+                    } catch (IOException ignored) {
+                    }
+                });
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private byte[] compile(byte[] source) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (PrintStream requestOut = new PrintStream(buffer, false, StandardCharsets.UTF_8)) {
+            try {
+                String text = new String(source, StandardCharsets.UTF_8);
+                this.compilers.get().compile(CharStreams.fromString(text), requestOut, requestOut);
+            } catch (RuntimeException | StackOverflowError e) {
+                // a failed parse, deeply nested source included, leaves the reused parser in an unknown state
+                this.compilers.remove();
+                requestOut.println("Internal error: " + e);
+            }
+        }
+        return buffer.toByteArray();
+    }
+
+    private static String readHeader(InputStream input) throws IOException {
+        ByteArrayOutputStream header = new ByteArrayOutputStream();
+        int b;
+        while ((b = input.read()) != '\n') {
+            if (b == -1)
+                return header.size() == 0 ? null : header.toString(StandardCharsets.UTF_8);
+            if (header.size() == MAX_HEADER_LENGTH)
+                throw new IOException("request header too long");
+            if (b != '\r')
+                header.write(b);
+        }
+        return header.toString(StandardCharsets.UTF_8);
+    }
+
+    private static void writeHeader(OutputStream output, String header) throws IOException {
+        output.write((header + "\n").getBytes(StandardCharsets.UTF_8));
+        output.flush();
+    }
+}
@@ -0,0 +1,12 @@
+package main;
+
+public enum ParseMode {
+    STANDARD,   // one full LL pass over a buffered token stream
+    SLL_FIRST,  // SLL prediction, parsed again with full LL only if SLL gives up
+    LEAN;       // one full LL pass over unbuffered streams, without a parse tree
+
+    // "standard", "sll-first" or "lean"
+    public static ParseMode fromName(String name) {
+        return valueOf(name.toUpperCase().replace('-', '_'));
+    }
+}
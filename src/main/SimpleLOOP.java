@@ -1,14 +1,103 @@
 package main;
 
+import main.compileError.DiagnosticFormat;
+import main.instrumentation.CompileMetrics;
 import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.UnbufferedCharStream;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 public class SimpleLOOP {
     public static void main(String[] args) throws IOException {
-        CharStream reader = CharStreams.fromFileName(args[0]);
+        if (args.length > 0 && args[0].equals("--batch")) {
+            runBatch(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--server")) {
+            runServer(args);
+            return;
+        }
+        // [--metrics <file>] [--diagnostics text|jsonl|sarif] [--analysis-jobs N] [--parse-mode standard|sll-first|lean]
+        // <source>
+        String metricsFile = null;
+        DiagnosticFormat diagnosticFormat = DiagnosticFormat.TEXT;
+        int analysisJobs = 1;
+        ParseMode parseMode = ParseMode.STANDARD;
+        int sourceIndex = 0;
+        while (sourceIndex + 2 < args.length && args[sourceIndex].startsWith("--")) {
+            if (args[sourceIndex].equals("--metrics"))
+                metricsFile = args[sourceIndex + 1];
+            else if (args[sourceIndex].equals("--diagnostics"))
+                diagnosticFormat = DiagnosticFormat.fromName(args[sourceIndex + 1]);
+            else if (args[sourceIndex].equals("--analysis-jobs"))
+                analysisJobs = Math.max(1, Integer.parseInt(args[sourceIndex + 1]));
+            else if (args[sourceIndex].equals("--parse-mode"))
+                parseMode = ParseMode.fromName(args[sourceIndex + 1]);
+            else
+                break;
+            sourceIndex += 2;
+        }
         SimpleLOOPCompiler SimpleLOOPCompiler = new SimpleLOOPCompiler();
-        SimpleLOOPCompiler.compile(reader);
+        SimpleLOOPCompiler.setDiagnosticFormat(diagnosticFormat);
+        if (analysisJobs > 1)
+            SimpleLOOPCompiler.setAnalysisPool(new ForkJoinPool(analysisJobs));
+        if (metricsFile != null)
+            SimpleLOOPCompiler.setMetrics(new CompileMetrics(args[sourceIndex]));
+        SimpleLOOPCompiler.setParseMode(parseMode);
+        if (parseMode == ParseMode.LEAN) {
+            Path source = Path.of(args[sourceIndex]);
+            try (InputStream input = Files.newInputStream(source)) {
+                UnbufferedCharStream reader = new UnbufferedCharStream(input, 4096, StandardCharsets.UTF_8);
+                reader.name = source.toString();
+                SimpleLOOPCompiler.compile(reader);
+            }
+        }
+        else {
+            CharStream reader = CharStreams.fromFileName(args[sourceIndex]);
+            SimpleLOOPCompiler.compile(reader);
+        }
+        if (metricsFile != null)
+            Files.writeString(Path.of(metricsFile), SimpleLOOPCompiler.getMetrics().toJson() + "\n");
+    }
+
+    // --batch [--jobs N] <file | directory | @list>...
+    private static void runBatch(String[] args) throws IOException {
+        int jobs = Runtime.getRuntime().availableProcessors();
+        List<String> inputs = new ArrayList<>();
+        for (int i = 1; i < args.length; i++) {
+            if (args[i].equals("--jobs") && i + 1 < args.length)
+                jobs = Math.max(1, Integer.parseInt(args[++i]));
+            else
+                inputs.add(args[i]);
+        }
+        List<Path> sources = BatchCompiler.collectSources(inputs);
+        int failures = new BatchCompiler(jobs, System.out).compileAll(sources);
+        if (failures != 0)
+            System.exit(1);
+    }
+
+    // --server [--port N] [--jobs N]; without a port requests are read from stdin and answered on stdout
+    private static void runServer(String[] args) throws IOException {
+        int port = -1;
+        int jobs = Runtime.getRuntime().availableProcessors();
+        for (int i = 1; i + 1 < args.length; i++) {
+            if (args[i].equals("--port"))
+                port = Integer.parseInt(args[++i]);
+            else if (args[i].equals("--jobs"))
+                jobs = Math.max(1, Integer.parseInt(args[++i]));
+        }
+        CompileServer compileServer = new CompileServer();
+        if (port < 0)
+            compileServer.serve(System.in, System.out);
+        else
+            compileServer.serve(port, jobs);
     }
 }
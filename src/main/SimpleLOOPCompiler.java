@@ -1,38 +1,267 @@
-
-
 package main;
 
+import main.compileError.DiagnosticFormat;
+import main.instrumentation.CompileMetrics;
+import main.symbolTable.SymbolTable;
+import main.symbolTable.items.ClassSymbolTableItem;
+import main.symbolTable.items.MethodSymbolTableItem;
+import main.symbolTable.items.SymbolTableItem;
+import main.util.SyntaxErrorPrinter;
+import main.visitor.typeChecker.ParallelTypeChecker;
 import main.visitor.typeChecker.TypeChecker;
 import main.visitor.utils.ASTTreePrinter;
+import main.visitor.utils.DiagnosticWriter;
 import main.visitor.utils.ErrorReporter;
+import main.visitor.utils.NodeCounter;
 import parsers.*;
 import main.ast.nodes.Program;
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.BaseErrorListener;
 import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CommonTokenFactory;
 import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.Recognizer;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.UnbufferedTokenStream;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
 import main.visitor.nameAnalyzer.*;
 
+import java.io.PrintStream;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+// Keeps its lexer and parser between compile calls, so one instance must not be shared between threads.
+// The parser's DFA cache is static and therefore stays warm for every instance in the JVM.
 public class SimpleLOOPCompiler {
+    private SimpleLOOPLexer simpleLOOPLexer;
+    private CommonTokenStream tokenStream;
+    private SimpleLOOPParser simpleLOOPParser;
+    private CompileMetrics metrics;
+    private DiagnosticFormat diagnosticFormat = DiagnosticFormat.TEXT;
+    private ForkJoinPool analysisPool;
+    private ParseMode parseMode = ParseMode.STANDARD;
+    private boolean reparsedWithLL;
+    private long parsedTokens;
+
     public void compile(CharStream textStream) {
-        SimpleLOOPLexer simpleLOOPLexer = new SimpleLOOPLexer(textStream);
-        CommonTokenStream tokenStream = new CommonTokenStream(simpleLOOPLexer);
-        SimpleLOOPParser simpleLOOPParser = new SimpleLOOPParser(tokenStream);
+        this.compile(textStream, System.out, System.err);
+    }
 
-        Program program = simpleLOOPParser.simpleLOOP().simpleLOOPProgram;
-        ErrorReporter errorReporter = new ErrorReporter();
-        ASTTreePrinter astTreePrinter = new ASTTreePrinter();
+    public void compile(CharStream textStream, PrintStream out, PrintStream err) {
+        Program program = this.parse(textStream, err);
+        CompilationContext context = new CompilationContext();
+        DiagnosticWriter diagnosticWriter = new DiagnosticWriter(this.diagnosticFormat, textStream.getSourceName(), out);
+        ErrorReporter errorReporter = new ErrorReporter(context.getDiagnostics(), diagnosticWriter);
+        ASTTreePrinter astTreePrinter = new ASTTreePrinter(out);
 
-        NameAnalyzer nameAnalyzer = new NameAnalyzer(program);
-        nameAnalyzer.analyze();
-        int numberOfNameErrors = program.accept(errorReporter);
+        NameAnalyzer nameAnalyzer = new NameAnalyzer(program, context, this.analysisPool);
+        context.getDiagnostics().setPhase("nameAnalysis");
+        this.phase("nameAnalysis", this.analysisPool, nameAnalyzer::analyze);
+        int numberOfNameErrors = this.phase("nameErrorReport", () -> errorReporter.report(program));
 //        if(numberOfNameErrors == 0)
 //            program.accept(astTreePrinter);
 
-        TypeChecker typeChecker = new TypeChecker(nameAnalyzer.getClassHierarchy());
-        program.accept(typeChecker);
-        int numberOfTypeErrors = program.accept(errorReporter);
-        if (numberOfTypeErrors == 0)
-            program.accept(astTreePrinter);
+        context.getDiagnostics().setPhase("typeCheck");
+        if (this.analysisPool == null)
+            this.phase("typeCheck", () -> program.accept(new TypeChecker(context)));
+        else
+            this.phase("typeCheck", this.analysisPool,
+                    () -> new ParallelTypeChecker(context, this.analysisPool).check(program));
+        int numberOfTypeErrors = this.phase("typeErrorReport", () -> errorReporter.report(program));
+        // the tree dump is not a diagnostic and would break the structured formats
+        if (numberOfTypeErrors == 0 && this.diagnosticFormat == DiagnosticFormat.TEXT)
+            this.phase("astPrint", () -> program.accept(astTreePrinter));
+        diagnosticWriter.finish();
+
+        if (this.metrics != null) {
+            this.metrics.setCounter("tokens", this.parsedTokens);
+            this.metrics.setCounter("llReparses", this.reparsedWithLL ? 1 : 0);
+            this.metrics.setCounter("astNodes", program.accept(new NodeCounter()));
+            this.metrics.setCounter("classes", program.getClasses().size());
+            this.recordSymbolTableSizes(context.getRoot());
+            this.metrics.setCounter("nameErrors", numberOfNameErrors);
+            this.metrics.setCounter("typeErrors", numberOfTypeErrors);
+        }
+    }
+
+    // Syntax errors, lexical ones included, go to err
+    public Program parse(CharStream textStream, PrintStream err) {
+        SyntaxErrorPrinter syntaxErrorPrinter = new SyntaxErrorPrinter(err);
+        if (this.parseMode == ParseMode.LEAN)
+            return this.phase("parse", () -> this.parseLean(textStream, syntaxErrorPrinter));
+        this.prepareParser(textStream, syntaxErrorPrinter);
+        if (this.metrics != null)
+            this.metrics.measure("lex", () -> this.tokenStream.fill());
+        this.reparsedWithLL = false;
+        Program program = this.phase("parse", () -> this.parseMode == ParseMode.SLL_FIRST
+                ? this.parseTwoStage(syntaxErrorPrinter)
+                : this.simpleLOOPParser.simpleLOOP().simpleLOOPProgram);
+        this.parsedTokens = this.tokenStream.size();
+        return program;
+    }
+
+    // STANDARD, the default, is a single LL pass. Lean parsing keeps nothing of the source but the AST: no parse tree
+    // is built and tokens are released as the parser moves past them. Given an UnbufferedCharStream, characters are
+    // read as they are lexed as well. It is a single LL pass too, and lexing is no longer measured apart from parsing.
+    public void setParseMode(ParseMode parseMode) {
+        this.parseMode = parseMode;
+    }
+
+    public void setDiagnosticFormat(DiagnosticFormat diagnosticFormat) {
+        this.diagnosticFormat = diagnosticFormat;
+    }
+
+    // Class members are collected and methods type checked in parallel on the pool; null, the default, runs both
+    // passes on the compiling thread
+    public void setAnalysisPool(ForkJoinPool analysisPool) {
+        this.analysisPool = analysisPool;
+    }
+
+    // null turns instrumentation off again
+    public void setMetrics(CompileMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    public CompileMetrics getMetrics() {
+        return metrics;
+    }
+
+    private <T> T phase(String name, Supplier<T> body) {
+        if (this.metrics == null)
+            return body.get();
+        return this.metrics.measure(name, body);
+    }
+
+    private void phase(String name, Runnable body) {
+        this.phase(name, null, body);
+    }
+
+    // For phases that run on the analysis pool, whose workers' CPU time and allocations are counted as well
+    private void phase(String name, ForkJoinPool pool, Runnable body) {
+        if (this.metrics == null)
+            body.run();
+        else
+            this.metrics.measure(name, pool, body);
+    }
+
+    private void recordSymbolTableSizes(SymbolTable root) {
+        long symbolTables = 1;
+        long items = root.size();
+        for (SymbolTableItem rootItem : root.getItems()) {
+            if (!(rootItem instanceof ClassSymbolTableItem))
+                continue;
+            SymbolTable classSymbolTable = ((ClassSymbolTableItem) rootItem).getClassSymbolTable();
+            symbolTables += 1;
+            items += classSymbolTable.size();
+            for (SymbolTableItem classItem : classSymbolTable.getItems()) {
+                if (!(classItem instanceof MethodSymbolTableItem))
+                    continue;
+                symbolTables += 1;
+                items += ((MethodSymbolTableItem) classItem).getMethodSymbolTable().size();
+            }
+        }
+        this.metrics.setCounter("symbolTables", symbolTables);
+        this.metrics.setCounter("symbolTableItems", items);
+    }
+
+    // Parses with SLL prediction first, which is far cheaper than full LL on the expression chain and builds the same
+    // tree whenever it gets through. Only input it gives up on is parsed again, from the first token, with full LL and
+    // the usual error recovery, so that is the only pass syntax errors are printed from. SLL gives up on every program
+    // with a method call statement, as whether a call is the statement's own, last one takes the full context to
+    // decide, and such programs pay for both passes. That is why this is not the default.
+    // Lexical errors are held back in the first pass as well. If there were any, the input is lexed again for the
+    // second, so they are printed interleaved with the syntax errors just as a single LL pass prints them.
+    private Program parseTwoStage(SyntaxErrorPrinter syntaxErrorPrinter) {
+        LexicalErrorFlag lexicalErrorFlag = new LexicalErrorFlag();
+        this.simpleLOOPLexer.removeErrorListeners();
+        this.simpleLOOPLexer.addErrorListener(lexicalErrorFlag);
+        this.simpleLOOPParser.removeErrorListeners();
+        this.simpleLOOPParser.setErrorHandler(new BailErrorStrategy());
+        this.simpleLOOPParser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        try {
+            Program program = this.simpleLOOPParser.simpleLOOP().simpleLOOPProgram;
+            if (!lexicalErrorFlag.seen)
+                return program;
+        } catch (ParseCancellationException e) {
+            // falls through to the LL pass
+        }
+
+        this.reparsedWithLL = true;
+        this.simpleLOOPLexer.removeErrorListeners();
+        this.simpleLOOPLexer.addErrorListener(syntaxErrorPrinter);
+        if (lexicalErrorFlag.seen) {
+            this.simpleLOOPLexer.reset();
+            this.tokenStream.setTokenSource(this.simpleLOOPLexer);
+        }
+        this.simpleLOOPParser.addErrorListener(syntaxErrorPrinter);
+        this.resetStrategy();
+        this.simpleLOOPParser.reset();
+        return this.simpleLOOPParser.simpleLOOP().simpleLOOPProgram;
+    }
+
+    // A lexer and parser of their own, so the compiler holds on to none of the input once it returns. An unbuffered
+    // stream can't be rewound for a second pass, so prediction is full LL from the start. Tokens copy their text,
+    // as the characters behind them may be gone by the time an action reads it.
+    private Program parseLean(CharStream textStream, SyntaxErrorPrinter syntaxErrorPrinter) {
+        SimpleLOOPLexer simpleLOOPLexer = new SimpleLOOPLexer(textStream);
+        simpleLOOPLexer.setTokenFactory(new CommonTokenFactory(true));
+        simpleLOOPLexer.removeErrorListeners();
+        simpleLOOPLexer.addErrorListener(syntaxErrorPrinter);
+        UnbufferedTokenStream<Token> tokenStream = new UnbufferedTokenStream<>(simpleLOOPLexer);
+        SimpleLOOPParser simpleLOOPParser = new SimpleLOOPParser(tokenStream);
+        simpleLOOPParser.setBuildParseTree(false);
+        simpleLOOPParser.setErrorHandler(new LeanErrorStrategy());
+        simpleLOOPParser.removeErrorListeners();
+        simpleLOOPParser.addErrorListener(syntaxErrorPrinter);
+        Program program = simpleLOOPParser.simpleLOOP().simpleLOOPProgram;
+        this.reparsedWithLL = false;
+        // EOF, where the parser stops, is the last token
+        this.parsedTokens = tokenStream.LT(1).getTokenIndex() + 1;
+        return program;
+    }
 
+    // EOF gets a copy of its empty text as well, but syntax errors should still show it as <EOF>
+    private static class LeanErrorStrategy extends DefaultErrorStrategy {
+        @Override
+        protected String getSymbolText(Token symbol) {
+            return symbol.getType() == Token.EOF ? null : super.getSymbolText(symbol);
+        }
+    }
+
+    private static class LexicalErrorFlag extends BaseErrorListener {
+        private boolean seen;
+
+        @Override
+        public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line, int charPositionInLine,
+                                String msg, RecognitionException e) {
+            this.seen = true;
+        }
+    }
+
+    private void prepareParser(CharStream textStream, SyntaxErrorPrinter syntaxErrorPrinter) {
+        if (this.simpleLOOPParser == null) {
+            this.simpleLOOPLexer = new SimpleLOOPLexer(textStream);
+            this.tokenStream = new CommonTokenStream(this.simpleLOOPLexer);
+            this.simpleLOOPParser = new SimpleLOOPParser(this.tokenStream);
+        }
+        else {
+            this.simpleLOOPLexer.setInputStream(textStream);
+            this.tokenStream.setTokenSource(this.simpleLOOPLexer);
+            this.simpleLOOPParser.setTokenStream(this.tokenStream);
+        }
+        this.simpleLOOPLexer.removeErrorListeners();
+        this.simpleLOOPLexer.addErrorListener(syntaxErrorPrinter);
+        this.simpleLOOPParser.removeErrorListeners();
+        this.simpleLOOPParser.addErrorListener(syntaxErrorPrinter);
+        // the last parse may have left the SLL pass's prediction mode and error strategy behind
+        this.resetStrategy();
+    }
 
+    private void resetStrategy() {
+        this.simpleLOOPParser.setErrorHandler(new DefaultErrorStrategy());
+        this.simpleLOOPParser.getInterpreter().setPredictionMode(PredictionMode.LL);
     }
-}
\ No newline at end of file
+}
@@ -1,30 +1,10 @@
 package main.ast.nodes;
 
-import main.compileError.CompileError;
 import main.visitor.IVisitor;
 
-import java.util.ArrayList;
-
 public abstract class Node {
     private int line;
-    private ArrayList<CompileError> errors = new ArrayList<>();
-    public static boolean isCatchErrorsActive = true;
-
-    public ArrayList<CompileError> flushErrors() {
-        ArrayList<CompileError> errors = this.errors;
-        this.errors = new ArrayList<>();
-        return errors;
-    }
-
-    public void addError(CompileError e) {
-        if(Node.isCatchErrorsActive) {
-            this.errors.add(e);
-        }
-    }
-
-    public boolean hasError() {
-        return this.errors.size() != 0;
-    }
+    private int preorderIndex = -1;
 
     public int getLine() {
         return line;
@@ -34,6 +14,15 @@ public abstract class Node {
         this.line = line;
     }
 
+    // Set by PreorderNumberer; -1 until then, and for nodes it never reaches
+    public int getPreorderIndex() {
+        return preorderIndex;
+    }
+
+    public void setPreorderIndex(int preorderIndex) {
+        this.preorderIndex = preorderIndex;
+    }
+
     public abstract String toString();
 
     public abstract <T> T accept(IVisitor<T> visitor);
@@ -2,6 +2,29 @@ package main.ast.nodes.expression;
 
 
 import main.ast.nodes.Node;
+import main.ast.types.Type;
+import main.symbolTable.items.SymbolTableItem;
 
 public abstract class Expression extends Node {
+    private Type type;
+    private SymbolTableItem symbol;
+
+    //Type the type checker gave this expression, null when the checker never typed it
+    public Type getType() {
+        return type;
+    }
+
+    public void setType(Type type) {
+        this.type = type;
+    }
+
+    //Declaration this expression resolved to: the variable an identifier names, the field or method a member access
+    //and a method call reach, the class of new and self. Null for anything else or when nothing was found
+    public SymbolTableItem getSymbol() {
+        return symbol;
+    }
+
+    public void setSymbol(SymbolTableItem symbol) {
+        this.symbol = symbol;
+    }
 }
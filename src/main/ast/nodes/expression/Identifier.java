@@ -1,5 +1,6 @@
 package main.ast.nodes.expression;
 
+import main.symbolTable.items.LocalVariableSymbolTableItem;
 import main.visitor.IVisitor;
 
 //line -> IDENTIFIER
@@ -18,6 +19,13 @@ public class Identifier extends Expression{
         this.name = name;
     }
 
+    //Variable this identifier was bound to, by the name analyzer or else the type checker; null when it was not bound.
+    //An identifier only ever resolves to a variable
+    @Override
+    public LocalVariableSymbolTableItem getSymbol() {
+        return (LocalVariableSymbolTableItem) super.getSymbol();
+    }
+
     @Override
     public String toString() {
         return "Identifier_" + this.name;
@@ -1,6 +1,10 @@
 package main.ast.types;
 
 public class NoType extends Type {
+    public NoType() {
+        super(TypeKind.NO_TYPE);
+    }
+
     @Override
     public String toString() {
         return "NoType";
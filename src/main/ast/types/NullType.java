@@ -1,6 +1,10 @@
 package main.ast.types;
 
 public class NullType extends Type {
+    public NullType() {
+        super(TypeKind.NULL);
+    }
+
     @Override
     public String toString() {
         return "NullType";
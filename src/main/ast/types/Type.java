@@ -1,5 +1,21 @@
 package main.ast.types;
 
 public abstract class Type {
+    private final TypeKind kind;
+    int internId = -1;
+
+    protected Type(TypeKind kind) {
+        this.kind = kind;
+    }
+
+    public final TypeKind getKind() {
+        return kind;
+    }
+
+    // Unique among the types of one TypeInterner, -1 for a type that was not interned
+    public int getInternId() {
+        return internId;
+    }
+
     public abstract String toString();
 }
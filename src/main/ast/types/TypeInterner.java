@@ -0,0 +1,97 @@
+package main.ast.types;
+
+import main.ast.nodes.expression.Expression;
+import main.ast.nodes.expression.Identifier;
+import main.ast.nodes.expression.values.primitive.IntValue;
+import main.ast.types.array.ArrayType;
+import main.ast.types.functionPointer.FptrType;
+import main.ast.types.primitives.BoolType;
+import main.ast.types.primitives.ClassType;
+import main.ast.types.primitives.IntType;
+import main.ast.types.primitives.VoidType;
+import main.ast.types.set.SetType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// One canonical instance per type, so the checker allocates no types of its own and two types are equal exactly when
+// they are the same object. Types without structure are shared singletons; class, array and function pointer types
+// are hash-consed per compilation, from parts that are canonical themselves. Every canonical type gets an intern id.
+// Array types are told apart by their sizes as well, so the type recorded on a node has the sizes it was declared
+// with; the checker still treats arrays of the same element type as the same type. Canonical types can't be changed:
+// a class type gets an identifier of its own and an array type an unmodifiable copy of its dimensions.
+public class TypeInterner {
+    public static final NoType NO_TYPE = new NoType();
+    public static final IntType INT = new IntType();
+    public static final BoolType BOOL = new BoolType();
+    public static final VoidType VOID = new VoidType();
+    public static final NullType NULL = new NullType();
+    public static final SetType SET = new SetType();
+    private static final Type[] SINGLETONS = {NO_TYPE, INT, BOOL, VOID, NULL, SET};
+
+    static {
+        for (int id = 0; id < SINGLETONS.length; id++)
+            SINGLETONS[id].internId = id;
+    }
+
+    private final AtomicInteger nextId = new AtomicInteger(SINGLETONS.length);
+    private final Map<String, ClassType> classTypes = new ConcurrentHashMap<>();
+    private final Map<List<Object>, ArrayType> arrayTypes = new ConcurrentHashMap<>();
+    private final Map<List<Type>, FptrType> fptrTypes = new ConcurrentHashMap<>();
+
+    public ClassType classType(Identifier className) {
+        return this.classTypes.computeIfAbsent(className.getName(),
+                name -> this.withId(new ClassType(new Identifier(name))));
+    }
+
+    // A size is its constant, or the size expression itself when it is not one
+    public ArrayType arrayType(Type elementType, List<Expression> dimensions) {
+        Type element = this.intern(elementType);
+        List<Object> key = new ArrayList<>(dimensions.size() + 1);
+        key.add(element);
+        for (Expression dimension : dimensions)
+            key.add(dimension instanceof IntValue ? (Object) ((IntValue) dimension).getConstant() : dimension);
+        return this.arrayTypes.computeIfAbsent(key, k -> this.withId(new ArrayType(element, List.copyOf(dimensions))));
+    }
+
+    public FptrType fptrType(List<Type> argumentsTypes, Type returnType) {
+        Type[] parts = new Type[argumentsTypes.size() + 1];
+        parts[0] = this.intern(returnType);
+        for (int i = 0; i < argumentsTypes.size(); i++)
+            parts[i + 1] = this.intern(argumentsTypes.get(i));
+        return this.fptrTypes.computeIfAbsent(Arrays.asList(parts),
+                key -> this.withId(new FptrType(new ArrayList<>(key.subList(1, key.size())), key.get(0))));
+    }
+
+    private <T extends Type> T withId(T type) {
+        type.internId = this.nextId.getAndIncrement();
+        return type;
+    }
+
+    // The canonical instance of any type, null staying null
+    public Type intern(Type type) {
+        if (type instanceof NoType)
+            return NO_TYPE;
+        if (type instanceof IntType)
+            return INT;
+        if (type instanceof BoolType)
+            return BOOL;
+        if (type instanceof VoidType)
+            return VOID;
+        if (type instanceof NullType)
+            return NULL;
+        if (type instanceof SetType)
+            return SET;
+        if (type instanceof ClassType)
+            return this.classType(((ClassType) type).getClassName());
+        if (type instanceof ArrayType)
+            return this.arrayType(((ArrayType) type).getType(), ((ArrayType) type).getDimensions());
+        if (type instanceof FptrType)
+            return this.fptrType(((FptrType) type).getArgumentsTypes(), ((FptrType) type).getReturnType());
+        return type;
+    }
+}
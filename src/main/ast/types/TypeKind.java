@@ -0,0 +1,11 @@
+package main.ast.types;
+
+// Which Type subclass a type is, read from a final field so the checker can switch on it
+public enum TypeKind {
+    NO_TYPE, INT, BOOL, VOID, NULL, SET, CLASS, ARRAY, FPTR;
+
+    // null for a missing type, which then matches no kind
+    public static TypeKind of(Type type) {
+        return type == null ? null : type.getKind();
+    }
+}
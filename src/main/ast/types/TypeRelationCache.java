@@ -0,0 +1,28 @@
+package main.ast.types;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Remembered answers of one binary relation between types, keyed by the intern ids of the pair.
+// Only answers for interned types are kept, and they stay valid for as long as the class hierarchy they were
+// computed against does not change.
+public class TypeRelationCache {
+    private final Map<Long, Boolean> answers = new ConcurrentHashMap<>();
+
+    public static boolean canCache(Type first, Type second) {
+        return first != null && second != null && first.internId >= 0 && second.internId >= 0;
+    }
+
+    // null when the pair has not been answered yet
+    public Boolean get(Type first, Type second) {
+        return this.answers.get(key(first, second));
+    }
+
+    public void put(Type first, Type second, boolean answer) {
+        this.answers.put(key(first, second), answer);
+    }
+
+    private static long key(Type first, Type second) {
+        return ((long) first.internId << 32) | second.internId;
+    }
+}
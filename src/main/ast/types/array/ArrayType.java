@@ -2,14 +2,16 @@ package main.ast.types.array;
 
 import main.ast.nodes.expression.Expression;
 import main.ast.types.Type;
+import main.ast.types.TypeKind;
 
-import java.util.ArrayList;
+import java.util.List;
 
 public class ArrayType extends Type {
-    private Type elementType;
-    private ArrayList<Expression> dimensions;
+    private final Type elementType;
+    private final List<Expression> dimensions;
 
-    public ArrayType(Type elementType, ArrayList<Expression> dimensions) {
+    public ArrayType(Type elementType, List<Expression> dimensions) {
+        super(TypeKind.ARRAY);
         this.elementType = elementType;
         this.dimensions = dimensions;
     }
@@ -17,19 +19,12 @@ public class ArrayType extends Type {
     public Type getType() {
         return elementType;
     }
-    public ArrayList<Expression> getDimensions() {
+    public List<Expression> getDimensions() {
         return dimensions;
     }
-    public void setType(Type elementType) {
-        this.elementType = elementType;
-    }
-    public void setDimensions(ArrayList<Expression> dimensions) {
-        this.dimensions = dimensions;
-    }
 
     @Override
     public String toString() {
         return "ArrayType";
     }
 }
-
@@ -1,21 +1,18 @@
 package main.ast.types.functionPointer;
 
 import main.ast.types.Type;
+import main.ast.types.TypeKind;
 
 import java.util.ArrayList;
 
 public class FptrType extends Type {
-    private ArrayList<Type> argumentsTypes = new ArrayList<>();
-    private Type returnType;
-
-    public int non_default_args;
-
-    public FptrType() {
-    }
+    private final ArrayList<Type> argumentsTypes;
+    private final Type returnType;
 
     //empty ArrayList when no arguments
     //NullType on returnType when void
     public FptrType(ArrayList<Type> argumentsTypes, Type returnType) {
+        super(TypeKind.FPTR);
         this.argumentsTypes = argumentsTypes;
         this.returnType = returnType;
     }
@@ -25,26 +22,10 @@ public class FptrType extends Type {
         return argumentsTypes;
     }
 
-    public void setArgumentsTypes(ArrayList<Type> argumentsTypes) {
-        this.argumentsTypes = argumentsTypes;
-    }
-
     public Type getReturnType() {
         return returnType;
     }
 
-    public void setReturnType(Type returnType) {
-        this.returnType = returnType;
-    }
-
-    public void setNonDefaultArgs(int _non_default_args) {
-        this.non_default_args = _non_default_args;
-    }
-
-    public void addArgumentType(Type type) {
-        this.argumentsTypes.add(type);
-    }
-
     @Override
     public String toString() {
         return "FptrType";
@@ -1,8 +1,13 @@
 package main.ast.types.primitives;
 
 import main.ast.types.Type;
+import main.ast.types.TypeKind;
 
 public class BoolType extends Type {
+    public BoolType() {
+        super(TypeKind.BOOL);
+    }
+
     @Override
     public String toString() {
         return "BoolType";
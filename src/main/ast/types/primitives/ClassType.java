@@ -2,11 +2,13 @@ package main.ast.types.primitives;
 
 import main.ast.nodes.expression.Identifier;
 import main.ast.types.Type;
+import main.ast.types.TypeKind;
 
 public class ClassType extends Type {
-    private Identifier className;
+    private final Identifier className;
 
     public ClassType(Identifier className) {
+        super(TypeKind.CLASS);
         this.className = className;
     }
 
@@ -14,12 +16,8 @@ public class ClassType extends Type {
         return className;
     }
 
-    public void setClassName(Identifier className) {
-        this.className = className;
-    }
-
     @Override
     public String toString() {
         return "ClassType_" + this.className.getName();
     }
-}
\ No newline at end of file
+}
@@ -1,8 +1,13 @@
 package main.ast.types.primitives;
 
 import main.ast.types.Type;
+import main.ast.types.TypeKind;
 
 public class IntType extends Type {
+    public IntType() {
+        super(TypeKind.INT);
+    }
+
     @Override
     public String toString() {
         return "IntType";
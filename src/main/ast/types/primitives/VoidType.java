@@ -1,8 +1,13 @@
 package main.ast.types.primitives;
 
 import main.ast.types.Type;
+import main.ast.types.TypeKind;
 
 public class VoidType extends Type {
+    public VoidType() {
+        super(TypeKind.VOID);
+    }
+
     @Override
     public String toString() {
         return "VoidType";
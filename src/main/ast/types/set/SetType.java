@@ -1,8 +1,13 @@
 package main.ast.types.set;
 
 import main.ast.types.Type;
+import main.ast.types.TypeKind;
 
 public class SetType extends Type {
+    public SetType() {
+        super(TypeKind.SET);
+    }
+
     @Override
     public String toString() {
         return "SetType";
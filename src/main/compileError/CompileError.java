@@ -1,15 +1,60 @@
 package main.compileError;
 
+// A diagnostic attached to an AST node. Errors are recorded, never thrown, so no stack trace is captured, and the
+// "Line N: ..." text is only put together when it is printed. The parts it is made of stay available to other
+// output formats: a code (the error class name), the line, the symbol it is about (null if none), the severity and
+// the phase that reported it.
 public class CompileError extends Exception {
-    private int line;
-    protected String message;
+    private final int line;
+    private final String text;
+    private final String symbol;
+    private final String suffix;
+    private String phase;
 
     public CompileError(int line, String message) {
+        this(line, message, null, null);
+    }
+
+    // message is text + symbol + suffix, put together on demand
+    public CompileError(int line, String text, String symbol, String suffix) {
+        super(null, null, false, false);
         this.line = line;
-        this.message = message;
+        this.text = text;
+        this.symbol = symbol;
+        this.suffix = suffix;
+    }
+
+    public int getLine() {
+        return line;
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    public String getCode() {
+        return getClass().getSimpleName();
+    }
+
+    public Severity getSeverity() {
+        return Severity.ERROR;
+    }
+
+    // Set by the DiagnosticSink the error is reported to; null when it was never reported
+    public String getPhase() {
+        return phase;
+    }
+
+    void setPhase(String phase) {
+        this.phase = phase;
+    }
+
+    // The message without the line prefix
+    public String getDescription() {
+        return suffix == null ? text : text + symbol + suffix;
     }
 
     public String getMessage() {
-        return "Line " + line + ": " + message;
+        return "Line " + line + ": " + getDescription();
     }
 }
@@ -0,0 +1,12 @@
+package main.compileError;
+
+public enum DiagnosticFormat {
+    TEXT,   // "Line N: message", one per line
+    JSONL,  // one JSON object per error
+    SARIF;  // one SARIF 2.1.0 log for the whole compilation
+
+    // "text", "jsonl" or "sarif"
+    public static DiagnosticFormat fromName(String name) {
+        return valueOf(name.toUpperCase());
+    }
+}
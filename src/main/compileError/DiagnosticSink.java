@@ -0,0 +1,79 @@
+package main.compileError;
+
+import main.ast.nodes.Node;
+
+import java.util.*;
+
+// Every error found during one compilation, pushed here by the passes as they find them.
+// Errors stay grouped by the node they are about, so the text report can still print them in AST order, and are
+// also kept in the order they were found for reports that list them all at the end.
+// Only nodes that actually have errors take up an entry.
+public class DiagnosticSink {
+    private final Map<Node, List<CompileError>> pending = new IdentityHashMap<>();
+    private final List<CompileError> all = new ArrayList<>();
+    private String phase;
+
+    // Errors reported from now on are tagged with this phase name
+    public void setPhase(String phase) {
+        this.phase = phase;
+    }
+
+    public void report(Node node, CompileError error) {
+        error.setPhase(this.phase);
+        this.pending.computeIfAbsent(node, k -> new ArrayList<>(1)).add(error);
+        this.all.add(error);
+    }
+
+    // An empty sink reporting under the same phase, for a part of the compilation run on its own thread
+    public DiagnosticSink fork() {
+        DiagnosticSink fork = new DiagnosticSink();
+        fork.phase = this.phase;
+        return fork;
+    }
+
+    // Moves in the errors of a fork, as if they had been reported here after everything reported so far
+    public void merge(DiagnosticSink fork) {
+        for (Map.Entry<Node, List<CompileError>> entry : fork.pending.entrySet())
+            this.pending.computeIfAbsent(entry.getKey(), k -> new ArrayList<>(entry.getValue().size())).addAll(entry.getValue());
+        this.all.addAll(fork.all);
+    }
+
+    public boolean hasErrors(Node node) {
+        return this.pending.containsKey(node);
+    }
+
+    // True while some error has not been taken yet
+    public boolean hasPending() {
+        return !this.pending.isEmpty();
+    }
+
+    // The not yet taken errors in AST order: by the pre-order index of their node, then in the order they were
+    // reported. They are not handed out again. Errors on nodes that were never numbered, such as default argument
+    // values, are dropped, as no report reaches them.
+    public List<CompileError> takeInPreorder() {
+        List<Map.Entry<Node, List<CompileError>>> nodes = new ArrayList<>(this.pending.entrySet());
+        nodes.sort(Comparator.comparingInt(entry -> entry.getKey().getPreorderIndex()));
+        List<CompileError> errors = new ArrayList<>();
+        for (Map.Entry<Node, List<CompileError>> entry : nodes)
+            if (entry.getKey().getPreorderIndex() >= 0)
+                errors.addAll(entry.getValue());
+        this.pending.clear();
+        return errors;
+    }
+
+    // Every error reported so far, taken or not, in the order they were reported
+    public List<CompileError> getAll() {
+        return Collections.unmodifiableList(this.all);
+    }
+
+    // Every error reported so far, by line; errors on the same line keep the order they were reported in
+    public List<CompileError> getAllByLine() {
+        List<CompileError> sorted = new ArrayList<>(this.all);
+        sorted.sort(Comparator.comparingInt(CompileError::getLine));
+        return sorted;
+    }
+
+    public int size() {
+        return this.all.size();
+    }
+}
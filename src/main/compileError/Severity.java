@@ -0,0 +1,6 @@
+package main.compileError;
+
+public enum Severity {
+    ERROR,
+    WARNING
+}
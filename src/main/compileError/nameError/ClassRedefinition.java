@@ -4,6 +4,6 @@ import main.compileError.CompileError;
 
 public class ClassRedefinition extends CompileError {
     public ClassRedefinition(int line, String className) {
-        super(line, "Redefinition of class " + className);
+        super(line, "Redefinition of class ", className, "");
     }
 }
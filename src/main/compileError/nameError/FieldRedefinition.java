@@ -4,6 +4,6 @@ import main.compileError.CompileError;
 
 public class FieldRedefinition extends CompileError {
     public FieldRedefinition(int line, String fieldName) {
-        super(line, "Redefinition of field " + fieldName);
+        super(line, "Redefinition of field ", fieldName, "");
     }
 }
\ No newline at end of file
@@ -4,6 +4,6 @@ import main.compileError.CompileError;
 
 public class LocalVarConflictWithGlobalVar extends CompileError {
     public LocalVarConflictWithGlobalVar(int line, String localVar) {
-        super(line, "Name of local variable " + localVar + " conflicts with a global variable’s name");
+        super(line, "Name of local variable ", localVar, " conflicts with a global variable’s name");
     }
 }
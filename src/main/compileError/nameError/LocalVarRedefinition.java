@@ -4,6 +4,6 @@ import main.compileError.CompileError;
 
 public class LocalVarRedefinition extends CompileError {
     public LocalVarRedefinition(int line, String varName) {
-        super(line, "Redefinition of local variable " + varName);
+        super(line, "Redefinition of local variable ", varName, "");
     }
 }
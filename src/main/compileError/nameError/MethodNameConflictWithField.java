@@ -4,6 +4,6 @@ import main.compileError.CompileError;
 
 public class MethodNameConflictWithField extends CompileError {
     public MethodNameConflictWithField(int line, String methodName) {
-        super(line, "Name of method " + methodName + " conflicts with a field’s name");
+        super(line, "Name of method ", methodName, " conflicts with a field’s name");
     }
 }
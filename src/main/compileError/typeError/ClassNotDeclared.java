@@ -5,7 +5,7 @@ import main.compileError.CompileError;
 public class ClassNotDeclared extends CompileError {
 
     public ClassNotDeclared(int line, String className) {
-        super(line, "Class " + className + " is not declared");
+        super(line, "Class ", className, " is not declared");
     }
 
 }
@@ -3,9 +3,16 @@ package main.compileError.typeError;
 import main.compileError.CompileError;
 
 public class MemberNotAvailableInClass extends CompileError {
+    private final String className;
 
     public MemberNotAvailableInClass(int line, String memberName, String className) {
-        super(line, "There is no member named " + memberName + " in class " + className);
+        super(line, "There is no member named ", memberName, " in class ");
+        this.className = className;
+    }
+
+    @Override
+    public String getDescription() {
+        return super.getDescription() + className;
     }
 
 }
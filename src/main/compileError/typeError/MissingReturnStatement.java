@@ -6,7 +6,7 @@ import main.compileError.CompileError;
 public class MissingReturnStatement extends CompileError {
 
     public MissingReturnStatement(MethodDeclaration methodDeclaration) {
-        super(methodDeclaration.getLine(), "Method " + methodDeclaration.getMethodName().getName() + " needs return statement");
+        super(methodDeclaration.getLine(), "Method ", methodDeclaration.getMethodName().getName(), " needs return statement");
     }
 
 }
@@ -5,7 +5,7 @@ import main.compileError.CompileError;
 public class UnsupportedOperandType extends CompileError {
 
     public UnsupportedOperandType(int line, String operatorName) {
-        super(line, "Unsupported operand type for operator " + operatorName);
+        super(line, "Unsupported operand type for operator ", operatorName, "");
     }
 
 }
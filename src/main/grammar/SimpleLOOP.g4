@@ -359,75 +359,31 @@ ternaryExpression returns [Expression ternaryExprRet]:
       }
     )?;
 
-orExpression returns[Expression orExprRet]:
-    expl = andExpression {$orExprRet = $expl.andExprRet;}
-    (op = OR expr = andExpression{
-        BinaryOperator opr = BinaryOperator.or;
-        $orExprRet = new BinaryExpression($orExprRet, $expr.andExprRet, opr);
-        $orExprRet.setLine($op.getLine());
-    })*
-    ;
-
-andExpression returns[Expression andExprRet]:
-    expl = equalityExpression {$andExprRet = $expl.equalityExprRet;}
-    (op = AND expr = equalityExpression{
-        BinaryOperator opr = BinaryOperator.and;
-        $andExprRet = new BinaryExpression($andExprRet, $expr.equalityExprRet, opr);
-        $andExprRet.setLine($op.getLine());
-    })*;
-
-equalityExpression returns[Expression equalityExprRet]:
-    expl = relationalExpression {$equalityExprRet = $expl.relationalExprRet;}
-    (op = EQUAL expr = relationalExpression{
-        BinaryOperator opr = BinaryOperator.eq;
-        $equalityExprRet = new BinaryExpression($equalityExprRet, $expr.relationalExprRet, opr);
-        $equalityExprRet.setLine($op.getLine());
-    })*;
-
-relationalExpression returns [Expression relationalExprRet]
-    locals [BinaryOperator op, int line]:
-    l = additiveExpression
-    {$relationalExprRet = $l.expr;}
-    ((op1 = GREATER_THAN
-    {$op = BinaryOperator.gt;
-    $line = $op1.getLine();}
-    | op2 = LESS_THAN
-    {$op = BinaryOperator.lt;
-     $line = $op2.getLine();}
-    ) r = additiveExpression
-    {$relationalExprRet = new BinaryExpression($relationalExprRet,$r.expr,$op);
-     $relationalExprRet.setLine($line);}
-    )*;
-
-additiveExpression returns [Expression expr]
-    locals [BinaryOperator op, int line]:
-    l = multiplicativeExpression
-    {$expr = $l.expr;}
-    ((op1 = PLUS
-    {$op = BinaryOperator.add;
-     $line = $op1.getLine();}
-    | op2 = MINUS
-    {$op = BinaryOperator.sub;
-     $line = $op2.getLine();}
-    ) r = multiplicativeExpression
-    {$expr = new BinaryExpression($expr,$r.expr,$op);
-     $expr.setLine($line);}
-    )*;
-
-multiplicativeExpression returns [Expression expr]
-    locals [BinaryOperator op, int line]:
-    l = preUnaryExpression
-    {$expr = $l.expr;}
-    ((op1 = MULT
-    {$op = BinaryOperator.mult;
-     $line = $op1.getLine();}
-    | op2 = DIVIDE
-    {$op = BinaryOperator.div;
-     $line = $op2.getLine();}
-    ) r = preUnaryExpression
-    {$expr = new BinaryExpression($expr,$r.expr,$op);
-    $expr.setLine($line);}
-    )*;
+// All binary operator levels in one pass: operands and operators are collected as they come and the tree is built by
+// precedence climbing once the run ends, which most of the time is after a single operand
+orExpression returns[Expression orExprRet]
+    locals [BinaryExpressionBuilder builder, BinaryOperator op]:
+    first=preUnaryExpression { $orExprRet = $first.expr; }
+    ((o=OR {$op = BinaryOperator.or;}
+    | o=AND {$op = BinaryOperator.and;}
+    | o=EQUAL {$op = BinaryOperator.eq;}
+    | o=GREATER_THAN {$op = BinaryOperator.gt;}
+    | o=LESS_THAN {$op = BinaryOperator.lt;}
+    | o=PLUS {$op = BinaryOperator.add;}
+    | o=MINUS {$op = BinaryOperator.sub;}
+    | o=MULT {$op = BinaryOperator.mult;}
+    | o=DIVIDE {$op = BinaryOperator.div;}
+    ) next=preUnaryExpression
+    {
+        if ($builder == null)
+            $builder = new BinaryExpressionBuilder($orExprRet);
+        $builder.add($op, $o.getLine(), $next.expr);
+    }
+    )*
+    {
+        if ($builder != null)
+            $orExprRet = $builder.build();
+    };
 
 preUnaryExpression returns [Expression expr]
     locals[UnaryOperator op, int line]:
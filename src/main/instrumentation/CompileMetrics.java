@@ -0,0 +1,198 @@
+package main.instrumentation;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.function.Supplier;
+
+//Opt-in record of where one compilation spends its time and memory.
+//CPU time and allocated bytes come from the current thread's counters and are -1 when the JVM lacks them. A phase
+//that hands work to a ForkJoinPool adds the counters of the pool's workers, which assumes the pool does nothing else
+//while the phase runs; work done by a worker that exits before the phase ends is not counted.
+public class CompileMetrics {
+    public static class Phase {
+        private final String name;
+        private final long wallNanos;
+        private final long cpuNanos;
+        private final long allocatedBytes;
+
+        public Phase(String name, long wallNanos, long cpuNanos, long allocatedBytes) {
+            this.name = name;
+            this.wallNanos = wallNanos;
+            this.cpuNanos = cpuNanos;
+            this.allocatedBytes = allocatedBytes;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getWallNanos() {
+            return wallNanos;
+        }
+
+        public long getCpuNanos() {
+            return cpuNanos;
+        }
+
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+    }
+
+    private static final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+    private final String source;
+    private final List<Phase> phases = new ArrayList<>();
+    private final Map<String, Long> counters = new LinkedHashMap<>();
+
+    public CompileMetrics(String source) {
+        this.source = source;
+    }
+
+    public <T> T measure(String name, Supplier<T> body) {
+        return this.measure(name, null, body);
+    }
+
+    public void measure(String name, Runnable body) {
+        this.measure(name, null, body);
+    }
+
+    // pool may be null for a phase that runs on the calling thread only
+    public <T> T measure(String name, ForkJoinPool pool, Supplier<T> body) {
+        long cpuStart = currentThreadCpuTime();
+        long allocatedStart = currentThreadAllocatedBytes();
+        Map<Long, long[]> workersStart = workerCounters(pool);
+        long wallStart = System.nanoTime();
+        T result = body.get();
+        long wallNanos = System.nanoTime() - wallStart;
+        long cpuNanos = cpuStart < 0 ? -1 : currentThreadCpuTime() - cpuStart;
+        long allocatedBytes = allocatedStart < 0 ? -1 : currentThreadAllocatedBytes() - allocatedStart;
+        // a worker started during the phase had nothing on its counters before it
+        for (Map.Entry<Long, long[]> worker : workerCounters(pool).entrySet()) {
+            long[] start = workersStart.getOrDefault(worker.getKey(), new long[2]);
+            long[] end = worker.getValue();
+            if (cpuNanos >= 0)
+                cpuNanos = end[0] < 0 ? -1 : cpuNanos + end[0] - start[0];
+            if (allocatedBytes >= 0)
+                allocatedBytes = end[1] < 0 ? -1 : allocatedBytes + end[1] - start[1];
+        }
+        this.phases.add(new Phase(name, wallNanos, cpuNanos, allocatedBytes));
+        return result;
+    }
+
+    public void measure(String name, ForkJoinPool pool, Runnable body) {
+        this.measure(name, pool, () -> {
+            body.run();
+            return null;
+        });
+    }
+
+    public void setCounter(String name, long value) {
+        this.counters.put(name, value);
+    }
+
+    public List<Phase> getPhases() {
+        return phases;
+    }
+
+    public Map<String, Long> getCounters() {
+        return counters;
+    }
+
+    public String toJson() {
+        StringBuilder json = new StringBuilder();
+        json.append("{\"source\":").append(quote(this.source)).append(",\"phases\":[");
+        for (int i = 0; i < this.phases.size(); i++) {
+            Phase phase = this.phases.get(i);
+            if (i != 0)
+                json.append(',');
+            json.append("{\"name\":").append(quote(phase.getName()))
+                    .append(",\"wallNanos\":").append(phase.getWallNanos())
+                    .append(",\"cpuNanos\":").append(phase.getCpuNanos())
+                    .append(",\"allocatedBytes\":").append(phase.getAllocatedBytes())
+                    .append('}');
+        }
+        json.append("],\"counters\":{");
+        boolean first = true;
+        for (Map.Entry<String, Long> counter : this.counters.entrySet()) {
+            if (!first)
+                json.append(',');
+            first = false;
+            json.append(quote(counter.getKey())).append(':').append(counter.getValue());
+        }
+        json.append("}}");
+        return json.toString();
+    }
+
+    // CPU time and allocated bytes of every live worker of the pool, by thread id
+    private static Map<Long, long[]> workerCounters(ForkJoinPool pool) {
+        Map<Long, long[]> counters = new HashMap<>();
+        if (pool == null)
+            return counters;
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread instanceof ForkJoinWorkerThread && ((ForkJoinWorkerThread) thread).getPool() == pool) {
+                long id = thread.getId();
+                counters.put(id, new long[] {threadCpuTime(id), threadAllocatedBytes(id)});
+            }
+        }
+        return counters;
+    }
+
+    private static long threadCpuTime(long threadId) {
+        if (!threadMXBean.isThreadCpuTimeSupported() || !threadMXBean.isThreadCpuTimeEnabled())
+            return -1;
+        return threadMXBean.getThreadCpuTime(threadId);
+    }
+
+    private static long threadAllocatedBytes(long threadId) {
+        if (!(threadMXBean instanceof com.sun.management.ThreadMXBean))
+            return -1;
+        com.sun.management.ThreadMXBean allocationMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+        if (!allocationMXBean.isThreadAllocatedMemorySupported() || !allocationMXBean.isThreadAllocatedMemoryEnabled())
+            return -1;
+        return allocationMXBean.getThreadAllocatedBytes(threadId);
+    }
+
+    private static long currentThreadCpuTime() {
+        if (!threadMXBean.isCurrentThreadCpuTimeSupported())
+            return -1;
+        return threadMXBean.getCurrentThreadCpuTime();
+    }
+
+    private static long currentThreadAllocatedBytes() {
+        if (!(threadMXBean instanceof com.sun.management.ThreadMXBean))
+            return -1;
+        com.sun.management.ThreadMXBean allocationMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+        if (!allocationMXBean.isThreadAllocatedMemorySupported() || !allocationMXBean.isThreadAllocatedMemoryEnabled())
+            return -1;
+        return allocationMXBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    public static String quote(String text) {
+        if (text == null)
+            return "null";
+        StringBuilder quoted = new StringBuilder("\"");
+        for (char c : text.toCharArray()) {
+            switch (c) {
+                case '"': quoted.append("\\\""); break;
+                case '\\': quoted.append("\\\\"); break;
+                case '\n': quoted.append("\\n"); break;
+                case '\r': quoted.append("\\r"); break;
+                case '\t': quoted.append("\\t"); break;
+                default:
+                    if (c < 0x20)
+                        quoted.append(String.format("\\u%04x", (int) c));
+                    else
+                        quoted.append(c);
+            }
+        }
+        return quoted.append('"').toString();
+    }
+}
@@ -0,0 +1,90 @@
+package main.symbolTable;
+
+import main.symbolTable.items.ClassSymbolTableItem;
+import main.symbolTable.items.FieldSymbolTableItem;
+import main.symbolTable.items.MethodSymbolTableItem;
+import main.symbolTable.items.SymbolTableItem;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+// Fields and methods of a class, inherited ones included, keyed by plain member name.
+// Built once the class symbol tables are linked to their parents. An inherited member is looked up along the parent
+// chain the first time it is asked for and remembered, so every later lookup is a single map probe. Resolving lazily
+// keeps memory proportional to the members actually used, where copying every ancestor into every class would be
+// quadratic in the depth of the hierarchy.
+public class ClassMemberTable {
+    private final ClassSymbolTableItem classSymbolTableItem;
+    private final Map<String, FieldSymbolTableItem> ownFields = new HashMap<>();
+    private final Map<String, MethodSymbolTableItem> ownMethods = new HashMap<>();
+    private final Map<String, Optional<FieldSymbolTableItem>> fields = new ConcurrentHashMap<>();
+    private final Map<String, Optional<MethodSymbolTableItem>> methods = new ConcurrentHashMap<>();
+    private final Function<String, Optional<FieldSymbolTableItem>> fieldResolver = this::resolveField;
+    private final Function<String, Optional<MethodSymbolTableItem>> methodResolver = this::resolveMethod;
+    private ClassMemberTable parent;
+    private int classCount;
+
+    private ClassMemberTable(ClassSymbolTableItem classSymbolTableItem) {
+        this.classSymbolTableItem = classSymbolTableItem;
+        for (SymbolTableItem item : classSymbolTableItem.getClassSymbolTable().getItems()) {
+            if (item instanceof FieldSymbolTableItem)
+                this.ownFields.put(item.getName(), (FieldSymbolTableItem) item);
+            else if (item instanceof MethodSymbolTableItem)
+                this.ownMethods.put(item.getName(), (MethodSymbolTableItem) item);
+        }
+    }
+
+    // One table per class in root, keyed by class name; parents follow the pre links set up by the name analyzer
+    public static Map<String, ClassMemberTable> build(SymbolTable root) {
+        Map<String, ClassMemberTable> classMembers = new HashMap<>();
+        Map<SymbolTable, ClassMemberTable> bySymbolTable = new IdentityHashMap<>();
+        for (SymbolTableItem item : root.getItems()) {
+            if (item instanceof ClassSymbolTableItem) {
+                ClassMemberTable classMemberTable = new ClassMemberTable((ClassSymbolTableItem) item);
+                classMembers.put(item.getName(), classMemberTable);
+                bySymbolTable.put(((ClassSymbolTableItem) item).getClassSymbolTable(), classMemberTable);
+            }
+        }
+        for (ClassMemberTable classMemberTable : classMembers.values()) {
+            classMemberTable.parent = bySymbolTable.get(classMemberTable.classSymbolTableItem.getClassSymbolTable().pre);
+            classMemberTable.classCount = classMembers.size();
+        }
+        return classMembers;
+    }
+
+    public ClassSymbolTableItem getClassSymbolTableItem() {
+        return classSymbolTableItem;
+    }
+
+    // The field visible under this name in the class, or null
+    public FieldSymbolTableItem getField(String name) {
+        return this.fields.computeIfAbsent(name, this.fieldResolver).orElse(null);
+    }
+
+    // The method visible under this name in the class, or null
+    public MethodSymbolTableItem getMethod(String name) {
+        return this.methods.computeIfAbsent(name, this.methodResolver).orElse(null);
+    }
+
+    // Child first, like SymbolTable.getItem; a cycle is cut after every class has been seen once
+    private Optional<FieldSymbolTableItem> resolveField(String name) {
+        ClassMemberTable current = this;
+        for (int steps = 0; current != null && steps < this.classCount; steps++, current = current.parent) {
+            FieldSymbolTableItem field = current.ownFields.get(name);
+            if (field != null)
+                return Optional.of(field);
+        }
+        return Optional.empty();
+    }
+
+    private Optional<MethodSymbolTableItem> resolveMethod(String name) {
+        ClassMemberTable current = this;
+        for (int steps = 0; current != null && steps < this.classCount; steps++, current = current.parent) {
+            MethodSymbolTableItem method = current.ownMethods.get(name);
+            if (method != null)
+                return Optional.of(method);
+        }
+        return Optional.empty();
+    }
+}
@@ -4,8 +4,8 @@ package main.symbolTable;
 import main.symbolTable.exceptions.ItemAlreadyExistsException;
 import main.symbolTable.exceptions.ItemNotFoundException;
 import main.symbolTable.items.SymbolTableItem;
-import main.symbolTable.utils.stack.Stack;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -15,24 +15,6 @@ import java.util.Set;
 
 public class SymbolTable {
 
-    //Start of static members
-
-    public static SymbolTable top;
-    public static SymbolTable root;
-    private static Stack<SymbolTable> stack = new Stack<>();
-
-    public static void push(SymbolTable symbolTable) {
-        if (top != null)
-            stack.push(top);
-        top = symbolTable;
-    }
-
-    public static void pop() {
-        top = stack.pop();
-    }
-
-    //End of static members
-
     public SymbolTable pre;
     private Map<String, SymbolTableItem> items;
 
@@ -46,12 +28,37 @@ public class SymbolTable {
     }
 
     public void put(SymbolTableItem item) throws ItemAlreadyExistsException {
-        if (items.containsKey(item.getKey()))
+        if (!tryPut(item))
             throw new ItemAlreadyExistsException();
-        items.put(item.getKey(), item);
+    }
+
+    // Like put, but reports a clash by returning false; the item already in the table is kept
+    public boolean tryPut(SymbolTableItem item) {
+        return items.putIfAbsent(item.getKey(), item) == null;
+    }
+
+    public Collection<SymbolTableItem> getItems() {
+        return items.values();
+    }
+
+    public int size() {
+        return items.size();
+    }
+
+    // Looks in this table only, without following pre; null when the key is not here
+    public SymbolTableItem getOwnItem(String key) {
+        return items.get(key);
     }
 
     public SymbolTableItem getItem(String key, Boolean searchCurrent) throws ItemNotFoundException {
+        SymbolTableItem symbolTableItem = lookup(key, searchCurrent);
+        if (symbolTableItem == null)
+            throw new ItemNotFoundException();
+        return symbolTableItem;
+    }
+
+    // Like getItem, but returns null when the key is nowhere on the chain
+    public SymbolTableItem lookup(String key, boolean searchCurrent) {
         Set<SymbolTable> visitedSymbolTables = new HashSet<>();
         SymbolTable currentSymbolTable = this;
         if(!searchCurrent) {
@@ -65,7 +72,7 @@ public class SymbolTable {
                 return symbolTableItem;
             currentSymbolTable = currentSymbolTable.pre;
         }
-        throw new ItemNotFoundException();
+        return null;
     }
 
 }
@@ -0,0 +1,199 @@
+package main.symbolTable.utils.graph;
+
+import java.util.*;
+
+// Answers Graph.isSecondNodeAncestorOf in constant time for a graph that no longer changes.
+// Every node and every parent name gets a dense id, and one pass of Tarjan's algorithm groups the ids into
+// strongly connected components, which also tells which nodes sit on an inheritance cycle.
+// Components whose whole parent chain is single-parent (the normal case, cycles included) are numbered by entry/exit
+// time in a DFS over the parent->child forest of components, so "ancestor of" is interval containment.
+// Any other component keeps an explicit bitset of the components it reaches.
+class AncestorIndex<N> {
+    private final Map<N, Integer> ids = new HashMap<>();
+    private final int[] component;
+    private final boolean[] cyclic;
+    private final int[] enter;
+    private final int[] exit;
+    private final BitSet[] reachable;
+
+    AncestorIndex(Map<N, Set<N>> parentShipRelation) {
+        List<N> names = new ArrayList<>(parentShipRelation.keySet());
+        for (N node : parentShipRelation.keySet())
+            this.ids.put(node, this.ids.size());
+        for (Set<N> parents : parentShipRelation.values())
+            for (N parent : parents)
+                if (!this.ids.containsKey(parent)) {
+                    this.ids.put(parent, this.ids.size());
+                    names.add(parent);
+                }
+        int size = this.ids.size();
+        int[][] parentIds = new int[size][];
+        for (int id = 0; id < size; id++) {
+            Set<N> parents = parentShipRelation.get(names.get(id));
+            parentIds[id] = new int[parents == null ? 0 : parents.size()];
+            int i = 0;
+            if (parents != null)
+                for (N parent : parents)
+                    parentIds[id][i++] = this.ids.get(parent);
+        }
+
+        this.component = new int[size];
+        int components = findComponents(parentIds, this.component);
+        this.cyclic = new boolean[components];
+        List<Set<Integer>> componentParents = new ArrayList<>();
+        for (int c = 0; c < components; c++)
+            componentParents.add(new LinkedHashSet<>());
+        int[] members = new int[components];
+        for (int id = 0; id < size; id++) {
+            members[this.component[id]] += 1;
+            for (int parent : parentIds[id]) {
+                if (this.component[parent] == this.component[id])
+                    this.cyclic[this.component[id]] = true;
+                else
+                    componentParents.get(this.component[id]).add(this.component[parent]);
+            }
+        }
+        int[][] parentComponents = new int[components][];
+        for (int c = 0; c < components; c++) {
+            if (members[c] > 1)
+                this.cyclic[c] = true;
+            parentComponents[c] = componentParents.get(c).stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        // components come out of Tarjan's algorithm after every component they reach, so parents are seen first
+        boolean[] tree = new boolean[components];
+        for (int c = 0; c < components; c++)
+            tree[c] = parentComponents[c].length == 0 || (parentComponents[c].length == 1 && tree[parentComponents[c][0]]);
+        this.enter = new int[components];
+        this.exit = new int[components];
+        this.reachable = new BitSet[components];
+        numberTrees(parentComponents, tree);
+        for (int c = 0; c < components; c++)
+            if (!tree[c])
+                this.reachable[c] = reach(parentComponents, c);
+    }
+
+    boolean isSecondNodeAncestorOf(N first, N second) {
+        Integer firstId = this.ids.get(first);
+        Integer secondId = this.ids.get(second);
+        if (firstId == null || secondId == null)
+            return first.equals(second);
+        int firstComponent = this.component[firstId];
+        int secondComponent = this.component[secondId];
+        if (this.reachable[firstComponent] != null)
+            return this.reachable[firstComponent].get(secondComponent);
+        return this.enter[secondComponent] <= this.enter[firstComponent] && this.exit[firstComponent] <= this.exit[secondComponent];
+    }
+
+    boolean isNodeInCycle(N node) {
+        Integer id = this.ids.get(node);
+        return id != null && this.cyclic[this.component[id]];
+    }
+
+    // Iterative Tarjan's algorithm; returns the number of components and fills in the component of every id
+    private static int findComponents(int[][] parentIds, int[] component) {
+        int size = parentIds.length;
+        int[] index = new int[size];
+        int[] lowLink = new int[size];
+        boolean[] onStack = new boolean[size];
+        int[] componentStack = new int[size];
+        int[] callStack = new int[size];
+        int[] nextParent = new int[size];
+        Arrays.fill(index, -1);
+        int clock = 0, components = 0, componentTop = -1;
+        for (int start = 0; start < size; start++) {
+            if (index[start] != -1)
+                continue;
+            int callTop = 0;
+            callStack[0] = start;
+            index[start] = lowLink[start] = clock++;
+            componentStack[++componentTop] = start;
+            onStack[start] = true;
+            while (callTop >= 0) {
+                int id = callStack[callTop];
+                if (nextParent[id] < parentIds[id].length) {
+                    int parent = parentIds[id][nextParent[id]++];
+                    if (index[parent] == -1) {
+                        index[parent] = lowLink[parent] = clock++;
+                        componentStack[++componentTop] = parent;
+                        onStack[parent] = true;
+                        callStack[++callTop] = parent;
+                    }
+                    else if (onStack[parent])
+                        lowLink[id] = Math.min(lowLink[id], index[parent]);
+                    continue;
+                }
+                if (lowLink[id] == index[id]) {
+                    int member;
+                    do {
+                        member = componentStack[componentTop--];
+                        onStack[member] = false;
+                        component[member] = components;
+                    } while (member != id);
+                    components += 1;
+                }
+                callTop -= 1;
+                if (callTop >= 0)
+                    lowLink[callStack[callTop]] = Math.min(lowLink[callStack[callTop]], lowLink[id]);
+            }
+        }
+        return components;
+    }
+
+    private void numberTrees(int[][] parentComponents, boolean[] tree) {
+        int size = parentComponents.length;
+        int[] childCount = new int[size];
+        for (int c = 0; c < size; c++)
+            if (tree[c] && parentComponents[c].length == 1)
+                childCount[parentComponents[c][0]] += 1;
+        int[][] children = new int[size][];
+        for (int c = 0; c < size; c++)
+            children[c] = new int[childCount[c]];
+        Arrays.fill(childCount, 0);
+        for (int c = 0; c < size; c++)
+            if (tree[c] && parentComponents[c].length == 1) {
+                int parent = parentComponents[c][0];
+                children[parent][childCount[parent]++] = c;
+            }
+
+        // iterative so a long inheritance chain cannot overflow the stack
+        int clock = 0;
+        int[] stack = new int[size];
+        int[] nextChild = new int[size];
+        for (int root = 0; root < size; root++) {
+            if (!tree[root] || parentComponents[root].length != 0)
+                continue;
+            int top = 0;
+            stack[0] = root;
+            this.enter[root] = clock++;
+            while (top >= 0) {
+                int c = stack[top];
+                if (nextChild[c] < children[c].length) {
+                    int child = children[c][nextChild[c]++];
+                    this.enter[child] = clock++;
+                    stack[++top] = child;
+                }
+                else {
+                    this.exit[c] = clock++;
+                    top -= 1;
+                }
+            }
+        }
+    }
+
+    private static BitSet reach(int[][] parentComponents, int start) {
+        BitSet visited = new BitSet(parentComponents.length);
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        visited.set(start);
+        queue.add(start);
+        while (!queue.isEmpty()) {
+            for (int parent : parentComponents[queue.poll()]) {
+                if (!visited.get(parent)) {
+                    visited.set(parent);
+                    queue.add(parent);
+                }
+            }
+        }
+        return visited;
+    }
+}
@@ -7,11 +7,21 @@ import java.util.*;
 
 public class Graph<N> {
     private Map<N, Set<N>> parentShipRelation = new HashMap<>();
+    private Map<N, Set<N>> childShipRelation = new HashMap<>();
+    private AncestorIndex<N> ancestorIndex;
 
     public void addNode(N desired) throws NodeAlreadyExistsException {
-        if (parentShipRelation.containsKey(desired))
+        if (!tryAddNode(desired))
             throw new NodeAlreadyExistsException();
+    }
+
+    // Like addNode, but returns false instead of throwing when the node is already there
+    public boolean tryAddNode(N desired) {
+        if (parentShipRelation.containsKey(desired))
+            return false;
         parentShipRelation.put(desired, new HashSet<>());
+        ancestorIndex = null;
+        return true;
     }
 
     public boolean doesGraphContainNode(N desired) {
@@ -19,38 +29,72 @@ public class Graph<N> {
     }
 
     public void addNodeAsParentOf(N desired, N parentNode) throws GraphDoesNotContainNodeException {
-        if (!parentShipRelation.containsKey(desired))
+        if (!tryAddNodeAsParentOf(desired, parentNode))
             throw new GraphDoesNotContainNodeException();
-        parentShipRelation.get(desired).add(parentNode);
+    }
+
+    // Like addNodeAsParentOf, but returns false instead of throwing when the child is not a node
+    public boolean tryAddNodeAsParentOf(N desired, N parentNode) {
+        Set<N> parents = parentShipRelation.get(desired);
+        if (parents == null)
+            return false;
+        parents.add(parentNode);
+        childShipRelation.computeIfAbsent(parentNode, k -> new HashSet<>()).add(desired);
+        ancestorIndex = null;
+        return true;
+    }
+
+    // Precomputes every ancestor relation so later queries are constant time; adding nodes or edges drops the index
+    public void freeze() {
+        ancestorIndex = new AncestorIndex<>(parentShipRelation);
     }
 
     public Collection<N> getParentsOfNode(N desired) throws GraphDoesNotContainNodeException {
-        if (!parentShipRelation.containsKey(desired))
+        Collection<N> parents = findParentsOfNode(desired);
+        if (parents == null)
             throw new GraphDoesNotContainNodeException();
+        return parents;
+    }
+
+    // Like getParentsOfNode, but returns null for a node the graph does not contain
+    public Collection<N> findParentsOfNode(N desired) {
         return parentShipRelation.get(desired);
     }
 
+    // Reverse edges, kept up to date as parents are added; also answers for parent names that are not nodes
+    public Collection<N> getChildrenOfNode(N desired) {
+        return childShipRelation.getOrDefault(desired, Collections.emptySet());
+    }
+
     public boolean isSecondNodeAncestorOf(N first , N second) {
+        if (ancestorIndex != null)
+            return ancestorIndex.isSecondNodeAncestorOf(first, second);
         Set<N> visitedNodes = new HashSet<>();
         return _isSecondNodeAncestorOf(first,second, visitedNodes);
     }
 
+    // True when the node can reach itself through its parents, found by one SCC pass over the whole graph
+    public boolean isNodeInCycle(N desired) {
+        if (ancestorIndex == null)
+            freeze();
+        return ancestorIndex.isNodeInCycle(desired);
+    }
+
     private boolean _isSecondNodeAncestorOf(N first, N second, Set<N> visitedNodes) {
-        try {
-            if(first.equals(second))
+        if(first.equals(second))
+            return true;
+        Collection<N> parents = findParentsOfNode(first);
+        if (parents == null)
+            return false;
+        for(N node : parents) {
+            if (node.equals(second)) {
                 return true;
-            Collection<N> parents = getParentsOfNode(first);
-            for(N node : parents) {
-                if (node.equals(second)) {
-                    return true;
-                }
-                if (visitedNodes.contains(node))
-                    continue;
-                visitedNodes.add(node);
-                if (_isSecondNodeAncestorOf(node, second, visitedNodes))
-                    return true;
             }
-        } catch(GraphDoesNotContainNodeException ignored) {
+            if (visitedNodes.contains(node))
+                continue;
+            visitedNodes.add(node);
+            if (_isSecondNodeAncestorOf(node, second, visitedNodes))
+                return true;
         }
         return false;
     }
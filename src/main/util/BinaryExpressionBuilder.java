@@ -0,0 +1,75 @@
+package main.util;
+
+import main.ast.nodes.expression.BinaryExpression;
+import main.ast.nodes.expression.Expression;
+import main.ast.nodes.expression.operators.BinaryOperator;
+
+import java.util.ArrayList;
+
+//Builds the tree of a flat run of operands and binary operators, as orExpression parses them, by precedence climbing.
+//Every operator is left associative and its BinaryExpression gets the operator's line.
+public class BinaryExpressionBuilder {
+    private final ArrayList<Expression> operands = new ArrayList<>();
+    private final ArrayList<BinaryOperator> operators = new ArrayList<>();
+    private final ArrayList<Integer> lines = new ArrayList<>();
+
+    public BinaryExpressionBuilder(Expression firstOperand) {
+        this.operands.add(firstOperand);
+    }
+
+    public void add(BinaryOperator operator, int line, Expression operand) {
+        this.operators.add(operator);
+        this.lines.add(line);
+        this.operands.add(operand);
+    }
+
+    // Operators still waiting for their right operand are kept on a stack, tightest binding on top
+    public Expression build() {
+        ArrayList<Expression> operandStack = new ArrayList<>();
+        ArrayList<Integer> operatorStack = new ArrayList<>();
+        operandStack.add(this.operands.get(0));
+        for (int i = 0; i < this.operators.size(); i++) {
+            int precedence = precedence(this.operators.get(i));
+            while (!operatorStack.isEmpty()
+                    && precedence(this.operators.get(operatorStack.get(operatorStack.size() - 1))) >= precedence)
+                this.reduce(operandStack, operatorStack);
+            operatorStack.add(i);
+            operandStack.add(this.operands.get(i + 1));
+        }
+        while (!operatorStack.isEmpty())
+            this.reduce(operandStack, operatorStack);
+        return operandStack.get(0);
+    }
+
+    private void reduce(ArrayList<Expression> operandStack, ArrayList<Integer> operatorStack) {
+        int operator = operatorStack.remove(operatorStack.size() - 1);
+        Expression secondOperand = operandStack.remove(operandStack.size() - 1);
+        Expression firstOperand = operandStack.remove(operandStack.size() - 1);
+        BinaryExpression binaryExpression = new BinaryExpression(firstOperand, secondOperand,
+                this.operators.get(operator));
+        binaryExpression.setLine(this.lines.get(operator));
+        operandStack.add(binaryExpression);
+    }
+
+    private static int precedence(BinaryOperator operator) {
+        switch (operator) {
+            case or:
+                return 1;
+            case and:
+                return 2;
+            case eq:
+                return 3;
+            case gt:
+            case lt:
+                return 4;
+            case add:
+            case sub:
+                return 5;
+            case mult:
+            case div:
+                return 6;
+            default:
+                throw new IllegalArgumentException("not an orExpression operator: " + operator);
+        }
+    }
+}
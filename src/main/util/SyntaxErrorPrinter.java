@@ -0,0 +1,22 @@
+package main.util;
+
+import org.antlr.v4.runtime.BaseErrorListener;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.Recognizer;
+
+import java.io.PrintStream;
+
+//Same format as ANTLR's ConsoleErrorListener, but to a stream of our choice
+public class SyntaxErrorPrinter extends BaseErrorListener {
+    private final PrintStream out;
+
+    public SyntaxErrorPrinter(PrintStream out) {
+        this.out = out;
+    }
+
+    @Override
+    public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line, int charPositionInLine,
+                            String msg, RecognitionException e) {
+        this.out.println("line " + line + ":" + charPositionInLine + " " + msg);
+    }
+}
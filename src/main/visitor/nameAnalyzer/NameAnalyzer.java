@@ -1,27 +1,38 @@
 package main.visitor.nameAnalyzer;
 
+import main.CompilationContext;
 import main.ast.nodes.Program;
 import main.ast.nodes.declaration.classDec.ClassDeclaration;
-import main.symbolTable.SymbolTable;
-import main.symbolTable.exceptions.ItemNotFoundException;
+import main.symbolTable.ClassMemberTable;
 import main.symbolTable.items.ClassSymbolTableItem;
 import main.symbolTable.utils.graph.Graph;
-import main.symbolTable.utils.graph.exceptions.GraphDoesNotContainNodeException;
-import main.symbolTable.utils.graph.exceptions.NodeAlreadyExistsException;
+
+import java.util.concurrent.ForkJoinPool;
 
 public class NameAnalyzer {
     private Program program;
-    private Graph<String> classHierarchy;
+    private CompilationContext context;
+    private ForkJoinPool pool;
+
+    public NameAnalyzer(Program program, CompilationContext context) {
+        this(program, context, null);
+    }
 
-    public NameAnalyzer(Program program) {
+    // With a pool, the members of the classes are collected in parallel on it
+    public NameAnalyzer(Program program, CompilationContext context, ForkJoinPool pool) {
         this.program = program;
+        this.context = context;
+        this.pool = pool;
     }
 
     public void analyze() {
-        NameCollector nameCollector = new NameCollector();
-        this.program.accept(nameCollector);
+        if (this.pool == null)
+            this.program.accept(new NameCollector(this.context));
+        else
+            new ParallelNameCollector(this.context, this.pool).collect(this.program);
         this.linkParentSymbolTables();
-        NameChecker nameChecker = new NameChecker(classHierarchy);
+        this.context.setClassMembers(ClassMemberTable.build(this.context.getRoot()));
+        NameChecker nameChecker = new NameChecker(this.context);
         this.program.accept(nameChecker);
     }
 
@@ -29,26 +40,24 @@ public class NameAnalyzer {
         Graph<String> classHierarchy = new Graph<>();
         for (ClassDeclaration classDeclaration : this.program.getClasses()) {
             String className = classDeclaration.getClassName().getName();
-            try {
-                classHierarchy.addNode(className);
-            } catch (NodeAlreadyExistsException ignored) { }
+            classHierarchy.tryAddNode(className);
             if (classDeclaration.getParentClassName() == null)
                 continue;
             String parentName = classDeclaration.getParentClassName().getName();
-            try {
-                classHierarchy.addNodeAsParentOf(className, parentName);
-                ClassSymbolTableItem parentSTI = (ClassSymbolTableItem) SymbolTable.root
-                        .getItem(ClassSymbolTableItem.START_KEY + parentName, true);
-                ClassSymbolTableItem thisClassSTI = (ClassSymbolTableItem) SymbolTable.root
-                        .getItem(ClassSymbolTableItem.START_KEY + className, true);
+            classHierarchy.tryAddNodeAsParentOf(className, parentName);
+            ClassSymbolTableItem parentSTI = (ClassSymbolTableItem) this.context.getRoot()
+                    .lookup(ClassSymbolTableItem.START_KEY + parentName, true);
+            ClassSymbolTableItem thisClassSTI = (ClassSymbolTableItem) this.context.getRoot()
+                    .lookup(ClassSymbolTableItem.START_KEY + className, true);
+            if (parentSTI != null && thisClassSTI != null)
                 thisClassSTI.getClassSymbolTable().pre = parentSTI.getClassSymbolTable();
-            } catch (ItemNotFoundException | GraphDoesNotContainNodeException ignored) { }
         }
-        this.classHierarchy = classHierarchy;
+        classHierarchy.freeze();
+        this.context.setClassHierarchy(classHierarchy);
     }
 
     public Graph<String> getClassHierarchy() {
-        return classHierarchy;
+        return this.context.getClassHierarchy();
     }
 
 }
\ No newline at end of file
@@ -1,44 +1,115 @@
 package main.visitor.nameAnalyzer;
 
+import main.CompilationContext;
 import main.ast.nodes.Program;
 import main.ast.nodes.declaration.classDec.ClassDeclaration;
 import main.ast.nodes.declaration.classDec.classMembersDec.ConstructorDeclaration;
 import main.ast.nodes.declaration.classDec.classMembersDec.FieldDeclaration;
 import main.ast.nodes.declaration.classDec.classMembersDec.MethodDeclaration;
+import main.ast.nodes.expression.*;
+import main.ast.nodes.statement.*;
+import main.ast.nodes.statement.set.*;
 import main.compileError.nameError.ClassInCyclicInheritance;
 import main.compileError.nameError.FieldRedefinition;
 import main.compileError.nameError.MethodNameConflictWithField;
 import main.compileError.nameError.MethodRedefinition;
+import main.symbolTable.ClassMemberTable;
 import main.symbolTable.SymbolTable;
-import main.symbolTable.exceptions.ItemNotFoundException;
 import main.symbolTable.items.ClassSymbolTableItem;
 import main.symbolTable.items.FieldSymbolTableItem;
+import main.symbolTable.items.LocalVariableSymbolTableItem;
 import main.symbolTable.items.MethodSymbolTableItem;
+import main.symbolTable.items.SymbolTableItem;
 import main.symbolTable.utils.graph.Graph;
+import main.util.ArgPair;
 import main.visitor.Visitor;
 
+import java.util.*;
+
+//Reports the name errors left after collection and, while it walks the method bodies, binds every identifier used as
+//a variable to the argument, local or global it names, so the type checker reads the declaration off the node. The
+//lookup is the one the type checker would do: the method is found by name in its class, then the name is searched in
+//the method's table and up its pre chain. Only method tables and root hold variables, so the chain is reduced to
+//those two, root being visible only when the class chain actually ends there (a class on or below an inheritance
+//cycle never reaches it).
 public class NameChecker extends Visitor<Void> {
     private String currentClassName;
+    private CompilationContext context;
     private Graph<String> classHierarchy;
-    Program root;
+    private Map<String, Set<String>> ownFieldNames = new HashMap<>();
+    private Map<SymbolTable, Boolean> reachesRoot = new IdentityHashMap<>();
+    private ClassMemberTable currentClassMembers;
+    private SymbolTable methodSymbolTable;
+    private boolean globalsVisible;
 
-    public NameChecker(Graph<String> classHierarchy) {
-        this.classHierarchy = classHierarchy;
+    public NameChecker(CompilationContext context) {
+        this.context = context;
+        this.classHierarchy = context.getClassHierarchy();
     }
 
     private SymbolTable getCurrentClassSymbolTable() {
-        try {
-            ClassSymbolTableItem classSymbolTableItem = (ClassSymbolTableItem)
-                    SymbolTable.root.getItem(ClassSymbolTableItem.START_KEY + this.currentClassName, true);
-            return classSymbolTableItem.getClassSymbolTable();
-        } catch (ItemNotFoundException ignored) {
-            return null;
+        ClassSymbolTableItem classSymbolTableItem = (ClassSymbolTableItem)
+                this.context.getRoot().lookup(ClassSymbolTableItem.START_KEY + this.currentClassName, true);
+        return classSymbolTableItem == null ? null : classSymbolTableItem.getClassSymbolTable();
+    }
+
+    private Set<String> collectOwnFieldNames(String className) {
+        Set<String> fieldNames = new HashSet<>();
+        ClassSymbolTableItem classSymbolTableItem = (ClassSymbolTableItem)
+                this.context.getRoot().lookup(ClassSymbolTableItem.START_KEY + className, true);
+        if (classSymbolTableItem == null)
+            return fieldNames;
+        for (SymbolTableItem item : classSymbolTableItem.getClassSymbolTable().getItems())
+            if (item instanceof FieldSymbolTableItem)
+                fieldNames.add(item.getName());
+        return fieldNames;
+    }
+
+    // Walks the subclasses of the class only, each one once even when the hierarchy has a cycle
+    private boolean isFieldOfSubclass(String className, String fieldName) {
+        Set<String> visited = new HashSet<>();
+        visited.add(className);
+        ArrayDeque<String> pending = new ArrayDeque<>(this.classHierarchy.getChildrenOfNode(className));
+        while (!pending.isEmpty()) {
+            String childName = pending.poll();
+            if (!visited.add(childName))
+                continue;
+            if (this.ownFieldNames.get(childName).contains(fieldName))
+                return true;
+            pending.addAll(this.classHierarchy.getChildrenOfNode(childName));
+        }
+        return false;
+    }
+
+    private boolean chainReachesRoot(SymbolTable classSymbolTable) {
+        Set<SymbolTable> path = new LinkedHashSet<>();
+        SymbolTable current = classSymbolTable;
+        Boolean result = null;
+        while (result == null) {
+            if (current == null)
+                result = false;
+            else if (current == this.context.getRoot())
+                result = true;
+            else if (this.reachesRoot.containsKey(current))
+                result = this.reachesRoot.get(current);
+            else if (path.contains(current))
+                result = false;
+            else {
+                path.add(current);
+                current = current.pre;
+            }
         }
+        for (SymbolTable onPath : path)
+            this.reachesRoot.put(onPath, result);
+        return result;
     }
 
     @Override
     public Void visit(Program program) {
-        this.root = program;
+        for(ClassDeclaration classDeclaration : program.getClasses()) {
+            String className = classDeclaration.getClassName().getName();
+            this.ownFieldNames.put(className, this.collectOwnFieldNames(className));
+        }
         for(ClassDeclaration classDeclaration : program.getClasses()) {
             this.currentClassName = classDeclaration.getClassName().getName();
             classDeclaration.accept(this);
@@ -49,11 +120,18 @@ public class NameChecker extends Visitor<Void> {
     @Override
     public Void visit(ClassDeclaration classDeclaration) {
         if(classDeclaration.getParentClassName() != null) {
-            if (this.classHierarchy.isSecondNodeAncestorOf(classDeclaration.getParentClassName().getName(), classDeclaration.getClassName().getName())) {
+            // redefined classes are renamed before the hierarchy is built, so every class has a single parent edge
+            // and its parent leads back to it exactly when it lies on a cycle
+            if (this.classHierarchy.isNodeInCycle(classDeclaration.getClassName().getName())) {
                 ClassInCyclicInheritance exception = new ClassInCyclicInheritance(classDeclaration.getLine(), classDeclaration.getClassName().getName());
-                classDeclaration.addError(exception);
+                this.context.getDiagnostics().report(classDeclaration, exception);
             }
         }
+        this.currentClassMembers = this.context.getClassMembers(classDeclaration.getClassName().getName());
+        if (this.currentClassMembers != null) {
+            SymbolTable classSymbolTable = this.currentClassMembers.getClassSymbolTableItem().getClassSymbolTable();
+            this.globalsVisible = this.chainReachesRoot(classSymbolTable);
+        }
         for(FieldDeclaration fieldDeclaration : classDeclaration.getFields()) {
             fieldDeclaration.accept(this);
         }
@@ -74,57 +152,221 @@ public class NameChecker extends Visitor<Void> {
 
     @Override
     public Void visit(MethodDeclaration methodDeclaration) {
-        if(!methodDeclaration.hasError()) {
-            try {
-                SymbolTable classSymbolTable = this.getCurrentClassSymbolTable();
-                assert classSymbolTable != null;
-                classSymbolTable.getItem(MethodSymbolTableItem.START_KEY + methodDeclaration.getMethodName().getName(), false);
+        SymbolTable classSymbolTable = this.getCurrentClassSymbolTable();
+        assert classSymbolTable != null;
+        if(!this.context.getDiagnostics().hasErrors(methodDeclaration)) {
+            if (classSymbolTable.lookup(MethodSymbolTableItem.START_KEY + methodDeclaration.getMethodName().getName(), false) != null) {
                 MethodRedefinition exception = new MethodRedefinition(methodDeclaration.getLine(), methodDeclaration.getMethodName().getName());
-                methodDeclaration.addError(exception);
-            } catch (ItemNotFoundException ignored) {
+                this.context.getDiagnostics().report(methodDeclaration, exception);
             }
         }
         boolean errored = false;
-        try {
-            SymbolTable classSymbolTable = this.getCurrentClassSymbolTable();
-            assert classSymbolTable != null;
-            classSymbolTable.getItem(FieldSymbolTableItem.START_KEY + methodDeclaration.getMethodName().getName(), true);
+        if (classSymbolTable.lookup(FieldSymbolTableItem.START_KEY + methodDeclaration.getMethodName().getName(), true) != null) {
             MethodNameConflictWithField exception = new MethodNameConflictWithField(methodDeclaration.getLine(), methodDeclaration.getMethodName().getName());
-            methodDeclaration.addError(exception);
+            this.context.getDiagnostics().report(methodDeclaration, exception);
             errored = true;
-        } catch (ItemNotFoundException ignored) {
         }
-        if(!errored)
-            for(ClassDeclaration classDeclaration : root.getClasses()) {
-                String childName = classDeclaration.getClassName().getName();
-                if(classHierarchy.isSecondNodeAncestorOf(childName, currentClassName)) {
-                    try {
-                        ClassSymbolTableItem childSymbolTableItem = (ClassSymbolTableItem) SymbolTable.root.getItem(ClassSymbolTableItem.START_KEY + childName, true);
-                        SymbolTable childSymbolTable = childSymbolTableItem.getClassSymbolTable();
-                        childSymbolTable.getItem(FieldSymbolTableItem.START_KEY + methodDeclaration.getMethodName().getName(), true);
-                        MethodNameConflictWithField exception = new MethodNameConflictWithField(methodDeclaration.getLine(), methodDeclaration.getMethodName().getName());
-                        methodDeclaration.addError(exception);
-                        break;
-                    } catch (ItemNotFoundException ignored) {
-                    }
-                }
-            }
+        if(!errored && this.isFieldOfSubclass(this.currentClassName, methodDeclaration.getMethodName().getName())) {
+            MethodNameConflictWithField exception = new MethodNameConflictWithField(methodDeclaration.getLine(), methodDeclaration.getMethodName().getName());
+            this.context.getDiagnostics().report(methodDeclaration, exception);
+        }
+        this.bindIdentifiers(methodDeclaration);
         return null;
     }
 
+    private void bindIdentifiers(MethodDeclaration methodDeclaration) {
+        MethodSymbolTableItem methodSymbolTableItem = this.currentClassMembers == null ? null
+                : this.currentClassMembers.getMethod(methodDeclaration.getMethodName().getName());
+        if (methodSymbolTableItem == null)
+            return;
+        this.methodSymbolTable = methodSymbolTableItem.getMethodSymbolTable();
+        for (ArgPair argPair : methodDeclaration.getArgs())
+            this.bind(argPair.getDefaultValue());
+        for (Statement statement : methodDeclaration.getBody())
+            this.bind(statement);
+        this.methodSymbolTable = null;
+    }
+
     @Override
     public Void visit(FieldDeclaration fieldDeclaration) {
-        if(!fieldDeclaration.hasError()) {
-            try {
-                SymbolTable classSymbolTable = this.getCurrentClassSymbolTable();
-                assert classSymbolTable != null;
-                classSymbolTable.getItem(FieldSymbolTableItem.START_KEY + fieldDeclaration.getVarDeclaration().getVarName().getName(), false);
+        if(!this.context.getDiagnostics().hasErrors(fieldDeclaration)) {
+            SymbolTable classSymbolTable = this.getCurrentClassSymbolTable();
+            assert classSymbolTable != null;
+            if (classSymbolTable.lookup(FieldSymbolTableItem.START_KEY + fieldDeclaration.getVarDeclaration().getVarName().getName(), false) != null) {
                 FieldRedefinition exception = new FieldRedefinition(fieldDeclaration.getLine(), fieldDeclaration.getVarDeclaration().getVarName().getName());
-                fieldDeclaration.addError(exception);
-            } catch (ItemNotFoundException ignored) {
+                this.context.getDiagnostics().report(fieldDeclaration, exception);
             }
         }
         return null;
     }
 
-}
\ No newline at end of file
+    private void bind(Expression expression) {
+        if (expression != null)
+            expression.accept(this);
+    }
+
+    private void bind(Statement statement) {
+        if (statement != null)
+            statement.accept(this);
+    }
+
+    @Override
+    public Void visit(Identifier identifier) {
+        String key = LocalVariableSymbolTableItem.START_KEY + identifier.getName();
+        SymbolTableItem item = this.methodSymbolTable.getOwnItem(key);
+        if (item == null && this.globalsVisible)
+            item = this.context.getRoot().getOwnItem(key);
+        identifier.setSymbol(item instanceof LocalVariableSymbolTableItem ? item : null);
+        return null;
+    }
+
+    @Override
+    public Void visit(AssignmentStmt assignmentStmt) {
+        this.bind(assignmentStmt.getlValue());
+        this.bind(assignmentStmt.getrValue());
+        return null;
+    }
+
+    @Override
+    public Void visit(BlockStmt blockStmt) {
+        for (Statement statement : blockStmt.getStatements())
+            this.bind(statement);
+        return null;
+    }
+
+    @Override
+    public Void visit(ConditionalStmt conditionalStmt) {
+        this.bind(conditionalStmt.getCondition());
+        this.bind(conditionalStmt.getThenBody());
+        for (ElsifStmt elsifStmt : conditionalStmt.getElsif())
+            this.bind(elsifStmt);
+        this.bind(conditionalStmt.getElseBody());
+        return null;
+    }
+
+    @Override
+    public Void visit(ElsifStmt elsifStmt) {
+        this.bind(elsifStmt.getCondition());
+        this.bind(elsifStmt.getThenBody());
+        return null;
+    }
+
+    @Override
+    public Void visit(MethodCallStmt methodCallStmt) {
+        this.bind(methodCallStmt.getMethodCall());
+        return null;
+    }
+
+    @Override
+    public Void visit(PrintStmt print) {
+        this.bind(print.getArg());
+        return null;
+    }
+
+    @Override
+    public Void visit(ReturnStmt returnStmt) {
+        this.bind(returnStmt.getReturnedExpr());
+        return null;
+    }
+
+    @Override
+    public Void visit(EachStmt eachStmt) {
+        this.bind(eachStmt.getVariable());
+        this.bind(eachStmt.getList());
+        this.bind(eachStmt.getBody());
+        return null;
+    }
+
+    @Override
+    public Void visit(SetDelete setDelete) {
+        this.bind(setDelete.getSetArg());
+        this.bind(setDelete.getElementArg());
+        return null;
+    }
+
+    @Override
+    public Void visit(SetMerge setMerge) {
+        this.bind(setMerge.getSetArg());
+        for (Expression expression : setMerge.getElementArgs())
+            this.bind(expression);
+        return null;
+    }
+
+    @Override
+    public Void visit(SetAdd setAdd) {
+        this.bind(setAdd.getSetArg());
+        this.bind(setAdd.getElementArg());
+        return null;
+    }
+
+    @Override
+    public Void visit(BinaryExpression binaryExpression) {
+        this.bind(binaryExpression.getFirstOperand());
+        this.bind(binaryExpression.getSecondOperand());
+        return null;
+    }
+
+    @Override
+    public Void visit(UnaryExpression unaryExpression) {
+        this.bind(unaryExpression.getOperand());
+        return null;
+    }
+
+    @Override
+    public Void visit(TernaryExpression ternaryExpression) {
+        this.bind(ternaryExpression.getCondition());
+        this.bind(ternaryExpression.getTrueExpression());
+        this.bind(ternaryExpression.getFalseExpression());
+        return null;
+    }
+
+    // the member name is looked up in the class of the instance, never as a variable
+    @Override
+    public Void visit(ObjectMemberAccess objectMemberAccess) {
+        this.bind(objectMemberAccess.getInstance());
+        return null;
+    }
+
+    @Override
+    public Void visit(ArrayAccessByIndex arrayAccessByIndex) {
+        this.bind(arrayAccessByIndex.getInstance());
+        this.bind(arrayAccessByIndex.getIndex());
+        return null;
+    }
+
+    @Override
+    public Void visit(MethodCall methodCall) {
+        this.bind(methodCall.getInstance());
+        for (Expression expression : methodCall.getArgs())
+            this.bind(expression);
+        return null;
+    }
+
+    @Override
+    public Void visit(NewClassInstance newClassInstance) {
+        for (Expression expression : newClassInstance.getArgs())
+            this.bind(expression);
+        return null;
+    }
+
+    @Override
+    public Void visit(SetInclude setInclude) {
+        this.bind(setInclude.getSetArg());
+        this.bind(setInclude.getElementArg());
+        return null;
+    }
+
+    @Override
+    public Void visit(SetNew setNew) {
+        for (Expression expression : setNew.getArgs())
+            this.bind(expression);
+        return null;
+    }
+
+    @Override
+    public Void visit(RangeExpression rangeExpression) {
+        this.bind(rangeExpression.getLeftExpression());
+        this.bind(rangeExpression.getRightExpression());
+        return null;
+    }
+}
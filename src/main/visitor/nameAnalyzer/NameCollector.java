@@ -1,5 +1,6 @@
 package main.visitor.nameAnalyzer;
 
+import main.CompilationContext;
 import main.ast.nodes.Program;
 import main.ast.nodes.declaration.classDec.ClassDeclaration;
 import main.ast.nodes.declaration.classDec.classMembersDec.ConstructorDeclaration;
@@ -7,6 +8,7 @@ import main.ast.nodes.declaration.classDec.classMembersDec.FieldDeclaration;
 import main.ast.nodes.declaration.classDec.classMembersDec.MethodDeclaration;
 import main.ast.nodes.declaration.variableDec.VariableDeclaration;
 import main.ast.nodes.expression.Identifier;
+import main.ast.types.TypeInterner;
 import main.compileError.nameError.ClassRedefinition;
 import main.compileError.nameError.GlobalVarRedefinition;
 import main.compileError.nameError.LocalVarConflictWithGlobalVar;
@@ -14,8 +16,6 @@ import main.compileError.nameError.LocalVarRedefinition;
 import main.compileError.nameError.FieldRedefinition;
 import main.compileError.nameError.MethodRedefinition;
 import main.symbolTable.SymbolTable;
-import main.symbolTable.exceptions.ItemAlreadyExistsException;
-import main.symbolTable.exceptions.ItemNotFoundException;
 import main.symbolTable.items.ClassSymbolTableItem;
 import main.symbolTable.items.FieldSymbolTableItem;
 import main.symbolTable.items.LocalVariableSymbolTableItem;
@@ -27,43 +27,59 @@ public class NameCollector extends Visitor<Void> {
 
     private int newId = 1;
     private boolean isGlobal = false;
+    private CompilationContext context;
+
+    public NameCollector(CompilationContext context) {
+        this.context = context;
+    }
 
     @Override
     public Void visit(Program program) {
-        SymbolTable.push(new SymbolTable());
-        SymbolTable.root = SymbolTable.top;
-        isGlobal = true;
-        for (VariableDeclaration variableDeclaration : program.getGlobalVariables())
-            variableDeclaration.accept(this);
-        isGlobal = false;
-
+        this.collectGlobals(program);
         for(ClassDeclaration classDeclaration : program.getClasses()) {
             classDeclaration.accept(this);
         }
         return null;
     }
 
+    // Creates root, which stays on top of the stack, and puts the global variables in it
+    void collectGlobals(Program program) {
+        this.context.push(new SymbolTable());
+        this.context.setRoot(this.context.getTop());
+        isGlobal = true;
+        for (VariableDeclaration variableDeclaration : program.getGlobalVariables())
+            variableDeclaration.accept(this);
+        isGlobal = false;
+    }
+
     @Override
     public Void visit(ClassDeclaration classDeclaration) {
+        SymbolTable classSymbolTable = new SymbolTable(this.context.getTop());
+        this.putClass(classDeclaration, classSymbolTable);
+        this.collectMembers(classDeclaration, classSymbolTable);
+        return null;
+    }
+
+    // Puts the class in root, renamed to a fresh "N@" when a class of that name is already there
+    void putClass(ClassDeclaration classDeclaration, SymbolTable classSymbolTable) {
         ClassSymbolTableItem classSymbolTableItem = new ClassSymbolTableItem(classDeclaration);
-        SymbolTable.push(new SymbolTable(SymbolTable.top));
-        classSymbolTableItem.setClassSymbolTable(SymbolTable.top);
-        try {
-            SymbolTable.root.put(classSymbolTableItem);
-        } catch (ItemAlreadyExistsException e) {
+        classSymbolTableItem.setClassSymbolTable(classSymbolTable);
+        if (!this.context.getRoot().tryPut(classSymbolTableItem)) {
             ClassRedefinition exception = new ClassRedefinition(classDeclaration.getLine(), classDeclaration.getClassName().getName());
-            classDeclaration.addError(exception);
+            this.context.getDiagnostics().report(classDeclaration, exception);
             String newName = newId + "@";
             newId += 1;
             classDeclaration.setClassName(new Identifier(newName));
-            try {
-                ClassSymbolTableItem newClassSym = new ClassSymbolTableItem(classDeclaration);
-                newClassSym.setClassSymbolTable(SymbolTable.top);
-                SymbolTable.root.put(newClassSym);
-            } catch (ItemAlreadyExistsException e1) { //Unreachable
-            }
+            ClassSymbolTableItem newClassSym = new ClassSymbolTableItem(classDeclaration);
+            newClassSym.setClassSymbolTable(classSymbolTable);
+            this.context.getRoot().tryPut(newClassSym); // "N@" names cannot clash
 //            exception.handleException();
         }
+    }
+
+    // Fills the class's own table with its fields and methods; reads nothing of other classes, only root's globals
+    void collectMembers(ClassDeclaration classDeclaration, SymbolTable classSymbolTable) {
+        this.context.push(classSymbolTable);
         for(FieldDeclaration fieldDeclaration : classDeclaration.getFields()) {
             fieldDeclaration.accept(this);
         }
@@ -73,8 +89,7 @@ public class NameCollector extends Visitor<Void> {
         for(MethodDeclaration methodDeclaration : classDeclaration.getMethods()) {
             methodDeclaration.accept(this);
         }
-        SymbolTable.pop();
-        return null;
+        this.context.pop();
     }
 
     @Override
@@ -86,62 +101,61 @@ public class NameCollector extends Visitor<Void> {
     @Override
     public Void visit(MethodDeclaration methodDeclaration) {
         MethodSymbolTableItem methodSymbolTableItem = new MethodSymbolTableItem(methodDeclaration);
-        SymbolTable methodSymbolTable = new SymbolTable(SymbolTable.top);
+        TypeInterner types = this.context.getTypes();
+        methodSymbolTableItem.setReturnType(types.intern(methodSymbolTableItem.getReturnType()));
+        methodSymbolTableItem.getArgTypes().replaceAll(types::intern);
+        SymbolTable methodSymbolTable = new SymbolTable(this.context.getTop());
         methodSymbolTableItem.setMethodSymbolTable(methodSymbolTable);
-        try {
-            SymbolTable.top.put(methodSymbolTableItem);
-        } catch (ItemAlreadyExistsException e) {
+        if (!this.context.getTop().tryPut(methodSymbolTableItem)) {
             MethodRedefinition exception = new MethodRedefinition(methodDeclaration.getLine(), methodDeclaration.getMethodName().getName());
-            methodDeclaration.addError(exception);
+            this.context.getDiagnostics().report(methodDeclaration, exception);
         }
-        SymbolTable.push(methodSymbolTable);
+        this.context.push(methodSymbolTable);
         for(ArgPair argPair : methodDeclaration.getArgs()) {
             VariableDeclaration variableDeclaration = argPair.getVariableDeclaration();
-            try {
-                SymbolTable.root.getItem(LocalVariableSymbolTableItem.START_KEY + variableDeclaration.getVarName().getName(), true);
+            if (this.context.getRoot().lookup(LocalVariableSymbolTableItem.START_KEY + variableDeclaration.getVarName().getName(), true) != null) {
                 LocalVarConflictWithGlobalVar exception = new LocalVarConflictWithGlobalVar(variableDeclaration.getLine(), variableDeclaration.getVarName().getName());
-                variableDeclaration.addError(exception);
-            } catch (ItemNotFoundException ignored){
-                variableDeclaration.accept(this);
+                this.context.getDiagnostics().report(variableDeclaration, exception);
             }
+            else
+                variableDeclaration.accept(this);
 
         }
         for(VariableDeclaration varDeclaration : methodDeclaration.getLocalVars()) {
-            try {
-                SymbolTable.root.getItem(LocalVariableSymbolTableItem.START_KEY + varDeclaration.getVarName().getName(), true);
+            if (this.context.getRoot().lookup(LocalVariableSymbolTableItem.START_KEY + varDeclaration.getVarName().getName(), true) != null) {
                 LocalVarConflictWithGlobalVar exception = new LocalVarConflictWithGlobalVar(varDeclaration.getLine(), varDeclaration.getVarName().getName());
-                varDeclaration.addError(exception);
-            } catch (ItemNotFoundException ignored){
-                varDeclaration.accept(this);
+                this.context.getDiagnostics().report(varDeclaration, exception);
             }
+            else
+                varDeclaration.accept(this);
         }
-        SymbolTable.pop();
+        this.context.pop();
         return null;
     }
 
     @Override
     public Void visit(FieldDeclaration fieldDeclaration) {
-        try {
-            SymbolTable.top.put(new FieldSymbolTableItem(fieldDeclaration));
-        } catch (ItemAlreadyExistsException e) {
+        FieldSymbolTableItem fieldSymbolTableItem = new FieldSymbolTableItem(fieldDeclaration);
+        fieldSymbolTableItem.setType(this.context.getTypes().intern(fieldSymbolTableItem.getType()));
+        if (!this.context.getTop().tryPut(fieldSymbolTableItem)) {
             FieldRedefinition exception = new FieldRedefinition(fieldDeclaration.getLine(), fieldDeclaration.getVarDeclaration().getVarName().getName());
-            fieldDeclaration.addError(exception);
+            this.context.getDiagnostics().report(fieldDeclaration, exception);
         }
         return null;
     }
 
     @Override
     public Void visit(VariableDeclaration varDeclaration) {
-        try {
-            SymbolTable.top.put(new LocalVariableSymbolTableItem(varDeclaration));
-        } catch (ItemAlreadyExistsException e) {
+        LocalVariableSymbolTableItem localVariableSymbolTableItem = new LocalVariableSymbolTableItem(varDeclaration);
+        localVariableSymbolTableItem.setType(this.context.getTypes().intern(localVariableSymbolTableItem.getType()));
+        if (!this.context.getTop().tryPut(localVariableSymbolTableItem)) {
             if (!isGlobal) {
                 LocalVarRedefinition exception = new LocalVarRedefinition(varDeclaration.getLine(), varDeclaration.getVarName().getName());
-                varDeclaration.addError(exception);
+                this.context.getDiagnostics().report(varDeclaration, exception);
             }
             else {
                 GlobalVarRedefinition exception = new GlobalVarRedefinition(varDeclaration.getLine(), varDeclaration.getVarName().getName());
-                varDeclaration.addError(exception);
+                this.context.getDiagnostics().report(varDeclaration, exception);
             }
         }
         return null;
@@ -0,0 +1,69 @@
+package main.visitor.nameAnalyzer;
+
+import main.CompilationContext;
+import main.ast.nodes.Program;
+import main.ast.nodes.declaration.classDec.ClassDeclaration;
+import main.symbolTable.SymbolTable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+//Collects names like NameCollector, with the members of every class collected in parallel on a ForkJoinPool, each
+//class into its own table by a NameCollector of its own against a fork of the context.
+//A class's members only depend on root's globals, which are collected first and then left alone while the parts run.
+//Once all parts are done the classes are put into root one by one in program order, each followed by the merge of
+//its fork's diagnostics, so duplicate classes are reported and renamed to the same "N@" names, and every error comes
+//out in the order NameCollector gives.
+public class ParallelNameCollector {
+    private final CompilationContext context;
+    private final ForkJoinPool pool;
+
+    public ParallelNameCollector(CompilationContext context, ForkJoinPool pool) {
+        this.context = context;
+        this.pool = pool;
+    }
+
+    public void collect(Program program) {
+        NameCollector nameCollector = new NameCollector(this.context);
+        nameCollector.collectGlobals(program);
+        List<ClassPart> parts = new ArrayList<>();
+        for (ClassDeclaration classDeclaration : program.getClasses())
+            parts.add(new ClassPart(classDeclaration));
+        for (ClassPart part : parts)
+            this.pool.execute(part);
+        // root is read by every part, so nothing goes into it before they are all done
+        for (ClassPart part : parts)
+            part.join();
+
+        for (ClassPart part : parts) {
+            nameCollector.putClass(part.classDeclaration, part.classSymbolTable);
+            if (part.failure != null)
+                throw part.failure;
+            this.context.getDiagnostics().merge(part.fork.getDiagnostics());
+        }
+    }
+
+    private class ClassPart extends RecursiveAction {
+        private final ClassDeclaration classDeclaration;
+        private final SymbolTable classSymbolTable;
+        private final CompilationContext fork;
+        private RuntimeException failure;
+
+        ClassPart(ClassDeclaration classDeclaration) {
+            this.classDeclaration = classDeclaration;
+            this.classSymbolTable = new SymbolTable(context.getRoot());
+            this.fork = context.fork();
+        }
+
+        @Override
+        protected void compute() {
+            try {
+                new NameCollector(this.fork).collectMembers(this.classDeclaration, this.classSymbolTable);
+            } catch (RuntimeException e) {
+                this.failure = e;
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package main.visitor.typeChecker;
 
+import main.CompilationContext;
 import main.ast.nodes.Node;
 import main.ast.nodes.declaration.classDec.ClassDeclaration;
 import main.ast.nodes.declaration.classDec.classMembersDec.MethodDeclaration;
@@ -14,16 +15,16 @@ import main.ast.nodes.expression.values.primitive.IntValue;
 import main.ast.types.NoType;
 import main.ast.types.NullType;
 import main.ast.types.Type;
+import main.ast.types.TypeInterner;
+import main.ast.types.TypeKind;
+import main.ast.types.TypeRelationCache;
 import main.ast.types.array.ArrayType;
 import main.ast.types.functionPointer.FptrType;
-import main.ast.types.primitives.BoolType;
 import main.ast.types.primitives.ClassType;
-import main.ast.types.primitives.IntType;
-import main.ast.types.primitives.VoidType;
 import main.ast.types.set.SetType;
+import main.compileError.CompileError;
 import main.compileError.typeError.*;
-import main.symbolTable.SymbolTable;
-import main.symbolTable.exceptions.ItemNotFoundException;
+import main.symbolTable.ClassMemberTable;
 import main.symbolTable.items.*;
 import main.symbolTable.utils.graph.Graph;
 import main.symbolTable.utils.graph.exceptions.GraphDoesNotContainNodeException;
@@ -34,34 +35,109 @@ import main.ast.nodes.declaration.classDec.classMembersDec.FieldDeclaration;
 import java.util.ArrayList;
 
 public class ExpressionTypeChecker extends Visitor<Type> {
+    private CompilationContext context;
     private Graph<String> classHierarchy;
     private boolean isInMethodCallStmnt = false;
     private MethodDeclaration curr_method;
     private ClassDeclaration curr_class;
     private boolean noneLeftValueSeen = false;
+    private boolean methodAccessSeen = false;
+    private boolean lastIsLeftVal;
+    private MethodSymbolTableItem lastLeftValMethod;
+    private Type assignedType;
     private String current_class;
 
     private MethodSymbolTableItem current_method_symbol_table;
+    private boolean currentMethodUnknown = false;
 
-    public ExpressionTypeChecker(Graph<String> classHierarchy) {
-        this.classHierarchy = classHierarchy;
+    // Thrown by a checker whose current method is unknown when a call needs it; carries no stack trace
+    static final class CurrentMethodUnknown extends RuntimeException {
+        static final CurrentMethodUnknown INSTANCE = new CurrentMethodUnknown();
+
+        private CurrentMethodUnknown() {
+            super(null, null, false, false);
+        }
+    }
+
+    public ExpressionTypeChecker(CompilationContext context) {
+        this.context = context;
+        this.classHierarchy = context.getClassHierarchy();
+    }
+
+    // A call through a function pointer is checked against the method last accessed as a member, which may be one
+    // accessed while checking an earlier method. A checker started part way through a program does not know that
+    // method: until it accesses one itself, a call that needs it throws CurrentMethodUnknown
+    void forgetCurrentMethod() {
+        this.current_method_symbol_table = null;
+        this.currentMethodUnknown = true;
+    }
+
+    void setCurrentMethod(MethodSymbolTableItem methodSymbolTableItem) {
+        this.current_method_symbol_table = methodSymbolTableItem;
+        this.currentMethodUnknown = false;
+    }
+
+    boolean isCurrentMethodKnown() {
+        return !this.currentMethodUnknown;
+    }
+
+    MethodSymbolTableItem getCurrentMethod() {
+        return this.current_method_symbol_table;
     }
 
     public void setCurrClass(ClassDeclaration classDeclaration) {
         this.curr_class = classDeclaration;
     }
 
-    // Done
-    public boolean isLeftVal(Expression expression) {
-        boolean oldIsCatchErrorsActive = Node.isCatchErrorsActive;
+    // Types an expression and records the type on it, so later passes read it off the node
+    public Type typeOf(Expression expression) {
+        Type type = expression.accept(this);
+        expression.setType(type);
+        return type;
+    }
+
+    // Types the target of an assignment or of ++ and --, leaving in lastIsLeftVal whether it is an l-value, so the
+    // target is typed once. noneLeftValueSeen is cleared for the visit, which then sets it only for what is in the
+    // target itself; what it held before is folded back in.
+    private Type acceptLeftVal(Expression expression) {
         boolean oldNoneLeftValueSeen = this.noneLeftValueSeen;
-        Node.isCatchErrorsActive = false;
+        boolean oldMethodAccessSeen = this.methodAccessSeen;
         this.noneLeftValueSeen = false;
-        expression.accept(this);
-        boolean isLeftVal = !this.noneLeftValueSeen;
-        Node.isCatchErrorsActive = oldIsCatchErrorsActive;
-        this.noneLeftValueSeen = oldNoneLeftValueSeen;
-        return isLeftVal;
+        this.methodAccessSeen = false;
+        Type type = this.typeOf(expression);
+        this.lastIsLeftVal = !this.noneLeftValueSeen;
+        this.lastLeftValMethod = this.methodAccessSeen ? this.current_method_symbol_table : null;
+        this.noneLeftValueSeen |= oldNoneLeftValueSeen;
+        this.methodAccessSeen |= oldMethodAccessSeen;
+        return type;
+    }
+
+    // Types both sides of an assignment, target first, and returns the target's type. The value's type is left in
+    // getAssignedType and whether the target is an l-value in isLastLeftVal.
+    // A method accessed in the target is current again afterwards, as a call through a function pointer is checked
+    // against the current method
+    public Type acceptAssignment(Expression lValue, Expression rValue) {
+        Type lType = this.acceptLeftVal(lValue);
+        boolean isLeftVal = this.lastIsLeftVal;
+        MethodSymbolTableItem leftValMethod = this.lastLeftValMethod;
+        Type rType = this.typeOf(rValue);
+        if (leftValMethod != null)
+            this.current_method_symbol_table = leftValMethod;
+        this.lastIsLeftVal = isLeftVal;
+        this.assignedType = rType;
+        return lType;
+    }
+
+    public boolean isLastLeftVal() {
+        return lastIsLeftVal;
+    }
+
+    public Type getAssignedType() {
+        return assignedType;
+    }
+
+    private void addError(Node node, CompileError error) {
+        this.context.getDiagnostics().report(node, error);
     }
 
     // Checks if Type List A and b are the same
@@ -76,68 +152,111 @@ public class ExpressionTypeChecker extends Visitor<Type> {
         return true;
     }
 
-    // Done
-    public boolean isAllSameType(Type first, Type second) {
-        if (first instanceof NoType)
-            return true;
-        else if (first instanceof BoolType && second instanceof BoolType)
-            return true;
-        else if (first instanceof IntType && second instanceof IntType)
-            return true;
-        else if (first instanceof SetType && second instanceof SetType)
-            return true;
-        else if (first instanceof VoidType && second instanceof VoidType)
-            return true;
-        else if (first instanceof ClassType) {
-            if ((second instanceof ClassType) == false)
+    // Interned types are equal exactly when identical, except that a null or NullType (a constructor's return type)
+    // is never the same as anything, itself included
+    private static boolean isSameAsItself(Type type) {
+        if (type == null)
+            return false;
+        switch (type.getKind()) {
+            case NULL:
                 return false;
-            String s1 = ((ClassType) first).getClassName().getName();
-            String s2 = ((ClassType) second).getClassName().getName();
-            return classHierarchy.isSecondNodeAncestorOf(s1, s2);
+            case FPTR:
+                return isSameAsItself(((FptrType) type).getReturnType());
+            default:
+                return true;
         }
-        else if (first instanceof ArrayType) {
-            if ((second instanceof ArrayType) == false)
-                return false;
+    }
 
-            Type t1 = ((ArrayType) first).getType();
-            Type t2 = ((ArrayType) second).getType();
-            return isAllSameType(t1, t2);
-        }
-        else if (first instanceof FptrType) {
-            if ((second instanceof FptrType) == false)
-                return false;
-            Type fptr1 = ((FptrType) first).getReturnType();
-            Type fptr2 = ((FptrType) second).getReturnType();
-            if (isAllSameType(fptr1, fptr2) == false)
+    // Structured types are compared through the cache, recursion into parts and hierarchy lookups included
+    private static boolean isWorthCaching(Type first, Type second) {
+        TypeKind kind = TypeKind.of(first);
+        return (kind == TypeKind.CLASS || kind == TypeKind.ARRAY || kind == TypeKind.FPTR)
+                && TypeRelationCache.canCache(first, second);
+    }
+
+    public boolean isAllSameType(Type first, Type second) {
+        if (first == second && isSameAsItself(first))
+            return true;
+        if (!isWorthCaching(first, second))
+            return this.computeIsAllSameType(first, second);
+        TypeRelationCache sameTypes = this.context.getSameTypes();
+        Boolean answer = sameTypes.get(first, second);
+        if (answer == null) {
+            answer = this.computeIsAllSameType(first, second);
+            sameTypes.put(first, second, answer);
+        }
+        return answer;
+    }
+
+    // Done
+    private boolean computeIsAllSameType(Type first, Type second) {
+        if (first == null)
+            return false;
+        TypeKind secondKind = TypeKind.of(second);
+        switch (first.getKind()) {
+            case NO_TYPE:
+                return true;
+            case BOOL:
+            case INT:
+            case SET:
+            case VOID:
+                return secondKind == first.getKind();
+            case CLASS: {
+                if (secondKind != TypeKind.CLASS)
+                    return false;
+                String s1 = ((ClassType) first).getClassName().getName();
+                String s2 = ((ClassType) second).getClassName().getName();
+                return classHierarchy.isSecondNodeAncestorOf(s1, s2);
+            }
+            case ARRAY: {
+                if (secondKind != TypeKind.ARRAY)
+                    return false;
+                Type t1 = ((ArrayType) first).getType();
+                Type t2 = ((ArrayType) second).getType();
+                return isAllSameType(t1, t2);
+            }
+            case FPTR: {
+                if (secondKind != TypeKind.FPTR)
+                    return false;
+                Type fptr1 = ((FptrType) first).getReturnType();
+                Type fptr2 = ((FptrType) second).getReturnType();
+                if (isAllSameType(fptr1, fptr2) == false)
+                    return false;
+                ArrayList<Type> arg2 = ((FptrType) second).getArgumentsTypes();
+                ArrayList<Type> arg1 = ((FptrType) first).getArgumentsTypes();
+                return isAllSameType(arg1, arg2);
+            }
+            default:
                 return false;
-            ArrayList<Type> arg2 = ((FptrType) second).getArgumentsTypes();
-            ArrayList<Type> arg1 = ((FptrType) first).getArgumentsTypes();
-            return isAllSameType(arg1, arg2);
         }
-        return false;
     }
 
     // Done
     public void checkNode(Node node, Type type) {
-        if (type instanceof ClassType) {
-            String class_name = ((ClassType) type).getClassName().getName();
-            if (!this.classHierarchy.doesGraphContainNode(class_name)) {
-                ClassNotDeclared exception = new ClassNotDeclared(node.getLine(), class_name);
-                node.addError(exception);
+        if (type == null)
+            return;
+        switch (type.getKind()) {
+            case CLASS: {
+                String class_name = ((ClassType) type).getClassName().getName();
+                if (!this.classHierarchy.doesGraphContainNode(class_name)) {
+                    ClassNotDeclared exception = new ClassNotDeclared(node.getLine(), class_name);
+                    this.addError(node, exception);
+                }
+                break;
+            }
+            case ARRAY:
+                for( Expression dimension : ((ArrayType) type).getDimensions())
+                    if (((IntValue)dimension).getConstant() == 0)
+                        this.addError(node, new CannotHaveEmptyArray(node.getLine()));
+                break;
+            case FPTR: {
+                Type returnType = ((FptrType) type).getReturnType();
+                ArrayList<Type> argTypes = ((FptrType) type).getArgumentsTypes();
+                this.checkNode(node, returnType);
+                for (Type argType : argTypes)
+                    this.checkNode(node, argType);
+                break;
             }
-        }
-        else if (type instanceof ArrayType) {
-            for( Expression dimension : ((ArrayType) type).getDimensions())
-                if (((IntValue)dimension).getConstant() == 0)
-                    node.addError(new CannotHaveEmptyArray(node.getLine()));
-        }
-
-        else if (type instanceof FptrType) {
-            Type returnType = ((FptrType) type).getReturnType();
-            ArrayList<Type> argTypes = ((FptrType) type).getArgumentsTypes();
-            this.checkNode(node, returnType);
-            for (Type argType : argTypes)
-                this.checkNode(node, argType);
         }
     }
 
@@ -147,107 +266,99 @@ public class ExpressionTypeChecker extends Visitor<Type> {
     public Type visit(BinaryExpression binaryExpression) {
         //Todo: Probably Done
         this.noneLeftValueSeen = true;
-        Type type1 = binaryExpression.getFirstOperand().accept(this);
-        Type type2 = binaryExpression.getSecondOperand().accept(this);
         BinaryOperator op = binaryExpression.getBinaryOperator();
-        if((op == BinaryOperator.eq)) {
-            if((type1 instanceof NoType) && (type2 instanceof NoType))
-                return new NoType();
-            else if((type1 instanceof NoType && type2 instanceof ArrayType)) {
-                UnsupportedOperandType exception = new UnsupportedOperandType(binaryExpression.getLine(), op.name());
-                binaryExpression.addError(exception);
-                return new NoType();
-            }
-            else if (type2 instanceof NoType && type1 instanceof ArrayType) {
-                UnsupportedOperandType exception = new UnsupportedOperandType(binaryExpression.getLine(), op.name());
-                binaryExpression.addError(exception);
-                return new NoType();
-            }
-            else if( (type1 instanceof NoType) || (type2 instanceof NoType) )
-                return new NoType();
-            if((type1 instanceof IntType || type1 instanceof BoolType) && type1.toString().equals(type2.toString()))
-                return new BoolType();
-
-            String class_name1 = ((ClassType)type1).getClassName().getName();
-            String class_name2 = ((ClassType)type2).getClassName().getName();
-            if((type1 instanceof ClassType && type2 instanceof ClassType && class_name1.equals(class_name2))
-                    || (type1 instanceof ClassType && type2 instanceof NullType)
-                    || (type1 instanceof NullType && type2 instanceof ClassType)) {
-                return new BoolType();
-            }
-            if((type1 instanceof FptrType && type2 instanceof NullType) ||
-                    (type1 instanceof NullType && type2 instanceof FptrType) ||
-                    (type1 instanceof FptrType && type2 instanceof FptrType)) {
-                return new BoolType();
-            }
-            if(type1 instanceof NullType && type2 instanceof NullType)
-                return new BoolType();
-        }
-        if((op == BinaryOperator.lt) || (op == BinaryOperator.gt)) {
-            if(type1 instanceof NoType && type2 instanceof NoType)
-                return new NoType();
-            else if((type1 instanceof NoType && ((type2 instanceof IntType) == false) ) ||
-                    (type2 instanceof NoType && ((type1 instanceof IntType) == false) )) {
-                UnsupportedOperandType exception = new UnsupportedOperandType(binaryExpression.getLine(), op.name());
-                binaryExpression.addError(exception);
-                return new NoType();
-            }
-            else if(type1 instanceof NoType || type2 instanceof NoType)
-                return new NoType();
-            if((type1 instanceof IntType) && (type2 instanceof IntType))
-                return new BoolType();
-        }
-        if((op == BinaryOperator.add) || (op == BinaryOperator.sub) || (op == BinaryOperator.mult) || (op == BinaryOperator.div)) {
-            if(type1 instanceof NoType && type2 instanceof NoType)
-                return new NoType();
-            else if((type1 instanceof NoType && ((type2 instanceof IntType) == false) ) ||
-                    (type2 instanceof NoType && ((type1 instanceof IntType) == false) )) {
-                UnsupportedOperandType exception = new UnsupportedOperandType(binaryExpression.getLine(), op.name());
-                binaryExpression.addError(exception);
-                return new NoType();
-            }
-            else if(type1 instanceof NoType || type2 instanceof NoType)
-                return new NoType();
-            if((type1 instanceof IntType) && (type2 instanceof IntType))
-                return new IntType();
-        }
-
-        if((op == BinaryOperator.and) || (op == BinaryOperator.or)) {
-            if(type1 instanceof NoType && type2 instanceof NoType)
-                return new NoType();
-            else if((type1 instanceof NoType && ((type2 instanceof BoolType) == false) ) ||
-                    (type2 instanceof NoType && ((type1 instanceof BoolType) == false) )) {
-                UnsupportedOperandType exception = new UnsupportedOperandType(binaryExpression.getLine(), op.name());
-                binaryExpression.addError(exception);
-                return new NoType();
-            }
-            else if(type1 instanceof NoType || type2 instanceof NoType)
-                return new NoType();
-            if((type1 instanceof BoolType) && (type2 instanceof BoolType))
-                return new BoolType();
-        }
-        if(op == BinaryOperator.assign) {
-            boolean isLeftValueFirst = this.isLeftVal(binaryExpression.getFirstOperand());
-            if(isLeftValueFirst == false) {
-                LeftSideNotLvalue exception = new LeftSideNotLvalue(binaryExpression.getLine());
-                binaryExpression.addError(exception);
-            }
-            if(type1 instanceof NoType || type2 instanceof NoType) {
-                return new NoType();
+        Type type1, type2;
+        if (op == BinaryOperator.assign) {
+            type1 = this.acceptAssignment(binaryExpression.getFirstOperand(), binaryExpression.getSecondOperand());
+            type2 = this.assignedType;
+        }
+        else {
+            type1 = this.typeOf(binaryExpression.getFirstOperand());
+            type2 = this.typeOf(binaryExpression.getSecondOperand());
+        }
+        TypeKind kind1 = TypeKind.of(type1);
+        TypeKind kind2 = TypeKind.of(type2);
+        switch (op) {
+            case eq: {
+                Type result = this.equalityType(binaryExpression, type1, type2, kind1, kind2);
+                if (result != null)
+                    return result;
+                break;
             }
-            boolean isSubtype = this.areTypesOfFirstAndSecondTheSame(type2, type1);
-            if(isSubtype) {
-                if(isLeftValueFirst)
-                    return type2;
-                return new NoType();
+            case lt:
+            case gt:
+                return this.uniformOperandsType(binaryExpression, kind1, kind2, TypeKind.INT, TypeInterner.BOOL);
+            case add:
+            case sub:
+            case mult:
+            case div:
+                return this.uniformOperandsType(binaryExpression, kind1, kind2, TypeKind.INT, TypeInterner.INT);
+            case and:
+            case or:
+                return this.uniformOperandsType(binaryExpression, kind1, kind2, TypeKind.BOOL, TypeInterner.BOOL);
+            case assign: {
+                boolean isLeftValueFirst = this.lastIsLeftVal;
+                if(isLeftValueFirst == false) {
+                    LeftSideNotLvalue exception = new LeftSideNotLvalue(binaryExpression.getLine());
+                    this.addError(binaryExpression, exception);
+                }
+                if(kind1 == TypeKind.NO_TYPE || kind2 == TypeKind.NO_TYPE) {
+                    return TypeInterner.NO_TYPE;
+                }
+                boolean isSubtype = this.areTypesOfFirstAndSecondTheSame(type2, type1);
+                if(isSubtype) {
+                    if(isLeftValueFirst)
+                        return type2;
+                    return TypeInterner.NO_TYPE;
+                }
+                break;
             }
-            UnsupportedOperandType exception = new UnsupportedOperandType(binaryExpression.getLine(), op.name());
-            binaryExpression.addError(exception);
-            return new NoType();
         }
         UnsupportedOperandType exception = new UnsupportedOperandType(binaryExpression.getLine(), op.name());
-        binaryExpression.addError(exception);
-        return new NoType();
+        this.addError(binaryExpression, exception);
+        return TypeInterner.NO_TYPE;
+    }
+
+    // Both operands must be of the operand kind; a NoType operand is accepted silently only next to another NoType
+    // or a valid operand, as its error has already been reported
+    private Type uniformOperandsType(BinaryExpression binaryExpression, TypeKind kind1, TypeKind kind2,
+                                     TypeKind operand, Type result) {
+        if(kind1 == TypeKind.NO_TYPE && kind2 == TypeKind.NO_TYPE)
+            return TypeInterner.NO_TYPE;
+        if((kind1 == TypeKind.NO_TYPE && kind2 != operand) || (kind2 == TypeKind.NO_TYPE && kind1 != operand)) {
+            UnsupportedOperandType exception = new UnsupportedOperandType(binaryExpression.getLine(), binaryExpression.getBinaryOperator().name());
+            this.addError(binaryExpression, exception);
+            return TypeInterner.NO_TYPE;
+        }
+        if(kind1 == TypeKind.NO_TYPE || kind2 == TypeKind.NO_TYPE)
+            return TypeInterner.NO_TYPE;
+        if(kind1 == operand && kind2 == operand)
+            return result;
+        UnsupportedOperandType exception = new UnsupportedOperandType(binaryExpression.getLine(), binaryExpression.getBinaryOperator().name());
+        this.addError(binaryExpression, exception);
+        return TypeInterner.NO_TYPE;
+    }
+
+    // null when the operands cannot be compared, so the caller reports it
+    private Type equalityType(BinaryExpression binaryExpression, Type type1, Type type2, TypeKind kind1, TypeKind kind2) {
+        if(kind1 == TypeKind.NO_TYPE && kind2 == TypeKind.NO_TYPE)
+            return TypeInterner.NO_TYPE;
+        if((kind1 == TypeKind.NO_TYPE && kind2 == TypeKind.ARRAY) || (kind2 == TypeKind.NO_TYPE && kind1 == TypeKind.ARRAY)) {
+            UnsupportedOperandType exception = new UnsupportedOperandType(binaryExpression.getLine(), BinaryOperator.eq.name());
+            this.addError(binaryExpression, exception);
+            return TypeInterner.NO_TYPE;
+        }
+        if(kind1 == TypeKind.NO_TYPE || kind2 == TypeKind.NO_TYPE)
+            return TypeInterner.NO_TYPE;
+        if((kind1 == TypeKind.INT || kind1 == TypeKind.BOOL) && kind1 == type2.getKind())
+            return TypeInterner.BOOL;
+
+        // anything but two classes fails these casts, as it always has
+        String class_name1 = ((ClassType)type1).getClassName().getName();
+        String class_name2 = ((ClassType)type2).getClassName().getName();
+        if(class_name1.equals(class_name2))
+            return TypeInterner.BOOL;
+        return null;
     }
 
     // Done
@@ -259,32 +370,50 @@ public class ExpressionTypeChecker extends Visitor<Type> {
         return true;
     }
 
-    // Done
     public boolean areTypesOfFirstAndSecondTheSame(Type A, Type B) {
-        if(A instanceof NoType)
-            return true;
-        else if(A instanceof IntType || A instanceof BoolType)
-            return A.toString().equals(B.toString());
-        else if(A instanceof NullType)
-            return (B instanceof NullType) || (B instanceof FptrType) || (B instanceof ClassType);
-        else if(A instanceof FptrType) {
-            if(!(B instanceof FptrType))
-                return false;
-            Type fptr1_ret_type = ((FptrType) A).getReturnType();
-            Type fptr2_ret_type = ((FptrType) B).getReturnType();
-            if(!areTypesOfFirstAndSecondTheSame(fptr1_ret_type, fptr2_ret_type))
-                return false;
-            ArrayList<Type> arg_type1 = ((FptrType) A).getArgumentsTypes();
-            ArrayList<Type> arg_type2 = ((FptrType) B).getArgumentsTypes();
-            return areTypesOfFirstAndSecondTheSame(arg_type2, arg_type1);
-        }
-        else if(A instanceof ClassType) {
-            if((B instanceof ClassType) == false)
+        if (!isWorthCaching(A, B))
+            return this.computeAreTypesOfFirstAndSecondTheSame(A, B);
+        TypeRelationCache subtypes = this.context.getSubtypes();
+        Boolean answer = subtypes.get(A, B);
+        if (answer == null) {
+            answer = this.computeAreTypesOfFirstAndSecondTheSame(A, B);
+            subtypes.put(A, B, answer);
+        }
+        return answer;
+    }
+
+    // Done
+    private boolean computeAreTypesOfFirstAndSecondTheSame(Type A, Type B) {
+        if (A == null)
+            return false;
+        switch (A.getKind()) {
+            case NO_TYPE:
+                return true;
+            case INT:
+            case BOOL:
+                return A.getKind() == B.getKind();
+            case NULL: {
+                TypeKind kindB = TypeKind.of(B);
+                return kindB == TypeKind.NULL || kindB == TypeKind.FPTR || kindB == TypeKind.CLASS;
+            }
+            case FPTR: {
+                if (TypeKind.of(B) != TypeKind.FPTR)
+                    return false;
+                Type fptr1_ret_type = ((FptrType) A).getReturnType();
+                Type fptr2_ret_type = ((FptrType) B).getReturnType();
+                if(!areTypesOfFirstAndSecondTheSame(fptr1_ret_type, fptr2_ret_type))
+                    return false;
+                ArrayList<Type> arg_type1 = ((FptrType) A).getArgumentsTypes();
+                ArrayList<Type> arg_type2 = ((FptrType) B).getArgumentsTypes();
+                return areTypesOfFirstAndSecondTheSame(arg_type2, arg_type1);
+            }
+            case CLASS:
+                if (TypeKind.of(B) != TypeKind.CLASS)
+                    return false;
+                return this.classHierarchy.isSecondNodeAncestorOf(((ClassType) A).getClassName().getName(), ((ClassType) B).getClassName().getName());
+            default:
                 return false;
-            return this.classHierarchy.isSecondNodeAncestorOf(((ClassType) A).getClassName().getName(), ((ClassType) B).getClassName().getName());
         }
-
-        return false;
     }
 
     //
@@ -295,47 +424,48 @@ public class ExpressionTypeChecker extends Visitor<Type> {
         String class_name = newClassInstance.getClassType().getClassName().getName();
         ArrayList<Type> newInstTypes = new ArrayList<>();
         for(Expression expression : newClassInstance.getArgs())
-            newInstTypes.add(expression.accept(this));
+            newInstTypes.add(this.typeOf(expression));
         if(this.classHierarchy.doesGraphContainNode(class_name)) {
-            try {
-                ClassSymbolTableItem classSymbolTableItem = (ClassSymbolTableItem) SymbolTable.root.getItem(ClassSymbolTableItem.START_KEY + class_name, true);
-                MethodSymbolTableItem methodSymbolTableItem = (MethodSymbolTableItem) classSymbolTableItem.getClassSymbolTable().getItem(MethodSymbolTableItem.START_KEY + "initialize", true);
-                ArrayList<Type> constructorActualTypes = methodSymbolTableItem.getArgTypes();
-                int non_default_args = this.calc_non_default_args(methodSymbolTableItem);
-                if (newInstTypes.size() < non_default_args || newInstTypes.size() > constructorActualTypes.size()){
-                    ConstructorArgsNotMatchDefinition exception = new ConstructorArgsNotMatchDefinition(newClassInstance);
-                    newClassInstance.addError(exception);
-                    return new NoType();
-                }
-
-//                if (newInstTypes.size() != constructorActualTypes.size()){
-//                    ConstructorArgsNotMatchDefinition exception = new ConstructorArgsNotMatchDefinition(newClassInstance);
-//                    newClassInstance.addError(exception);
-//                    return new NoType();
-//                }
-                if(this.areTypesOfFirstAndSecondTheSame(newInstTypes, constructorActualTypes)) {
-                    return newClassInstance.getClassType();
-                }
-                else {
-                    ConstructorArgsNotMatchDefinition exception = new ConstructorArgsNotMatchDefinition(newClassInstance);
-                    newClassInstance.addError(exception);
-                    return new NoType();
-                }
-            } catch (ItemNotFoundException ignored) {
+            ClassMemberTable classMembers = this.context.getClassMembers(class_name);
+            if (classMembers != null)
+                newClassInstance.setSymbol(classMembers.getClassSymbolTableItem());
+            MethodSymbolTableItem methodSymbolTableItem = classMembers == null ? null : classMembers.getMethod("initialize");
+            if (methodSymbolTableItem == null) {
                 if(newInstTypes.size() != 0) {
                     ConstructorArgsNotMatchDefinition exception = new ConstructorArgsNotMatchDefinition(newClassInstance);
-                    newClassInstance.addError(exception);
-                    return new NoType();
+                    this.addError(newClassInstance, exception);
+                    return TypeInterner.NO_TYPE;
                 }
                 else {
-                    return newClassInstance.getClassType();
+                    return this.context.getTypes().classType(newClassInstance.getClassType().getClassName());
                 }
             }
+            ArrayList<Type> constructorActualTypes = methodSymbolTableItem.getArgTypes();
+            int non_default_args = this.calc_non_default_args(methodSymbolTableItem);
+            if (newInstTypes.size() < non_default_args || newInstTypes.size() > constructorActualTypes.size()){
+                ConstructorArgsNotMatchDefinition exception = new ConstructorArgsNotMatchDefinition(newClassInstance);
+                this.addError(newClassInstance, exception);
+                return TypeInterner.NO_TYPE;
+            }
+
+//            if (newInstTypes.size() != constructorActualTypes.size()){
+//                ConstructorArgsNotMatchDefinition exception = new ConstructorArgsNotMatchDefinition(newClassInstance);
+//                newClassInstance.addError(exception);
+//                return TypeInterner.NO_TYPE;
+//            }
+            if(this.areTypesOfFirstAndSecondTheSame(newInstTypes, constructorActualTypes)) {
+                return this.context.getTypes().classType(newClassInstance.getClassType().getClassName());
+            }
+            else {
+                ConstructorArgsNotMatchDefinition exception = new ConstructorArgsNotMatchDefinition(newClassInstance);
+                this.addError(newClassInstance, exception);
+                return TypeInterner.NO_TYPE;
+            }
         }
         else {
             ClassNotDeclared exception = new ClassNotDeclared(newClassInstance.getLine(), class_name);
-            newClassInstance.addError(exception);
-            return new NoType();
+            this.addError(newClassInstance, exception);
+            return TypeInterner.NO_TYPE;
         }
     }
 
@@ -343,43 +473,39 @@ public class ExpressionTypeChecker extends Visitor<Type> {
     public Type visit(UnaryExpression unaryExpression) {
         //Todo
         this.noneLeftValueSeen = true;
-        Type opType = unaryExpression.getOperand().accept(this);
         UnaryOperator op = unaryExpression.getOperator();
-        if(op == UnaryOperator.not) {
-            if(opType instanceof NoType)
-                return new NoType();
-            else if(opType instanceof BoolType)
-                return opType;
-            UnsupportedOperandType exception = new UnsupportedOperandType(unaryExpression.getLine(), op.name());
-            unaryExpression.addError(exception);
-            return new NoType();
-        }
-        else if(op == UnaryOperator.minus) {
-            if(opType instanceof NoType)
-                return new NoType();
-            else if(opType instanceof IntType)
-                return opType;
-            UnsupportedOperandType exception = new UnsupportedOperandType(unaryExpression.getLine(), op.name());
-            unaryExpression.addError(exception);
-            return new NoType();
-        }
-        else {
-            boolean isOpLeftVal = this.isLeftVal(unaryExpression.getOperand());
-            if(isOpLeftVal == false) {
-                IncDecOperandNotLvalue exception = new IncDecOperandNotLvalue(unaryExpression.getLine(), op.name());
-                unaryExpression.addError(exception);
-            }
-            else if(opType instanceof NoType)
-                return new NoType();
-            else if(opType instanceof IntType) {
-                if(isOpLeftVal)
+        Type opType = op == UnaryOperator.not || op == UnaryOperator.minus ?
+                this.typeOf(unaryExpression.getOperand()) : this.acceptLeftVal(unaryExpression.getOperand());
+        TypeKind opKind = TypeKind.of(opType);
+        switch (op) {
+            case not:
+                if(opKind == TypeKind.NO_TYPE)
+                    return TypeInterner.NO_TYPE;
+                else if(opKind == TypeKind.BOOL)
+                    return opType;
+                break;
+            case minus:
+                if(opKind == TypeKind.NO_TYPE)
+                    return TypeInterner.NO_TYPE;
+                else if(opKind == TypeKind.INT)
+                    return opType;
+                break;
+            default: {
+                boolean isOpLeftVal = this.lastIsLeftVal;
+                if(isOpLeftVal == false) {
+                    IncDecOperandNotLvalue exception = new IncDecOperandNotLvalue(unaryExpression.getLine(), op.name());
+                    this.addError(unaryExpression, exception);
+                }
+                else if(opKind == TypeKind.NO_TYPE)
+                    return TypeInterner.NO_TYPE;
+                else if(opKind == TypeKind.INT)
                     return opType;
-                return new NoType();
+                break;
             }
-            UnsupportedOperandType exception = new UnsupportedOperandType(unaryExpression.getLine(), op.name());
-            unaryExpression.addError(exception);
-            return new NoType();
         }
+        UnsupportedOperandType exception = new UnsupportedOperandType(unaryExpression.getLine(), op.name());
+        this.addError(unaryExpression, exception);
+        return TypeInterner.NO_TYPE;
     }
 
     private int calc_non_default_args(MethodSymbolTableItem MSTI)
@@ -401,36 +527,41 @@ public class ExpressionTypeChecker extends Visitor<Type> {
         boolean containsError = false;
         boolean oldInMethodCallStmt = isInMethodCallStmnt;
         isInMethodCallStmnt = false;
-        Type instTypeRet = methodCall.getInstance().accept(this);
+        Type instTypeRet = this.typeOf(methodCall.getInstance());
+        if (methodCall.getInstance().getSymbol() instanceof MethodSymbolTableItem)
+            methodCall.setSymbol(methodCall.getInstance().getSymbol());
 
         for (Expression expression : methodCall.getArgs()) {
-            Type type = expression.accept(this);
+            Type type = this.typeOf(expression);
             argsTypeMethodCallRet.add(type);
         }
         isInMethodCallStmnt = oldInMethodCallStmt;
-        if(instTypeRet instanceof NoType)
-            return new NoType();
-        if (!(instTypeRet instanceof FptrType )){
+        TypeKind instKind = TypeKind.of(instTypeRet);
+        if(instKind == TypeKind.NO_TYPE)
+            return TypeInterner.NO_TYPE;
+        if (instKind != TypeKind.FPTR){
             CallOnNoneCallable exception = new CallOnNoneCallable(methodCall.getLine());
-            methodCall.addError(exception);
-            return new NoType();
+            this.addError(methodCall, exception);
+            return TypeInterner.NO_TYPE;
         }
         FptrType funcPtrTypes = (FptrType) instTypeRet;
         ArrayList<Type> funcPtrParamTypes = funcPtrTypes.getArgumentsTypes();
-        if (funcPtrTypes.getReturnType() instanceof VoidType && !isInMethodCallStmnt){
+        if (TypeKind.of(funcPtrTypes.getReturnType()) == TypeKind.VOID && !isInMethodCallStmnt){
             containsError = true;
             CantUseValueOfVoidMethod exception = new CantUseValueOfVoidMethod(methodCall.getLine());
-            methodCall.addError(exception);
+            this.addError(methodCall, exception);
         }
         isInMethodCallStmnt = false;
 
+        if (this.currentMethodUnknown)
+            throw CurrentMethodUnknown.INSTANCE;
         int non_default_args = this.calc_non_default_args(this.current_method_symbol_table);
         if (argsTypeMethodCallRet.size() < non_default_args || argsTypeMethodCallRet.size() > funcPtrParamTypes.size()) {
             containsError = true;
             MethodCallNotMatchDefinition exception = new MethodCallNotMatchDefinition(methodCall.getLine());
-            methodCall.addError(exception);
+            this.addError(methodCall, exception);
 
-            return new NoType();
+            return TypeInterner.NO_TYPE;
         }
 
 //        if (argsTypeMethodCallRet.size() != funcPtrParamTypes.size()) {
@@ -438,14 +569,14 @@ public class ExpressionTypeChecker extends Visitor<Type> {
 //            MethodCallNotMatchDefinition exception = new MethodCallNotMatchDefinition(methodCall.getLine());
 //            methodCall.addError(exception);
 //
-//            return new NoType();
+//            return TypeInterner.NO_TYPE;
 //        }
 
         else if (funcPtrParamTypes.size() != 0) {
             for(int i = 0; i < argsTypeMethodCallRet.size(); i += 1){
                 if (isAllSameType(funcPtrParamTypes.get(i), argsTypeMethodCallRet.get(i)) == false) {
                     MethodCallNotMatchDefinition exception = new MethodCallNotMatchDefinition(methodCall.getLine());
-                    methodCall.addError(exception);
+                    this.addError(methodCall, exception);
                     containsError = true;
                     // Don't check any other errors if you found one!
                     break;
@@ -454,101 +585,100 @@ public class ExpressionTypeChecker extends Visitor<Type> {
         }
 
         if (containsError)
-            return new NoType();
+            return TypeInterner.NO_TYPE;
         else
             return funcPtrTypes.getReturnType();
     }
 
     @Override
     public Type visit(Identifier identifier) {
-        try {
-            ClassSymbolTableItem classSTI = (ClassSymbolTableItem) SymbolTable.root
-                    .getItem(ClassSymbolTableItem.START_KEY + this.curr_class.getClassName().getName(), true);
-            SymbolTable classST = classSTI.getClassSymbolTable();
-            MethodSymbolTableItem methodSTI = (MethodSymbolTableItem) classST
-                    .getItem(MethodSymbolTableItem.START_KEY + this.curr_method.getMethodName().getName(), true);
-            SymbolTable methodST = methodSTI.getMethodSymbolTable();
-            LocalVariableSymbolTableItem localVarSTI = (LocalVariableSymbolTableItem) methodST
-                    .getItem(LocalVariableSymbolTableItem.START_KEY + identifier.getName(), true);
-            return localVarSTI.getType();
-        } catch (ItemNotFoundException e) {
+        if (identifier.getSymbol() != null)
+            return identifier.getSymbol().getType();
+        ClassMemberTable classMembers = this.context.getClassMembers(this.curr_class.getClassName().getName());
+        MethodSymbolTableItem methodSTI = classMembers == null ? null : classMembers.getMethod(this.curr_method.getMethodName().getName());
+        SymbolTableItem item = methodSTI == null ? null : methodSTI.getMethodSymbolTable()
+                .lookup(LocalVariableSymbolTableItem.START_KEY + identifier.getName(), true);
+        if (item == null) {
             VarNotDeclared exception = new VarNotDeclared(identifier.getLine(), identifier.getName());
-            identifier.addError(exception);
-            return new NoType();
+            this.addError(identifier, exception);
+            return TypeInterner.NO_TYPE;
         }
+        identifier.setSymbol(item);
+        return ((LocalVariableSymbolTableItem) item).getType();
     }
 
     @Override
     public Type visit(ArrayAccessByIndex arrayAccessByIndex) {
         //Todo: maybe done
 
-        Type instTypeRet = arrayAccessByIndex.getInstance().accept(this);
+        Type instTypeRet = this.typeOf(arrayAccessByIndex.getInstance());
         boolean oldNoneLeftValueSeen = this.noneLeftValueSeen;
-        Type indexType = arrayAccessByIndex.getIndex().accept(this);
+        Type indexType = this.typeOf(arrayAccessByIndex.getIndex());
         this.noneLeftValueSeen = oldNoneLeftValueSeen;
         boolean containsError = false;
-        if(( (indexType instanceof NoType) || (indexType instanceof IntType)) == false) {
+        TypeKind indexKind = TypeKind.of(indexType);
+        if(indexKind != TypeKind.NO_TYPE && indexKind != TypeKind.INT) {
             ArrayIndexNotInt exception = new ArrayIndexNotInt(arrayAccessByIndex.getLine());
-            arrayAccessByIndex.addError(exception);
+            this.addError(arrayAccessByIndex, exception);
             containsError = true;
         }
-        if(instTypeRet instanceof ArrayType) {
-            ArrayList<Type> types = new ArrayList<>();
+        TypeKind instKind = TypeKind.of(instTypeRet);
+        if(instKind == TypeKind.ARRAY) {
             if(containsError)
-                return new NoType();
+                return TypeInterner.NO_TYPE;
         }
-        else if((instTypeRet instanceof NoType) == false) {
+        else if(instKind != TypeKind.NO_TYPE) {
             AccessByIndexOnNoneArray exception = new AccessByIndexOnNoneArray(arrayAccessByIndex.getLine());
-            arrayAccessByIndex.addError(exception);
+            this.addError(arrayAccessByIndex, exception);
         }
-        return new NoType();
+        return TypeInterner.NO_TYPE;
     }
 
     @Override
     public Type visit(ObjectMemberAccess objectMemberAccess) {
         //Todo
         boolean oldNoneLeftValueSeen = this.noneLeftValueSeen;
-        Type instTypeRet = objectMemberAccess.getInstance().accept(this);
+        Type instTypeRet = this.typeOf(objectMemberAccess.getInstance());
         if(objectMemberAccess.getInstance() instanceof SelfClass)
             this.noneLeftValueSeen = oldNoneLeftValueSeen;
         String name_member = objectMemberAccess.getMemberName().getName();
-        if(instTypeRet instanceof NoType)
-            return new NoType();
-        else if(instTypeRet instanceof ClassType) {
+        TypeKind instKind = TypeKind.of(instTypeRet);
+        if(instKind == TypeKind.NO_TYPE)
+            return TypeInterner.NO_TYPE;
+        else if(instKind == TypeKind.CLASS) {
             String class_name = ((ClassType) instTypeRet).getClassName().getName();
-            SymbolTable classSymbolTable;
-            try {
-                classSymbolTable = ((ClassSymbolTableItem) SymbolTable.root.getItem(ClassSymbolTableItem.START_KEY + class_name, true)).getClassSymbolTable();
-            } catch (ItemNotFoundException ignore) {
-                return new NoType();
-            }
-            try {
-                FieldSymbolTableItem fieldSymbolTableItem = (FieldSymbolTableItem) classSymbolTable.getItem(FieldSymbolTableItem.START_KEY + name_member, true);
+            ClassMemberTable classMembers = this.context.getClassMembers(class_name);
+            if (classMembers == null)
+                return TypeInterner.NO_TYPE;
+            FieldSymbolTableItem fieldSymbolTableItem = classMembers.getField(name_member);
+            if (fieldSymbolTableItem != null) {
+                objectMemberAccess.setSymbol(fieldSymbolTableItem);
                 return fieldSymbolTableItem.getType();
-            } catch (ItemNotFoundException memberNotField) {
-                try {
-                    MethodSymbolTableItem methodSymbolTableItem = (MethodSymbolTableItem) classSymbolTable.getItem(MethodSymbolTableItem.START_KEY + name_member, true);
-                    this.current_method_symbol_table = methodSymbolTableItem;
-                    this.noneLeftValueSeen = true;
-                    FptrType ft = new FptrType(methodSymbolTableItem.getArgTypes(), methodSymbolTableItem.getReturnType());
-//                    ft.setNonDefaultArgs(methodSymbolTableItem.non_default_args);
-                    return ft;
-                } catch (ItemNotFoundException ignore) {
-                    if(name_member.equals(class_name)) {
-                        this.noneLeftValueSeen = true;
-                        FptrType ft = new FptrType(new ArrayList<>(), new NullType());
-                        return ft;
-                    }
-                    MemberNotAvailableInClass exception = new MemberNotAvailableInClass(objectMemberAccess.getLine(), name_member, class_name);
-                    objectMemberAccess.addError(exception);
-                    return new NoType();
-                }
             }
+            MethodSymbolTableItem methodSymbolTableItem = classMembers.getMethod(name_member);
+            if (methodSymbolTableItem != null) {
+                this.current_method_symbol_table = methodSymbolTableItem;
+                this.currentMethodUnknown = false;
+                this.methodAccessSeen = true;
+                objectMemberAccess.setSymbol(methodSymbolTableItem);
+                this.noneLeftValueSeen = true;
+                FptrType ft = this.context.getTypes().fptrType(methodSymbolTableItem.getArgTypes(), methodSymbolTableItem.getReturnType());
+//                ft.setNonDefaultArgs(methodSymbolTableItem.non_default_args);
+                return ft;
+            }
+            if(name_member.equals(class_name)) {
+                this.noneLeftValueSeen = true;
+                FptrType ft = this.context.getTypes().fptrType(new ArrayList<>(), TypeInterner.NULL);
+                return ft;
+            }
+            MemberNotAvailableInClass exception = new MemberNotAvailableInClass(objectMemberAccess.getLine(), name_member, class_name);
+            this.addError(objectMemberAccess, exception);
+            return TypeInterner.NO_TYPE;
         }
         else {
             AccessOnNonClass exception = new AccessOnNonClass(objectMemberAccess.getLine());
-            objectMemberAccess.addError(exception);
-            return new NoType();
+            this.addError(objectMemberAccess, exception);
+            return TypeInterner.NO_TYPE;
         }
     }
 
@@ -557,14 +687,14 @@ public class ExpressionTypeChecker extends Visitor<Type> {
         //Todo
         ArrayList<Expression> args = setNew.getArgs();
         for (Expression arg : args) {
-            Type t = arg.accept(this);
-            if (!(t instanceof IntType) ){
+            Type t = this.typeOf(arg);
+            if (TypeKind.of(t) != TypeKind.INT){
                 NewInputNotSet exception = new NewInputNotSet(setNew.getLine());
-                setNew.addError(exception);
-                return new NoType();
+                this.addError(setNew, exception);
+                return TypeInterner.NO_TYPE;
             }
         }
-        return new SetType();
+        return TypeInterner.SET;
     }
 
     @Override
@@ -573,16 +703,16 @@ public class ExpressionTypeChecker extends Visitor<Type> {
         Expression setArg = setInclude.getSetArg();
         Expression elementArg = setInclude.getElementArg();
 
-        Type setArgAcc = setArg.accept(this);
-        Type elementArgAcc = elementArg.accept(this);
+        Type setArgAcc = this.typeOf(setArg);
+        Type elementArgAcc = this.typeOf(elementArg);
 
-        if (!(elementArgAcc instanceof IntType) ){
+        if (TypeKind.of(elementArgAcc) != TypeKind.INT){
             SetIncludeInputNotInt exception = new SetIncludeInputNotInt(setInclude.getLine());
-            setInclude.addError(exception);
-            return new NoType();
+            this.addError(setInclude, exception);
+            return TypeInterner.NO_TYPE;
         }
 
-        return new BoolType();
+        return TypeInterner.BOOL;
     }
 
     @Override
@@ -591,17 +721,17 @@ public class ExpressionTypeChecker extends Visitor<Type> {
         Expression lExpr = rangeExpression.getLeftExpression();
         Expression rExpr = rangeExpression.getRightExpression();
 
-        Type lExprAcc = lExpr.accept(this);
-        Type rExprAcc = rExpr.accept(this);
+        Type lExprAcc = this.typeOf(lExpr);
+        Type rExprAcc = this.typeOf(rExpr);
 
-        if (!(lExprAcc instanceof IntType) || !(rExprAcc instanceof IntType)){
+        if (TypeKind.of(lExprAcc) != TypeKind.INT || TypeKind.of(rExprAcc) != TypeKind.INT){
             EachRangeNotInt exception = new EachRangeNotInt(lExpr.getLine());
-            rangeExpression.addError(exception);
-            return new NoType();
+            this.addError(rangeExpression, exception);
+            return TypeInterner.NO_TYPE;
         }
 
         // Change it to ArrayType
-        return new NoType();
+        return TypeInterner.NO_TYPE;
     }
 
     @Override
@@ -611,73 +741,80 @@ public class ExpressionTypeChecker extends Visitor<Type> {
         Expression trueExpr = ternaryExpression.getTrueExpression();
         Expression falseExpr = ternaryExpression.getFalseExpression();
 
-        Type condAcc = condition.accept(this);
-        Type trueExprAcc = trueExpr.accept(this);
-        Type falseExprAcc = falseExpr.accept(this);
+        Type condAcc = this.typeOf(condition);
+        Type trueExprAcc = this.typeOf(trueExpr);
+        Type falseExprAcc = this.typeOf(falseExpr);
 
         Boolean hasError = false;
 
-        if (!(condAcc instanceof BoolType))
+        if (TypeKind.of(condAcc) != TypeKind.BOOL)
         {
             // The first operand should be Bool!
             ConditionNotBool exception = new ConditionNotBool(condition.getLine());
-            ternaryExpression.addError(exception);
+            this.addError(ternaryExpression, exception);
             hasError = true;
         }
 
         if(!isAllSameType(trueExprAcc,falseExprAcc))
         {
             UnsupportedOperandType exception = new UnsupportedOperandType(condition.getLine(), TernaryOperator.ternary.name());
-            ternaryExpression.addError(exception);
+            this.addError(ternaryExpression, exception);
             hasError = true;
         }
 
         if (hasError) {
-            return new NoType();
-        }
-
-        if(trueExprAcc instanceof BoolType)
-            return new BoolType();
-        else if(trueExprAcc instanceof IntType)
-            return new BoolType();
-            //Not sure about this
-        else if(trueExprAcc instanceof NoType && falseExprAcc instanceof NoType)
-            return new NoType();
-        else {
-            UnsupportedOperandType exception = new UnsupportedOperandType(ternaryExpression.getLine(), TernaryOperator.ternary.name());
-            ternaryExpression.addError(exception);
-            return new NoType();
+            return TypeInterner.NO_TYPE;
+        }
+
+        if (trueExprAcc != null) {
+            switch (trueExprAcc.getKind()) {
+                case BOOL:
+                    return TypeInterner.BOOL;
+                case INT:
+                    //Not sure about this
+                    return TypeInterner.BOOL;
+                case NO_TYPE:
+                    if (TypeKind.of(falseExprAcc) == TypeKind.NO_TYPE)
+                        return TypeInterner.NO_TYPE;
+                    break;
+            }
         }
+        UnsupportedOperandType exception = new UnsupportedOperandType(ternaryExpression.getLine(), TernaryOperator.ternary.name());
+        this.addError(ternaryExpression, exception);
+        return TypeInterner.NO_TYPE;
     }
 
     @Override
     public Type visit(IntValue intValue) {
         this.noneLeftValueSeen = true;
-        return new IntType();
+        return TypeInterner.INT;
     }
 
     @Override
     public Type visit(BoolValue boolValue) {
         this.noneLeftValueSeen = true;
-        return new BoolType();
+        return TypeInterner.BOOL;
     }
 
     @Override
     public Type visit(SelfClass selfClass) {
         this.noneLeftValueSeen = true;
-        return new ClassType(curr_class.getClassName());
+        ClassMemberTable classMembers = this.context.getClassMembers(curr_class.getClassName().getName());
+        if (classMembers != null)
+            selfClass.setSymbol(classMembers.getClassSymbolTableItem());
+        return this.context.getTypes().classType(curr_class.getClassName());
     }
 
     @Override
     public Type visit(SetValue setValue) {
         this.noneLeftValueSeen = true;
-        return new SetType();
+        return TypeInterner.SET;
     }
 
     @Override
     public Type visit(NullValue nullValue) {
         this.noneLeftValueSeen = true;
-        return new NullType();
+        return TypeInterner.NULL;
     }
 
     public void setCurrMethod(MethodDeclaration methodDeclaration) {
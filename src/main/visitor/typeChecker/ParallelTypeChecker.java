@@ -0,0 +1,99 @@
+package main.visitor.typeChecker;
+
+import main.CompilationContext;
+import main.ast.nodes.Program;
+import main.ast.nodes.declaration.classDec.ClassDeclaration;
+import main.ast.nodes.declaration.classDec.classMembersDec.MethodDeclaration;
+import main.symbolTable.items.MethodSymbolTableItem;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+//Type checks a program with the header, constructor and methods of every class as separate parts on a ForkJoinPool,
+//each part checked by a TypeChecker of its own against a fork of the context. The forks' diagnostics are merged back
+//in program order, so the outcome is the one of TypeChecker: the same errors in the same order, the same annotations
+//on the tree, and the exception the serial check would have stopped with, if any.
+//The only state a serial check carries from one method into the next is the method a call through a function
+//pointer is checked against. A part that needs it before setting it gives up, and is checked again once the parts
+//before it have been merged and it is known.
+public class ParallelTypeChecker {
+    private final CompilationContext context;
+    private final ForkJoinPool pool;
+
+    public ParallelTypeChecker(CompilationContext context, ForkJoinPool pool) {
+        this.context = context;
+        this.pool = pool;
+    }
+
+    public void check(Program program) {
+        List<Part> parts = new ArrayList<>();
+        for (ClassDeclaration classDeclaration : program.getClasses()) {
+            parts.add(new Part(classDeclaration, null));
+            if (classDeclaration.getConstructor() != null)
+                parts.add(new Part(classDeclaration, classDeclaration.getConstructor()));
+            for (MethodDeclaration methodDeclaration : classDeclaration.getMethods())
+                parts.add(new Part(classDeclaration, methodDeclaration));
+        }
+        for (Part part : parts)
+            this.pool.execute(part);
+
+        MethodSymbolTableItem currentMethod = null;
+        for (Part part : parts) {
+            part.join();
+            if (part.needsCurrentMethod)
+                part.check(true, currentMethod);
+            if (part.failure != null)
+                throw part.failure;
+            this.context.getDiagnostics().merge(part.fork.getDiagnostics());
+            ExpressionTypeChecker expressionTypeChecker = part.checker.getExpressionTypeChecker();
+            if (expressionTypeChecker.isCurrentMethodKnown())
+                currentMethod = expressionTypeChecker.getCurrentMethod();
+        }
+        new TypeChecker(this.context).checkMainDeclared(program);
+    }
+
+    private class Part extends RecursiveAction {
+        private final ClassDeclaration classDeclaration;
+        private final MethodDeclaration methodDeclaration;
+        private CompilationContext fork;
+        private TypeChecker checker;
+        private boolean needsCurrentMethod;
+        private RuntimeException failure;
+
+        // a null method stands for the class header
+        Part(ClassDeclaration classDeclaration, MethodDeclaration methodDeclaration) {
+            this.classDeclaration = classDeclaration;
+            this.methodDeclaration = methodDeclaration;
+        }
+
+        @Override
+        protected void compute() {
+            this.check(false, null);
+        }
+
+        // Starts over with a fresh fork, so a part given up on leaves nothing behind
+        void check(boolean currentMethodKnown, MethodSymbolTableItem currentMethod) {
+            this.fork = context.fork();
+            this.checker = new TypeChecker(this.fork);
+            if (currentMethodKnown)
+                this.checker.getExpressionTypeChecker().setCurrentMethod(currentMethod);
+            else
+                this.checker.getExpressionTypeChecker().forgetCurrentMethod();
+            this.needsCurrentMethod = false;
+            this.failure = null;
+            this.checker.setCurrClass(this.classDeclaration);
+            try {
+                if (this.methodDeclaration == null)
+                    this.checker.checkClassHeader(this.classDeclaration);
+                else
+                    this.checker.checkMethod(this.methodDeclaration);
+            } catch (ExpressionTypeChecker.CurrentMethodUnknown e) {
+                this.needsCurrentMethod = true;
+            } catch (RuntimeException e) {
+                this.failure = e;
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package main.visitor.typeChecker;
 
 import com.sun.tools.javac.Main;
+import main.CompilationContext;
 import main.ast.nodes.*;
 import main.ast.nodes.declaration.classDec.ClassDeclaration;
 import main.ast.nodes.declaration.classDec.classMembersDec.ConstructorDeclaration;
@@ -14,15 +15,12 @@ import main.ast.nodes.expression.values.SetValue;
 import main.ast.nodes.expression.values.primitive.*;
 import main.ast.nodes.statement.*;
 import main.ast.nodes.statement.set.*;
-import main.ast.types.NoType;
-import main.ast.types.NullType;
 import main.ast.types.Type;
+import main.ast.types.TypeInterner;
+import main.ast.types.TypeKind;
 import main.ast.types.array.ArrayType;
-import main.ast.types.primitives.BoolType;
 import main.ast.types.primitives.ClassType;
-import main.ast.types.primitives.IntType;
-import main.ast.types.primitives.VoidType;
-import main.ast.types.set.SetType;
+import main.compileError.CompileError;
 import main.compileError.typeError.*;
 import main.symbolTable.utils.graph.Graph;
 import main.visitor.*;
@@ -34,6 +32,7 @@ import java.util.ArrayList;
 import java.util.Set;
 
 public class TypeChecker extends Visitor<Void> {
+    private CompilationContext context;
     private Graph<String> classHierarchy;
     private ExpressionTypeChecker expressionTypeChecker;
     private ClassDeclaration curr_class;
@@ -41,68 +40,93 @@ public class TypeChecker extends Visitor<Void> {
     private boolean mainDeclared;
     private boolean hasReturn = false;
 
-    public TypeChecker(Graph<String> classHierarchy){
-        this.classHierarchy = classHierarchy;
-        this.expressionTypeChecker = new ExpressionTypeChecker(classHierarchy);
+    public TypeChecker(CompilationContext context){
+        this.context = context;
+        this.classHierarchy = context.getClassHierarchy();
+        this.expressionTypeChecker = new ExpressionTypeChecker(context);
+    }
+
+    private void addError(Node node, CompileError error) {
+        this.context.getDiagnostics().report(node, error);
+    }
+
+    ExpressionTypeChecker getExpressionTypeChecker() {
+        return expressionTypeChecker;
     }
 
     @Override
     public Void visit(Program program) {
+        for (ClassDeclaration classDeclaration : program.getClasses()) {
+            this.setCurrClass(classDeclaration);
+            classDeclaration.accept(this);
+        }
+        this.checkMainDeclared(program);
+        return null;
+    }
+
+    void setCurrClass(ClassDeclaration classDeclaration) {
+        this.expressionTypeChecker.setCurrClass(classDeclaration);
+        this.curr_class = classDeclaration;
+    }
+
+    void checkMainDeclared(Program program) {
         this.mainDeclared = false;
         for (ClassDeclaration classDeclaration : program.getClasses()) {
             if (classDeclaration.getClassName().getName().equals("Main"))
                 this.mainDeclared = true;
-            this.expressionTypeChecker.setCurrClass(classDeclaration);
-            this.curr_class = classDeclaration;
-            classDeclaration.accept(this);
         }
         if (!this.mainDeclared) {
             NoMainClass exception = new NoMainClass();
-            program.addError(exception);
+            this.addError(program, exception);
         }
-        return null;
     }
 
     @Override
     public Void visit(ClassDeclaration classDeclaration) {
+        this.checkClassHeader(classDeclaration);
+        if (classDeclaration.getConstructor() != null)
+            this.checkMethod(classDeclaration.getConstructor());
+        for (MethodDeclaration methodDeclaration : classDeclaration.getMethods())
+            this.checkMethod(methodDeclaration);
+        return null;
+    }
+
+    // Everything in the current class but its constructor and methods
+    void checkClassHeader(ClassDeclaration classDeclaration) {
         if (classDeclaration.getParentClassName() != null) {
-            this.expressionTypeChecker.checkNode(classDeclaration, new ClassType(classDeclaration.getParentClassName()));
+            this.expressionTypeChecker.checkNode(classDeclaration, this.context.getTypes().classType(classDeclaration.getParentClassName()));
             if (classDeclaration.getClassName().getName().equals("Main")) {
                 MainClassCantInherit exception = new MainClassCantInherit(classDeclaration.getLine());
-                classDeclaration.addError(exception);
+                this.addError(classDeclaration, exception);
             }
             if (classDeclaration.getParentClassName().getName().equals("Main")) {
                 CannotExtendFromMainClass exception = new CannotExtendFromMainClass(classDeclaration.getLine());
-                classDeclaration.addError(exception);
+                this.addError(classDeclaration, exception);
             }
         }
         for (FieldDeclaration fieldDeclaration : classDeclaration.getFields()) {
             fieldDeclaration.accept(this);
         }
-        if (classDeclaration.getConstructor() != null) {
-            this.expressionTypeChecker.setCurrMethod(classDeclaration.getConstructor());
-            this.curr_method = classDeclaration.getConstructor();
-            classDeclaration.getConstructor().accept(this);
-        }
-        else if (classDeclaration.getClassName().getName().equals("Main")) {
+        if (classDeclaration.getConstructor() == null && classDeclaration.getClassName().getName().equals("Main")) {
             NoConstructorInMainClass exception = new NoConstructorInMainClass(classDeclaration);
-            classDeclaration.addError(exception);
-        }
-        for (MethodDeclaration methodDeclaration : classDeclaration.getMethods()) {
-            this.expressionTypeChecker.setCurrMethod(methodDeclaration);
-            this.curr_method = methodDeclaration;
-            methodDeclaration.accept(this);
+            this.addError(classDeclaration, exception);
         }
-        return null;
+    }
+
+    // A method or the constructor of the current class
+    void checkMethod(MethodDeclaration methodDeclaration) {
+        this.expressionTypeChecker.setCurrMethod(methodDeclaration);
+        this.curr_method = methodDeclaration;
+        methodDeclaration.accept(this);
     }
 
     @Override
     public Void visit(ConstructorDeclaration constructorDeclaration) {
-        constructorDeclaration.setReturnType(new NullType());
+        constructorDeclaration.setReturnType(TypeInterner.NULL);
         if (this.curr_class.getClassName().getName().equals("Main")) {
             if (constructorDeclaration.getArgs().size() != 0) {
                 MainConstructorCantHaveArgs exception = new MainConstructorCantHaveArgs(constructorDeclaration.getLine());
-                constructorDeclaration.addError(exception);
+                this.addError(constructorDeclaration, exception);
             }
         }
         this.visit((MethodDeclaration) constructorDeclaration);
@@ -115,10 +139,10 @@ public class TypeChecker extends Visitor<Void> {
         this.expressionTypeChecker.checkNode(methodDeclaration, methodDeclaration.getReturnType());
         for (ArgPair argPair : methodDeclaration.getArgs()) {
             if (argPair.getDefaultValue() != null) {
-                Type valType = argPair.getDefaultValue().accept(this.expressionTypeChecker);
+                Type valType = this.expressionTypeChecker.typeOf(argPair.getDefaultValue());
                 if (!this.expressionTypeChecker.isAllSameType(argPair.getVariableDeclaration().getType(), valType)) {
                     UnsupportedOperandType exception = new UnsupportedOperandType(argPair.getVariableDeclaration().getLine(), BinaryOperator.assign.name());
-                    argPair.getVariableDeclaration().addError(exception);
+                    this.addError(argPair.getVariableDeclaration(), exception);
                 }
             }
             else
@@ -130,15 +154,15 @@ public class TypeChecker extends Visitor<Void> {
 
         for (Statement statement : methodDeclaration.getBody()) {
             if (this.hasReturn) {
-                statement.addError(new UnreachableStatements(statement));
+                this.addError(statement, new UnreachableStatements(statement));
                 return null;
             }
             statement.accept(this);
         }
-        if (!this.hasReturn && !(methodDeclaration.getReturnType() instanceof VoidType) &&
-                !(methodDeclaration.getReturnType() instanceof NullType)) {
+        TypeKind returnKind = TypeKind.of(methodDeclaration.getReturnType());
+        if (!this.hasReturn && returnKind != TypeKind.VOID && returnKind != TypeKind.NULL) {
             MissingReturnStatement exception = new MissingReturnStatement(methodDeclaration);
-            methodDeclaration.addError(exception);
+            this.addError(methodDeclaration, exception);
         }
         return null;
     }
@@ -157,18 +181,18 @@ public class TypeChecker extends Visitor<Void> {
 
     @Override
     public Void visit(AssignmentStmt assignmentStmt) {
-        Type lType = assignmentStmt.getlValue().accept(this.expressionTypeChecker);
-        Type rType = assignmentStmt.getrValue().accept(this.expressionTypeChecker);
-        if (!this.expressionTypeChecker.isLeftVal(assignmentStmt.getlValue())) {
-            assignmentStmt.addError(new LeftSideNotLvalue(assignmentStmt.getLine()));
+        Type lType = this.expressionTypeChecker.acceptAssignment(assignmentStmt.getlValue(), assignmentStmt.getrValue());
+        Type rType = this.expressionTypeChecker.getAssignedType();
+        if (!this.expressionTypeChecker.isLastLeftVal()) {
+            this.addError(assignmentStmt, new LeftSideNotLvalue(assignmentStmt.getLine()));
         }
 
-        if (lType instanceof NoType)
+        if (TypeKind.of(lType) == TypeKind.NO_TYPE)
             return null;
         if (!this.expressionTypeChecker.isAllSameType(rType, lType)) {
             int line = assignmentStmt.getLine();
             UnsupportedOperandType exception = new UnsupportedOperandType(line, BinaryOperator.assign.toString());
-            assignmentStmt.addError(exception);
+            this.addError(assignmentStmt, exception);
         }
 
         return null;
@@ -178,7 +202,7 @@ public class TypeChecker extends Visitor<Void> {
     public Void visit(BlockStmt blockStmt) {
         for (Statement statement : blockStmt.getStatements()) {
             if (this.hasReturn) {
-                statement.addError(new UnreachableStatements(statement));
+                this.addError(statement, new UnreachableStatements(statement));
                 return null;
             }
             statement.accept(this);
@@ -190,9 +214,9 @@ public class TypeChecker extends Visitor<Void> {
     public Void visit(ConditionalStmt conditionalStmt) {
         boolean ifHasReturn = false, elifHasReturn = false, elseHasReturn = false, curReturnState;
         curReturnState = this.hasReturn;
-        Type condType = conditionalStmt.getCondition().accept(this.expressionTypeChecker);
-        if (!(condType instanceof BoolType || condType instanceof NoType)) {
-            conditionalStmt.addError(new ConditionNotBool(conditionalStmt.getLine()));
+        TypeKind condKind = TypeKind.of(this.expressionTypeChecker.typeOf(conditionalStmt.getCondition()));
+        if (condKind != TypeKind.BOOL && condKind != TypeKind.NO_TYPE) {
+            this.addError(conditionalStmt, new ConditionNotBool(conditionalStmt.getLine()));
         }
 
         if (conditionalStmt.getThenBody() != null) {
@@ -219,9 +243,9 @@ public class TypeChecker extends Visitor<Void> {
 
     @Override
     public Void visit(ElsifStmt elsifStmt) {
-        Type condType = elsifStmt.getCondition().accept(this.expressionTypeChecker);
-        if (!(condType instanceof BoolType || condType instanceof NoType)) {
-            elsifStmt.addError(new ConditionNotBool(elsifStmt.getLine()));
+        TypeKind condKind = TypeKind.of(this.expressionTypeChecker.typeOf(elsifStmt.getCondition()));
+        if (condKind != TypeKind.BOOL && condKind != TypeKind.NO_TYPE) {
+            this.addError(elsifStmt, new ConditionNotBool(elsifStmt.getLine()));
         }
         if (elsifStmt.getThenBody() != null)
             elsifStmt.getThenBody().accept(this);
@@ -231,16 +255,16 @@ public class TypeChecker extends Visitor<Void> {
     @Override
     public Void visit(MethodCallStmt methodCallStmt) {
         this.expressionTypeChecker.setIsInMethodCallStmnt(true);
-        methodCallStmt.getMethodCall().accept(this.expressionTypeChecker);
+        this.expressionTypeChecker.typeOf(methodCallStmt.getMethodCall());
         this.expressionTypeChecker.setIsInMethodCallStmnt(false);
         return null;
     }
 
     @Override
     public Void visit(PrintStmt print) {
-        Type argType = print.getArg().accept(expressionTypeChecker);
-        if(!(argType instanceof IntType || argType instanceof BoolType || argType instanceof NoType || argType instanceof SetType)) {
-            print.addError(new UnsupportedTypeForPrint(print.getLine()));
+        TypeKind argKind = TypeKind.of(this.expressionTypeChecker.typeOf(print.getArg()));
+        if(argKind != TypeKind.INT && argKind != TypeKind.BOOL && argKind != TypeKind.NO_TYPE && argKind != TypeKind.SET) {
+            this.addError(print, new UnsupportedTypeForPrint(print.getLine()));
         }
         return null;
     }
@@ -248,30 +272,31 @@ public class TypeChecker extends Visitor<Void> {
     @Override
     public Void visit(ReturnStmt returnStmt) {
         this.hasReturn = true;
-        Type retType = returnStmt.getReturnedExpr().accept(this.expressionTypeChecker);
+        Type retType = this.expressionTypeChecker.typeOf(returnStmt.getReturnedExpr());
         Type methodRetType = this.curr_method.getReturnType();
-        if ( methodRetType instanceof VoidType) {
-            returnStmt.addError(new VoidMethodHasReturn(this.curr_method));
+        if (TypeKind.of(methodRetType) == TypeKind.VOID) {
+            this.addError(returnStmt, new VoidMethodHasReturn(this.curr_method));
             return null;
         }
         if (!this.expressionTypeChecker.isAllSameType(retType, methodRetType))
-                returnStmt.addError(new ReturnValueNotMatchMethodReturnType(returnStmt));
+                this.addError(returnStmt, new ReturnValueNotMatchMethodReturnType(returnStmt));
         return null;
     }
 
     @Override
     public Void visit(EachStmt eachStmt) {
         boolean nonIterable = false;
-        Type varType = eachStmt.getVariable().accept(this.expressionTypeChecker);
-        Type iterableType = eachStmt.getList().accept(this.expressionTypeChecker);
-        if (!(iterableType instanceof ArrayType || iterableType instanceof SetType || iterableType instanceof NoType)) {
+        Type varType = this.expressionTypeChecker.typeOf(eachStmt.getVariable());
+        Type iterableType = this.expressionTypeChecker.typeOf(eachStmt.getList());
+        TypeKind iterableKind = TypeKind.of(iterableType);
+        if (iterableKind != TypeKind.ARRAY && iterableKind != TypeKind.SET && iterableKind != TypeKind.NO_TYPE) {
             EachCantIterateNoneArray exception = new EachCantIterateNoneArray(eachStmt.getLine());
-            eachStmt.addError(exception);
+            this.addError(eachStmt, exception);
             nonIterable = true;
         }
         if (!nonIterable && !this.expressionTypeChecker.isAllSameType(varType, ((ArrayType)iterableType).getType())) {
             EachVarNotMatchList exception = new EachVarNotMatchList(eachStmt);
-            eachStmt.addError(exception);
+            this.addError(eachStmt, exception);
 //            return null;
         }
         eachStmt.getBody().accept(this);
@@ -281,9 +306,9 @@ public class TypeChecker extends Visitor<Void> {
     @Override
     public Void visit(SetMerge setMerge) {
         for (Expression expression : setMerge.getElementArgs()) {
-            Type argType = expression.accept(this.expressionTypeChecker);
-            if (!(argType instanceof SetType || argType instanceof IntType))
-                setMerge.addError(new MergeInputNotSet(setMerge.getLine()));
+            TypeKind argKind = TypeKind.of(this.expressionTypeChecker.typeOf(expression));
+            if (argKind != TypeKind.SET && argKind != TypeKind.INT)
+                this.addError(setMerge, new MergeInputNotSet(setMerge.getLine()));
         }
         return null;
     }
@@ -291,7 +316,7 @@ public class TypeChecker extends Visitor<Void> {
     @Override
     public Void visit(SetAdd setAdd) {
         this.expressionTypeChecker.setIsInMethodCallStmnt(true);
-        setAdd.getElementArg().accept(this.expressionTypeChecker);
+        this.expressionTypeChecker.typeOf(setAdd.getElementArg());
         this.expressionTypeChecker.setIsInMethodCallStmnt(false);
         return null;
     }
@@ -299,7 +324,7 @@ public class TypeChecker extends Visitor<Void> {
     @Override
     public Void visit(SetInclude setInclude) {
         this.expressionTypeChecker.setIsInMethodCallStmnt(true);
-        setInclude.getElementArg().accept(this.expressionTypeChecker);
+        this.expressionTypeChecker.typeOf(setInclude.getElementArg());
         this.expressionTypeChecker.setIsInMethodCallStmnt(false);
         return null;
     }
@@ -15,9 +15,21 @@ import main.ast.nodes.statement.set.*;
 import main.util.ArgPair;
 import main.visitor.*;
 
+import java.io.PrintStream;
+
 public class ASTTreePrinter extends Visitor<Void> {
+    private final PrintStream out;
+
+    public ASTTreePrinter() {
+        this(System.out);
+    }
+
+    public ASTTreePrinter(PrintStream out) {
+        this.out = out;
+    }
+
     public void messagePrinter(int line, String message){
-        System.out.println("Line " + line + ": " + message);
+        this.out.println("Line " + line + ": " + message);
     }
 
     @Override
@@ -0,0 +1,131 @@
+package main.visitor.utils;
+
+import main.compileError.CompileError;
+import main.compileError.DiagnosticFormat;
+import org.antlr.v4.runtime.IntStream;
+
+import java.io.PrintStream;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+
+//Writes errors in one of the DiagnosticFormats. Everything goes into one buffer that reaches the stream in a single
+//print when a report is flushed, instead of one synchronized println per error.
+//JSON strings escape every non-ASCII character, so the structured formats read the same whatever the stream's charset.
+public class DiagnosticWriter {
+    private static final String SARIF_SCHEMA = "https://json.schemastore.org/sarif-2.1.0.json";
+
+    private final DiagnosticFormat format;
+    private final String source;
+    private final String sourceUri;
+    private final PrintStream out;
+    private final StringBuilder buffer = new StringBuilder();
+    private int sarifResults;
+
+    // source names the compiled file in structured output; may be null
+    public DiagnosticWriter(DiagnosticFormat format, String source, PrintStream out) {
+        this.format = format;
+        this.source = source;
+        this.sourceUri = format == DiagnosticFormat.SARIF ? fileUri(source) : null;
+        this.out = out;
+        if (format == DiagnosticFormat.SARIF) {
+            this.buffer.append("{\"version\":\"2.1.0\",\"$schema\":").append(quote(SARIF_SCHEMA))
+                    .append(",\"runs\":[{\"tool\":{\"driver\":{\"name\":\"SimpleLOOP\"}},\"results\":[");
+        }
+    }
+
+    public DiagnosticFormat getFormat() {
+        return format;
+    }
+
+    public void write(CompileError error) {
+        switch (this.format) {
+            case TEXT:
+                this.buffer.append(error.getMessage()).append(System.lineSeparator());
+                break;
+            case JSONL:
+                this.buffer.append("{\"file\":").append(quote(this.source))
+                        .append(",\"line\":").append(error.getLine())
+                        .append(",\"code\":").append(quote(error.getCode()))
+                        .append(",\"severity\":").append(quote(error.getSeverity().name().toLowerCase()))
+                        .append(",\"phase\":").append(quote(error.getPhase()))
+                        .append(",\"symbol\":").append(quote(error.getSymbol()))
+                        .append(",\"message\":").append(quote(structuredMessage(error)))
+                        .append('}').append(System.lineSeparator());
+                break;
+            case SARIF:
+                if (this.sarifResults++ != 0)
+                    this.buffer.append(',');
+                this.buffer.append("{\"ruleId\":").append(quote(error.getCode()))
+                        .append(",\"level\":").append(quote(error.getSeverity().name().toLowerCase()))
+                        .append(",\"message\":{\"text\":").append(quote(structuredMessage(error))).append('}')
+                        .append(",\"locations\":[{\"physicalLocation\":{\"artifactLocation\":{");
+                if (this.sourceUri != null)
+                    this.buffer.append("\"uri\":").append(quote(this.sourceUri));
+                this.buffer.append("},\"region\":{\"startLine\":").append(error.getLine()).append("}}}]")
+                        .append(",\"properties\":{\"phase\":").append(quote(error.getPhase()))
+                        .append(",\"symbol\":").append(quote(error.getSymbol())).append("}}");
+                break;
+        }
+    }
+
+    // Hands what is buffered to the stream; a SARIF log is held back until finish, as it is a single document
+    public void flush() {
+        if (this.format == DiagnosticFormat.SARIF || this.buffer.length() == 0)
+            return;
+        this.out.print(this.buffer);
+        this.out.flush();
+        this.buffer.setLength(0);
+    }
+
+    // Called once after the last report
+    public void finish() {
+        if (this.format == DiagnosticFormat.SARIF) {
+            this.buffer.append("]}]}").append(System.lineSeparator());
+            this.out.print(this.buffer);
+            this.buffer.setLength(0);
+        }
+        this.out.flush();
+    }
+
+    // Some descriptions end in a line break of their own, which only the text format keeps
+    private static String structuredMessage(CompileError error) {
+        String description = error.getDescription();
+        int end = description.length();
+        while (end > 0 && (description.charAt(end - 1) == '\n' || description.charAt(end - 1) == '\r'))
+            end--;
+        return description.substring(0, end);
+    }
+
+    // An absolute file URI, or null for sources that are not files, like the requests of the compile server
+    private static String fileUri(String source) {
+        if (source == null || source.equals(IntStream.UNKNOWN_SOURCE_NAME))
+            return null;
+        try {
+            return Path.of(source).toAbsolutePath().normalize().toUri().toString();
+        } catch (InvalidPathException e) {
+            return null;
+        }
+    }
+
+    private static String quote(String text) {
+        if (text == null)
+            return "null";
+        StringBuilder quoted = new StringBuilder(text.length() + 2).append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '"': quoted.append("\\\""); break;
+                case '\\': quoted.append("\\\\"); break;
+                case '\n': quoted.append("\\n"); break;
+                case '\r': quoted.append("\\r"); break;
+                case '\t': quoted.append("\\t"); break;
+                default:
+                    if (c < 0x20 || c > 0x7e)
+                        quoted.append(String.format("\\u%04x", (int) c));
+                    else
+                        quoted.append(c);
+            }
+        }
+        return quoted.append('"').toString();
+    }
+}
@@ -0,0 +1,295 @@
+package main.visitor.utils;
+
+import main.ast.nodes.*;
+import main.ast.nodes.declaration.classDec.ClassDeclaration;
+import main.ast.nodes.declaration.classDec.classMembersDec.ConstructorDeclaration;
+import main.ast.nodes.declaration.classDec.classMembersDec.FieldDeclaration;
+import main.ast.nodes.declaration.classDec.classMembersDec.MethodDeclaration;
+import main.ast.nodes.declaration.variableDec.VariableDeclaration;
+import main.ast.nodes.expression.*;
+import main.ast.nodes.expression.values.NullValue;
+import main.ast.nodes.expression.values.SetValue;
+import main.ast.nodes.expression.values.primitive.*;
+import main.ast.nodes.statement.*;
+import main.ast.nodes.statement.set.*;
+import main.util.ArgPair;
+import main.visitor.*;
+
+//Counts the nodes reachable the same way PreorderNumberer walks the tree
+public class NodeCounter extends Visitor<Integer> {
+
+    @Override
+    public Integer visit(Program program) {
+        int numOfNodes = 1;
+        for (VariableDeclaration variableDeclaration : program.getGlobalVariables()) {
+            numOfNodes += variableDeclaration.accept(this);
+        }
+        for(ClassDeclaration classDeclaration : program.getClasses()) {
+            numOfNodes += classDeclaration.accept(this);
+        }
+        return numOfNodes;
+    }
+
+    @Override
+    public Integer visit(ClassDeclaration classDeclaration) {
+        int numOfNodes = 1;
+        numOfNodes += classDeclaration.getClassName().accept(this);
+        if(classDeclaration.getParentClassName() != null) {
+            numOfNodes += classDeclaration.getParentClassName().accept(this);
+        }
+        for(FieldDeclaration fieldDeclaration : classDeclaration.getFields()) {
+            numOfNodes += fieldDeclaration.accept(this);
+        }
+        if(classDeclaration.getConstructor() != null) {
+            numOfNodes += classDeclaration.getConstructor().accept(this);
+        }
+        for(MethodDeclaration methodDeclaration : classDeclaration.getMethods()) {
+            numOfNodes += methodDeclaration.accept(this);
+        }
+        return numOfNodes;
+    }
+
+    @Override
+    public Integer visit(ConstructorDeclaration constructorDeclaration) {
+        return this.visit((MethodDeclaration) constructorDeclaration);
+    }
+
+    @Override
+    public Integer visit(MethodDeclaration methodDeclaration) {
+        int numOfNodes = 1;
+        numOfNodes += methodDeclaration.getMethodName().accept(this);
+        for(ArgPair argPair : methodDeclaration.getArgs()) {
+            numOfNodes += argPair.getVariableDeclaration().accept(this);
+        }
+        for(VariableDeclaration varDeclaration : methodDeclaration.getLocalVars()) {
+            numOfNodes += varDeclaration.accept(this);
+        }
+        for(Statement statement : methodDeclaration.getBody()) {
+            numOfNodes += statement.accept(this);
+        }
+        return numOfNodes;
+    }
+
+    @Override
+    public Integer visit(FieldDeclaration fieldDeclaration) {
+        int numOfNodes = 1;
+        numOfNodes += fieldDeclaration.getVarDeclaration().accept(this);
+        return numOfNodes;
+    }
+
+    @Override
+    public Integer visit(VariableDeclaration varDeclaration) {
+        int numOfNodes = 1;
+        numOfNodes += varDeclaration.getVarName().accept(this);
+        return numOfNodes;
+    }
+
+    @Override
+    public Integer visit(AssignmentStmt assignmentStmt) {
+        int numOfNodes = 1;
+        numOfNodes += assignmentStmt.getlValue().accept(this);
+        numOfNodes += assignmentStmt.getrValue().accept(this);
+        return numOfNodes;
+    }
+
+    @Override
+    public Integer visit(BlockStmt blockStmt) {
+        int numOfNodes = 1;
+        for(Statement statement : blockStmt.getStatements()) {
+            numOfNodes += statement.accept(this);
+        }
+        return numOfNodes;
+    }
+
+    @Override
+    public Integer visit(ConditionalStmt conditionalStmt) {
+        int numOfNodes = 1;
+        numOfNodes += conditionalStmt.getCondition().accept(this);
+        numOfNodes += conditionalStmt.getThenBody().accept(this);
+        for (ElsifStmt elsifStmt : conditionalStmt.getElsif())
+            numOfNodes += elsifStmt.accept(this);
+        if(conditionalStmt.getElseBody() != null) {
+            numOfNodes += conditionalStmt.getElseBody().accept(this);
+        }
+        return numOfNodes;
+    }
+
+    @Override
+    public Integer visit(ElsifStmt elsifStmt) {
+        int numOfNodes = 1;
+        numOfNodes += elsifStmt.getCondition().accept(this);
+        numOfNodes += elsifStmt.getThenBody().accept(this);
+        return numOfNodes;
+    }
+
+    @Override
+    public Integer visit(MethodCallStmt methodCallStmt) {
+        int numOfNodes = 1;
+        numOfNodes += methodCallStmt.getMethodCall().accept(this);
+        return numOfNodes;
+    }
+
+    @Override
+    public Integer visit(PrintStmt print) {
+        int numOfNodes = 1;
+        numOfNodes += print.getArg().accept(this);
+        return numOfNodes;
+    }
+
+    @Override
+    public Integer visit(ReturnStmt returnStmt) {
+        int numOfNodes = 1;
+        numOfNodes += returnStmt.getReturnedExpr().accept(this);
+        return numOfNodes;
+    }
+
+    @Override
+    public Integer visit(EachStmt eachStmt) {
+        int numOfNodes = 1;
+        numOfNodes += eachStmt.getVariable().accept(this);
+        numOfNodes += eachStmt.getList().accept(this);
+        numOfNodes += eachStmt.getBody().accept(this);
+        return numOfNodes;
+    }
+
+    @Override
+    public Integer visit(BinaryExpression binaryExpression) {
+        int numOfNodes = 1;
+        numOfNodes += binaryExpression.getFirstOperand().accept(this);
+        numOfNodes += binaryExpression.getSecondOperand().accept(this);
+        return numOfNodes;
+    }
+
+    @Override
+    public Integer visit(UnaryExpression unaryExpression) {
+        int numOfNodes = 1;
+        numOfNodes += unaryExpression.getOperand().accept(this);
+        return numOfNodes;
+    }
+
+    @Override
+    public Integer visit(TernaryExpression ternaryExpression) {
+        int numOfNodes = 1;
+        numOfNodes += ternaryExpression.getCondition().accept(this);
+        numOfNodes += ternaryExpression.getTrueExpression().accept(this);
+        numOfNodes += ternaryExpression.getFalseExpression().accept(this);
+        return numOfNodes;
+    }
+
+    @Override
+    public Integer visit(ObjectMemberAccess objectMemberAccess) {
+        int numOfNodes = 1;
+        numOfNodes += objectMemberAccess.getInstance().accept(this);
+        numOfNodes += objectMemberAccess.getMemberName().accept(this);
+        return numOfNodes;
+    }
+
+    @Override
+    public Integer visit(Identifier identifier) {
+        return 1;
+    }
+
+    @Override
+    public Integer visit(ArrayAccessByIndex arrayAccessByIndex) {
+        int numOfNodes = 1;
+        numOfNodes += arrayAccessByIndex.getInstance().accept(this);
+        numOfNodes += arrayAccessByIndex.getIndex().accept(this);
+        return numOfNodes;
+    }
+
+    @Override
+    public Integer visit(MethodCall methodCall) {
+        int numOfNodes = 1;
+        numOfNodes += methodCall.getInstance().accept(this);
+        for(Expression expression : methodCall.getArgs()) {
+            numOfNodes += expression.accept(this);
+        }
+        return numOfNodes;
+    }
+
+    @Override
+    public Integer visit(NewClassInstance newClassInstance) {
+        int numOfNodes = 1;
+        for(Expression expression : newClassInstance.getArgs()) {
+            numOfNodes += expression.accept(this);
+        }
+        return numOfNodes;
+    }
+
+    @Override
+    public Integer visit(SelfClass selfClass) {
+        return 1;
+    }
+
+    @Override
+    public Integer visit(NullValue nullValue) {
+        return 1;
+    }
+
+    @Override
+    public Integer visit(IntValue intValue) {
+        return 1;
+    }
+
+    @Override
+    public Integer visit(BoolValue boolValue) {
+        return 1;
+    }
+
+    @Override
+    public Integer visit(SetInclude setInclude) {
+        int numOfNodes = 1;
+        numOfNodes += setInclude.getSetArg().accept(this);
+        numOfNodes += setInclude.getElementArg().accept(this);
+        return numOfNodes;
+    }
+
+    @Override
+    public Integer visit(SetValue setValue) {
+        int numOfNodes = 1;
+        for (IntValue intValue : setValue.getElements())
+            numOfNodes += intValue.accept(this);
+        return numOfNodes;
+    }
+
+    @Override
+    public Integer visit(SetNew setNew) {
+        int numOfNodes = 1;
+        for (Expression expression : setNew.getArgs())
+            numOfNodes += expression.accept(this);
+        return numOfNodes;
+    }
+
+    @Override
+    public Integer visit(SetDelete setDelete) {
+        int numOfNodes = 1;
+        numOfNodes += setDelete.getSetArg().accept(this);
+        numOfNodes += setDelete.getElementArg().accept(this);
+        return numOfNodes;
+    }
+
+    @Override
+    public Integer visit(SetMerge setMerge) {
+        int numOfNodes = 1;
+        numOfNodes += setMerge.getSetArg().accept(this);
+        for (Expression expression : setMerge.getElementArgs())
+            numOfNodes += expression.accept(this);
+        return numOfNodes;
+    }
+
+    @Override
+    public Integer visit(SetAdd setAdd) {
+        int numOfNodes = 1;
+        numOfNodes += setAdd.getSetArg().accept(this);
+        numOfNodes += setAdd.getElementArg().accept(this);
+        return numOfNodes;
+    }
+
+    @Override
+    public Integer visit(RangeExpression rangeExpression) {
+        int numOfNodes = 1;
+        numOfNodes += rangeExpression.getLeftExpression().accept(this);
+        numOfNodes += rangeExpression.getRightExpression().accept(this);
+        return numOfNodes;
+    }
+}
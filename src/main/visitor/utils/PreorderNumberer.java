@@ -0,0 +1,307 @@
+package main.visitor.utils;
+
+import main.ast.nodes.*;
+import main.ast.nodes.declaration.classDec.ClassDeclaration;
+import main.ast.nodes.declaration.classDec.classMembersDec.ConstructorDeclaration;
+import main.ast.nodes.declaration.classDec.classMembersDec.FieldDeclaration;
+import main.ast.nodes.declaration.classDec.classMembersDec.MethodDeclaration;
+import main.ast.nodes.declaration.variableDec.VariableDeclaration;
+import main.ast.nodes.expression.*;
+import main.ast.nodes.expression.values.NullValue;
+import main.ast.nodes.expression.values.SetValue;
+import main.ast.nodes.expression.values.primitive.*;
+import main.ast.nodes.statement.*;
+import main.ast.nodes.statement.set.*;
+import main.util.ArgPair;
+import main.visitor.*;
+
+//Gives every node its pre-order index, in the order ErrorReporter prints their errors in. A node reached twice keeps
+//the index it got first.
+public class PreorderNumberer extends Visitor<Void> {
+    private int next;
+
+    private void number(Node node) {
+        if (node.getPreorderIndex() < 0)
+            node.setPreorderIndex(this.next++);
+    }
+
+    @Override
+    public Void visit(Program program) {
+        this.number(program);
+        for (VariableDeclaration variableDeclaration : program.getGlobalVariables()) {
+            variableDeclaration.accept(this);
+        }
+        for(ClassDeclaration classDeclaration : program.getClasses()) {
+            classDeclaration.accept(this);
+        }
+        return null;
+    }
+
+    @Override
+    public Void visit(ClassDeclaration classDeclaration) {
+        this.number(classDeclaration);
+        classDeclaration.getClassName().accept(this);
+        if(classDeclaration.getParentClassName() != null) {
+            classDeclaration.getParentClassName().accept(this);
+        }
+        for(FieldDeclaration fieldDeclaration : classDeclaration.getFields()) {
+            fieldDeclaration.accept(this);
+        }
+        if(classDeclaration.getConstructor() != null) {
+            classDeclaration.getConstructor().accept(this);
+        }
+        for(MethodDeclaration methodDeclaration : classDeclaration.getMethods()) {
+            methodDeclaration.accept(this);
+        }
+        return null;
+    }
+
+    @Override
+    public Void visit(ConstructorDeclaration constructorDeclaration) {
+        return this.visit((MethodDeclaration) constructorDeclaration);
+    }
+
+    @Override
+    public Void visit(MethodDeclaration methodDeclaration) {
+        this.number(methodDeclaration);
+        methodDeclaration.getMethodName().accept(this);
+        for(ArgPair argPair : methodDeclaration.getArgs()) {
+            argPair.getVariableDeclaration().accept(this);
+        }
+        for(VariableDeclaration varDeclaration : methodDeclaration.getLocalVars()) {
+            varDeclaration.accept(this);
+        }
+        for(Statement statement : methodDeclaration.getBody()) {
+            statement.accept(this);
+        }
+        return null;
+    }
+
+    @Override
+    public Void visit(FieldDeclaration fieldDeclaration) {
+        this.number(fieldDeclaration);
+        fieldDeclaration.getVarDeclaration().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(VariableDeclaration varDeclaration) {
+        this.number(varDeclaration);
+        varDeclaration.getVarName().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(AssignmentStmt assignmentStmt) {
+        this.number(assignmentStmt);
+        assignmentStmt.getlValue().accept(this);
+        assignmentStmt.getrValue().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(BlockStmt blockStmt) {
+        this.number(blockStmt);
+        for(Statement statement : blockStmt.getStatements()) {
+            statement.accept(this);
+        }
+        return null;
+    }
+
+    @Override
+    public Void visit(ConditionalStmt conditionalStmt) {
+        this.number(conditionalStmt);
+        conditionalStmt.getCondition().accept(this);
+        conditionalStmt.getThenBody().accept(this);
+        for (ElsifStmt elsifStmt : conditionalStmt.getElsif())
+            elsifStmt.accept(this);
+        if(conditionalStmt.getElseBody() != null) {
+            conditionalStmt.getElseBody().accept(this);
+        }
+        return null;
+    }
+
+    @Override
+    public Void visit(ElsifStmt elsifStmt) {
+        this.number(elsifStmt);
+        elsifStmt.getCondition().accept(this);
+        elsifStmt.getThenBody().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(MethodCallStmt methodCallStmt) {
+        this.number(methodCallStmt);
+        methodCallStmt.getMethodCall().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(PrintStmt print) {
+        this.number(print);
+        print.getArg().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(ReturnStmt returnStmt) {
+        this.number(returnStmt);
+        returnStmt.getReturnedExpr().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(EachStmt eachStmt) {
+        this.number(eachStmt);
+        eachStmt.getVariable().accept(this);
+        eachStmt.getList().accept(this);
+        eachStmt.getBody().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(BinaryExpression binaryExpression) {
+        this.number(binaryExpression);
+        binaryExpression.getFirstOperand().accept(this);
+        binaryExpression.getSecondOperand().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(UnaryExpression unaryExpression) {
+        this.number(unaryExpression);
+        unaryExpression.getOperand().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(TernaryExpression ternaryExpression) {
+        this.number(ternaryExpression);
+        ternaryExpression.getCondition().accept(this);
+        ternaryExpression.getTrueExpression().accept(this);
+        ternaryExpression.getFalseExpression().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(ObjectMemberAccess objectMemberAccess) {
+        this.number(objectMemberAccess);
+        objectMemberAccess.getInstance().accept(this);
+        objectMemberAccess.getMemberName().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(Identifier identifier) {
+        this.number(identifier);
+        return null;
+    }
+
+    @Override
+    public Void visit(ArrayAccessByIndex arrayAccessByIndex) {
+        this.number(arrayAccessByIndex);
+        arrayAccessByIndex.getInstance().accept(this);
+        arrayAccessByIndex.getIndex().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(MethodCall methodCall) {
+        this.number(methodCall);
+        methodCall.getInstance().accept(this);
+        for(Expression expression : methodCall.getArgs()) {
+            expression.accept(this);
+        }
+        return null;
+    }
+
+    @Override
+    public Void visit(NewClassInstance newClassInstance) {
+        this.number(newClassInstance);
+        for(Expression expression : newClassInstance.getArgs()) {
+            expression.accept(this);
+        }
+        return null;
+    }
+
+    @Override
+    public Void visit(SelfClass selfClass) {
+        this.number(selfClass);
+        return null;
+    }
+
+    @Override
+    public Void visit(NullValue nullValue) {
+        this.number(nullValue);
+        return null;
+    }
+
+    @Override
+    public Void visit(IntValue intValue) {
+        this.number(intValue);
+        return null;
+    }
+
+    @Override
+    public Void visit(BoolValue boolValue) {
+        this.number(boolValue);
+        return null;
+    }
+
+    @Override
+    public Void visit(SetInclude setInclude) {
+        this.number(setInclude);
+        setInclude.getSetArg().accept(this);
+        setInclude.getElementArg().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(SetValue setValue) {
+        this.number(setValue);
+        for (IntValue intValue : setValue.getElements())
+            intValue.accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(SetNew setNew) {
+        this.number(setNew);
+        for (Expression expression : setNew.getArgs())
+            expression.accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(SetDelete setDelete) {
+        this.number(setDelete);
+        setDelete.getSetArg().accept(this);
+        setDelete.getElementArg().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(SetMerge setMerge) {
+        this.number(setMerge);
+        setMerge.getSetArg().accept(this);
+        for (Expression expression : setMerge.getElementArgs())
+            expression.accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(SetAdd setAdd) {
+        this.number(setAdd);
+        setAdd.getSetArg().accept(this);
+        setAdd.getElementArg().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(RangeExpression rangeExpression) {
+        this.number(rangeExpression);
+        rangeExpression.getLeftExpression().accept(this);
+        rangeExpression.getRightExpression().accept(this);
+        return null;
+    }
+}
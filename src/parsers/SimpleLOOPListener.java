@@ -317,56 +317,6 @@ public interface SimpleLOOPListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitOrExpression(SimpleLOOPParser.OrExpressionContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link SimpleLOOPParser#andExpression}.
-	 * @param ctx the parse tree
-	 */
-	void enterAndExpression(SimpleLOOPParser.AndExpressionContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link SimpleLOOPParser#andExpression}.
-	 * @param ctx the parse tree
-	 */
-	void exitAndExpression(SimpleLOOPParser.AndExpressionContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link SimpleLOOPParser#equalityExpression}.
-	 * @param ctx the parse tree
-	 */
-	void enterEqualityExpression(SimpleLOOPParser.EqualityExpressionContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link SimpleLOOPParser#equalityExpression}.
-	 * @param ctx the parse tree
-	 */
-	void exitEqualityExpression(SimpleLOOPParser.EqualityExpressionContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link SimpleLOOPParser#relationalExpression}.
-	 * @param ctx the parse tree
-	 */
-	void enterRelationalExpression(SimpleLOOPParser.RelationalExpressionContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link SimpleLOOPParser#relationalExpression}.
-	 * @param ctx the parse tree
-	 */
-	void exitRelationalExpression(SimpleLOOPParser.RelationalExpressionContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link SimpleLOOPParser#additiveExpression}.
-	 * @param ctx the parse tree
-	 */
-	void enterAdditiveExpression(SimpleLOOPParser.AdditiveExpressionContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link SimpleLOOPParser#additiveExpression}.
-	 * @param ctx the parse tree
-	 */
-	void exitAdditiveExpression(SimpleLOOPParser.AdditiveExpressionContext ctx);
-	/**
-	 * Enter a parse tree produced by {@link SimpleLOOPParser#multiplicativeExpression}.
-	 * @param ctx the parse tree
-	 */
-	void enterMultiplicativeExpression(SimpleLOOPParser.MultiplicativeExpressionContext ctx);
-	/**
-	 * Exit a parse tree produced by {@link SimpleLOOPParser#multiplicativeExpression}.
-	 * @param ctx the parse tree
-	 */
-	void exitMultiplicativeExpression(SimpleLOOPParser.MultiplicativeExpressionContext ctx);
 	/**
 	 * Enter a parse tree produced by {@link SimpleLOOPParser#preUnaryExpression}.
 	 * @param ctx the parse tree
@@ -55,12 +55,11 @@ public class SimpleLOOPParser extends Parser {
 		RULE_elsifStatement = 18, RULE_condition = 19, RULE_elseStatement = 20, 
 		RULE_printStatement = 21, RULE_methodCallStmt = 22, RULE_returnStatement = 23, 
 		RULE_assignmentStatement = 24, RULE_loopStatement = 25, RULE_expression = 26, 
-		RULE_ternaryExpression = 27, RULE_orExpression = 28, RULE_andExpression = 29, 
-		RULE_equalityExpression = 30, RULE_relationalExpression = 31, RULE_additiveExpression = 32, 
-		RULE_multiplicativeExpression = 33, RULE_preUnaryExpression = 34, RULE_postUnaryExpression = 35, 
-		RULE_accessExpression = 36, RULE_otherExpression = 37, RULE_setNew = 38, 
-		RULE_value = 39, RULE_boolValue = 40, RULE_class_identifier = 41, RULE_identifier = 42, 
-		RULE_type = 43, RULE_array_type = 44, RULE_fptr_type = 45, RULE_set_type = 46;
+		RULE_ternaryExpression = 27, RULE_orExpression = 28, RULE_preUnaryExpression = 29, 
+		RULE_postUnaryExpression = 30, RULE_accessExpression = 31, RULE_otherExpression = 32, 
+		RULE_setNew = 33, RULE_value = 34, RULE_boolValue = 35, RULE_class_identifier = 36, 
+		RULE_identifier = 37, RULE_type = 38, RULE_array_type = 39, RULE_fptr_type = 40, 
+		RULE_set_type = 41;
 	private static String[] makeRuleNames() {
 		return new String[] {
 			"simpleLOOP", "program", "constructor", "classDeclaration", "field_decleration", 
@@ -69,11 +68,9 @@ public class SimpleLOOPParser extends Parser {
 			"deleteStatement", "varDecStatement", "ifStatement", "elsifStatement", 
 			"condition", "elseStatement", "printStatement", "methodCallStmt", "returnStatement", 
 			"assignmentStatement", "loopStatement", "expression", "ternaryExpression", 
-			"orExpression", "andExpression", "equalityExpression", "relationalExpression", 
-			"additiveExpression", "multiplicativeExpression", "preUnaryExpression", 
-			"postUnaryExpression", "accessExpression", "otherExpression", "setNew", 
-			"value", "boolValue", "class_identifier", "identifier", "type", "array_type", 
-			"fptr_type", "set_type"
+			"orExpression", "preUnaryExpression", "postUnaryExpression", "accessExpression", 
+			"otherExpression", "setNew", "value", "boolValue", "class_identifier", 
+			"identifier", "type", "array_type", "fptr_type", "set_type"
 		};
 	}
 	public static final String[] ruleNames = makeRuleNames();
@@ -192,40 +189,40 @@ public class SimpleLOOPParser extends Parser {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(97);
+			setState(87);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,0,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(94);
+					setState(84);
 					match(NEWLINE);
 					}
 					} 
 				}
-				setState(99);
+				setState(89);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,0,_ctx);
 			}
-			setState(100);
+			setState(90);
 			((SimpleLOOPContext)_localctx).p = program();
 			((SimpleLOOPContext)_localctx).simpleLOOPProgram =  ((SimpleLOOPContext)_localctx).p.programRet;
-			setState(105);
+			setState(95);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==NEWLINE) {
 				{
 				{
-				setState(102);
+				setState(92);
 				match(NEWLINE);
 				}
 				}
-				setState(107);
+				setState(97);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(108);
+			setState(98);
 			match(EOF);
 			}
 		}
@@ -290,15 +287,15 @@ public class SimpleLOOPParser extends Parser {
 			((ProgramContext)_localctx).programRet =  new Program();
 			     int line = 1;
 			     _localctx.programRet.setLine(line);
-			setState(121);
+			setState(111);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << INT) | (1L << BOOL) | (1L << FPTR) | (1L << SET) | (1L << CLASS_IDENTIFIER))) != 0)) {
 				{
 				{
-				setState(111);
+				setState(101);
 				((ProgramContext)_localctx).v = varDecStatement();
-				setState(113); 
+				setState(103); 
 				_errHandler.sync(this);
 				_alt = 1;
 				do {
@@ -306,7 +303,7 @@ public class SimpleLOOPParser extends Parser {
 					case 1:
 						{
 						{
-						setState(112);
+						setState(102);
 						match(NEWLINE);
 						}
 						}
@@ -314,7 +311,7 @@ public class SimpleLOOPParser extends Parser {
 					default:
 						throw new NoViableAltException(this);
 					}
-					setState(115); 
+					setState(105); 
 					_errHandler.sync(this);
 					_alt = getInterpreter().adaptivePredict(_input,2,_ctx);
 				} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
@@ -324,19 +321,19 @@ public class SimpleLOOPParser extends Parser {
 				    
 				}
 				}
-				setState(123);
+				setState(113);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(134);
+			setState(124);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==CLASS) {
 				{
 				{
-				setState(124);
+				setState(114);
 				((ProgramContext)_localctx).c = classDeclaration();
-				setState(126); 
+				setState(116); 
 				_errHandler.sync(this);
 				_alt = 1;
 				do {
@@ -344,7 +341,7 @@ public class SimpleLOOPParser extends Parser {
 					case 1:
 						{
 						{
-						setState(125);
+						setState(115);
 						match(NEWLINE);
 						}
 						}
@@ -352,14 +349,14 @@ public class SimpleLOOPParser extends Parser {
 					default:
 						throw new NoViableAltException(this);
 					}
-					setState(128); 
+					setState(118); 
 					_errHandler.sync(this);
 					_alt = getInterpreter().adaptivePredict(_input,4,_ctx);
 				} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
 				_localctx.programRet.addClass(((ProgramContext)_localctx).c.classDeclarationRet);
 				}
 				}
-				setState(136);
+				setState(126);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -419,9 +416,9 @@ public class SimpleLOOPParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(137);
+			setState(127);
 			match(PUBLIC);
-			setState(138);
+			setState(128);
 			((ConstructorContext)_localctx).i = match(INITIALIZE);
 
 			        ((ConstructorContext)_localctx).constructorRet =  new ConstructorDeclaration();
@@ -429,24 +426,24 @@ public class SimpleLOOPParser extends Parser {
 			        newInit.setLine(((ConstructorContext)_localctx).i.getLine());
 			        _localctx.constructorRet.setLine(newInit.getLine());
 			    
-			setState(140);
+			setState(130);
 			((ConstructorContext)_localctx).args = methodArgsDec();
-			setState(144);
+			setState(134);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==NEWLINE) {
 				{
 				{
-				setState(141);
+				setState(131);
 				match(NEWLINE);
 				}
 				}
-				setState(146);
+				setState(136);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
 			 _localctx.constructorRet.setArgs(((ConstructorContext)_localctx).args.argsRet); 
-			setState(148);
+			setState(138);
 			((ConstructorContext)_localctx).b = methodBody();
 
 			        _localctx.constructorRet.setLocalVars(((ConstructorContext)_localctx).b.localVars);
@@ -518,70 +515,70 @@ public class SimpleLOOPParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(151);
+			setState(141);
 			((ClassDeclarationContext)_localctx).cl = match(CLASS);
-			setState(152);
+			setState(142);
 			((ClassDeclarationContext)_localctx).name = class_identifier();
 
 			        ((ClassDeclarationContext)_localctx).classDeclarationRet =  new ClassDeclaration(((ClassDeclarationContext)_localctx).name.idRet);
 			        _localctx.classDeclarationRet.setLine(((ClassDeclarationContext)_localctx).cl.getLine());
 			    
-			setState(158);
+			setState(148);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==LESS_THAN) {
 				{
-				setState(154);
+				setState(144);
 				match(LESS_THAN);
-				setState(155);
+				setState(145);
 				((ClassDeclarationContext)_localctx).parentName = class_identifier();
 				 _localctx.classDeclarationRet.setParentClassName(((ClassDeclarationContext)_localctx).parentName.idRet); 
 				}
 			}
 
-			setState(163);
+			setState(153);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==NEWLINE) {
 				{
 				{
-				setState(160);
+				setState(150);
 				match(NEWLINE);
 				}
 				}
-				setState(165);
+				setState(155);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(188);
+			setState(178);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case LBRACE:
 				{
 				{
-				setState(166);
+				setState(156);
 				match(LBRACE);
-				setState(168); 
+				setState(158); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				do {
 					{
 					{
-					setState(167);
+					setState(157);
 					match(NEWLINE);
 					}
 					}
-					setState(170); 
+					setState(160); 
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				} while ( _la==NEWLINE );
-				setState(179); 
+				setState(169); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				do {
 					{
 					{
-					setState(172);
+					setState(162);
 					((ClassDeclarationContext)_localctx).mf = field_decleration();
 
 					                                     for (Declaration field : ((ClassDeclarationContext)_localctx).mf.decRet) {
@@ -595,27 +592,27 @@ public class SimpleLOOPParser extends Parser {
 					                                         }
 					                                     }
 					                                 
-					setState(175); 
+					setState(165); 
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 					do {
 						{
 						{
-						setState(174);
+						setState(164);
 						match(NEWLINE);
 						}
 						}
-						setState(177); 
+						setState(167); 
 						_errHandler.sync(this);
 						_la = _input.LA(1);
 					} while ( _la==NEWLINE );
 					}
 					}
-					setState(181); 
+					setState(171); 
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				} while ( _la==PUBLIC || _la==PRIVATE );
-				setState(183);
+				setState(173);
 				match(RBRACE);
 				}
 				}
@@ -624,7 +621,7 @@ public class SimpleLOOPParser extends Parser {
 			case PRIVATE:
 				{
 				{
-				setState(185);
+				setState(175);
 				((ClassDeclarationContext)_localctx).sf = field_decleration();
 
 				            for (Declaration field : ((ClassDeclarationContext)_localctx).sf.decRet) {
@@ -703,13 +700,13 @@ public class SimpleLOOPParser extends Parser {
 			{
 			 ((Field_declerationContext)_localctx).decRet =  new ArrayList<>(); 
 			{
-			setState(203);
+			setState(193);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,14,_ctx) ) {
 			case 1:
 				{
 				{
-				setState(191);
+				setState(181);
 				((Field_declerationContext)_localctx).access = _input.LT(1);
 				_la = _input.LA(1);
 				if ( !(_la==PUBLIC || _la==PRIVATE) ) {
@@ -720,12 +717,12 @@ public class SimpleLOOPParser extends Parser {
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				setState(198);
+				setState(188);
 				_errHandler.sync(this);
 				switch ( getInterpreter().adaptivePredict(_input,13,_ctx) ) {
 				case 1:
 					{
-					setState(192);
+					setState(182);
 					((Field_declerationContext)_localctx).v = varDecStatement();
 
 					            for (VariableDeclaration varDec: ((Field_declerationContext)_localctx).v.varDecStmtRet) {
@@ -738,7 +735,7 @@ public class SimpleLOOPParser extends Parser {
 					break;
 				case 2:
 					{
-					setState(195);
+					setState(185);
 					((Field_declerationContext)_localctx).m = method();
 
 					            var newMethod = ((Field_declerationContext)_localctx).m.methodDecRet;
@@ -753,7 +750,7 @@ public class SimpleLOOPParser extends Parser {
 				break;
 			case 2:
 				{
-				setState(200);
+				setState(190);
 				((Field_declerationContext)_localctx).c = constructor();
 
 				           _localctx.decRet.add(((Field_declerationContext)_localctx).c.constructorRet);
@@ -825,7 +822,7 @@ public class SimpleLOOPParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(210);
+			setState(200);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case INT:
@@ -834,14 +831,14 @@ public class SimpleLOOPParser extends Parser {
 			case SET:
 			case CLASS_IDENTIFIER:
 				{
-				setState(205);
+				setState(195);
 				((MethodContext)_localctx).t = type();
 				 ((MethodContext)_localctx).returnType =  ((MethodContext)_localctx).t.typeRet; 
 				}
 				break;
 			case VOID:
 				{
-				setState(208);
+				setState(198);
 				match(VOID);
 				 ((MethodContext)_localctx).returnType =  new VoidType(); 
 				}
@@ -849,25 +846,25 @@ public class SimpleLOOPParser extends Parser {
 			default:
 				throw new NoViableAltException(this);
 			}
-			setState(212);
+			setState(202);
 			((MethodContext)_localctx).name = identifier();
-			setState(213);
+			setState(203);
 			((MethodContext)_localctx).args = methodArgsDec();
-			setState(217);
+			setState(207);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==NEWLINE) {
 				{
 				{
-				setState(214);
+				setState(204);
 				match(NEWLINE);
 				}
 				}
-				setState(219);
+				setState(209);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(220);
+			setState(210);
 			((MethodContext)_localctx).b = methodBody();
 
 			        ((MethodContext)_localctx).methodDecRet =  new MethodDeclaration(((MethodContext)_localctx).name.idRet, _localctx.returnType, false);
@@ -937,7 +934,7 @@ public class SimpleLOOPParser extends Parser {
 		int _la;
 		try {
 			int _alt;
-			setState(266);
+			setState(256);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case LBRACE:
@@ -948,42 +945,42 @@ public class SimpleLOOPParser extends Parser {
 				        ((MethodBodyContext)_localctx).localVars =  new ArrayList<>();
 				        ((MethodBodyContext)_localctx).statements =  new ArrayList<>();
 				    
-				setState(224);
+				setState(214);
 				match(LBRACE);
-				setState(226); 
+				setState(216); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				do {
 					{
 					{
-					setState(225);
+					setState(215);
 					match(NEWLINE);
 					}
 					}
-					setState(228); 
+					setState(218); 
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				} while ( _la==NEWLINE );
-				setState(240);
+				setState(230);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,19,_ctx);
 				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 					if ( _alt==1 ) {
 						{
 						{
-						setState(230);
+						setState(220);
 						((MethodBodyContext)_localctx).v = varDecStatement();
-						setState(232); 
+						setState(222); 
 						_errHandler.sync(this);
 						_la = _input.LA(1);
 						do {
 							{
 							{
-							setState(231);
+							setState(221);
 							match(NEWLINE);
 							}
 							}
-							setState(234); 
+							setState(224); 
 							_errHandler.sync(this);
 							_la = _input.LA(1);
 						} while ( _la==NEWLINE );
@@ -994,40 +991,40 @@ public class SimpleLOOPParser extends Parser {
 						}
 						} 
 					}
-					setState(242);
+					setState(232);
 					_errHandler.sync(this);
 					_alt = getInterpreter().adaptivePredict(_input,19,_ctx);
 				}
-				setState(253);
+				setState(243);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << SELF) | (1L << RETURN) | (1L << PRINT) | (1L << IF) | (1L << MINUS) | (1L << NOT) | (1L << TRUE) | (1L << FALSE) | (1L << SET) | (1L << LPAR) | (1L << INT_VALUE) | (1L << IDENTIFIER) | (1L << CLASS_IDENTIFIER))) != 0)) {
 					{
 					{
-					setState(243);
+					setState(233);
 					((MethodBodyContext)_localctx).s = singleStatement();
-					setState(245); 
+					setState(235); 
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 					do {
 						{
 						{
-						setState(244);
+						setState(234);
 						match(NEWLINE);
 						}
 						}
-						setState(247); 
+						setState(237); 
 						_errHandler.sync(this);
 						_la = _input.LA(1);
 					} while ( _la==NEWLINE );
 					 _localctx.statements.add(((MethodBodyContext)_localctx).s.singleRet); 
 					}
 					}
-					setState(255);
+					setState(245);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
-				setState(256);
+				setState(246);
 				match(RBRACE);
 				}
 				}
@@ -1054,13 +1051,13 @@ public class SimpleLOOPParser extends Parser {
 				        ((MethodBodyContext)_localctx).localVars =  new ArrayList<>();
 				        ((MethodBodyContext)_localctx).statements =  new ArrayList<>();
 				    
-				setState(264);
+				setState(254);
 				_errHandler.sync(this);
 				switch ( getInterpreter().adaptivePredict(_input,22,_ctx) ) {
 				case 1:
 					{
 					{
-					setState(258);
+					setState(248);
 					((MethodBodyContext)_localctx).v = varDecStatement();
 
 					        for (VariableDeclaration varDec : ((MethodBodyContext)_localctx).v.varDecStmtRet)
@@ -1072,7 +1069,7 @@ public class SimpleLOOPParser extends Parser {
 				case 2:
 					{
 					{
-					setState(261);
+					setState(251);
 					((MethodBodyContext)_localctx).s = singleStatement();
 					 _localctx.statements.add(((MethodBodyContext)_localctx).s.singleRet); 
 					}
@@ -1149,26 +1146,26 @@ public class SimpleLOOPParser extends Parser {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(268);
+			setState(258);
 			match(LPAR);
 			 ((MethodArgsDecContext)_localctx).argsRet =  new ArrayList<>(); 
-			setState(298);
+			setState(288);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << INT) | (1L << BOOL) | (1L << FPTR) | (1L << SET) | (1L << CLASS_IDENTIFIER))) != 0)) {
 				{
-				setState(270);
+				setState(260);
 				((MethodArgsDecContext)_localctx).arg = argDec();
 				 _localctx.argsRet.add(new ArgPair(((MethodArgsDecContext)_localctx).arg.arg)); 
-				setState(285);
+				setState(275);
 				_errHandler.sync(this);
 				switch (_input.LA(1)) {
 				case ASSIGN:
 					{
 					{
-					setState(272);
+					setState(262);
 					match(ASSIGN);
-					setState(273);
+					setState(263);
 					((MethodArgsDecContext)_localctx).oe = orExpression();
 
 					                                        _localctx.argsRet.get(0).setDefaultValue(((MethodArgsDecContext)_localctx).oe.orExprRet);
@@ -1179,22 +1176,22 @@ public class SimpleLOOPParser extends Parser {
 				case RPAR:
 				case COMMA:
 					{
-					setState(282);
+					setState(272);
 					_errHandler.sync(this);
 					_alt = getInterpreter().adaptivePredict(_input,24,_ctx);
 					while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 						if ( _alt==1 ) {
 							{
 							{
-							setState(276);
+							setState(266);
 							match(COMMA);
-							setState(277);
+							setState(267);
 							((MethodArgsDecContext)_localctx).arg = argDec();
 							 _localctx.argsRet.add(new ArgPair(((MethodArgsDecContext)_localctx).arg.arg)); 
 							}
 							} 
 						}
-						setState(284);
+						setState(274);
 						_errHandler.sync(this);
 						_alt = getInterpreter().adaptivePredict(_input,24,_ctx);
 					}
@@ -1203,31 +1200,31 @@ public class SimpleLOOPParser extends Parser {
 				default:
 					throw new NoViableAltException(this);
 				}
-				setState(295);
+				setState(285);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==COMMA) {
 					{
 					{
-					setState(287);
+					setState(277);
 					match(COMMA);
-					setState(288);
+					setState(278);
 					((MethodArgsDecContext)_localctx).arg = argDec();
-					setState(289);
+					setState(279);
 					match(ASSIGN);
-					setState(290);
+					setState(280);
 					((MethodArgsDecContext)_localctx).oe = orExpression();
 					 _localctx.argsRet.add(new ArgPair(((MethodArgsDecContext)_localctx).arg.arg, ((MethodArgsDecContext)_localctx).oe.orExprRet)); 
 					}
 					}
-					setState(297);
+					setState(287);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
 				}
 			}
 
-			setState(300);
+			setState(290);
 			match(RPAR);
 			}
 		}
@@ -1277,9 +1274,9 @@ public class SimpleLOOPParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(302);
+			setState(292);
 			((ArgDecContext)_localctx).typ = type();
-			setState(303);
+			setState(293);
 			((ArgDecContext)_localctx).name = identifier();
 			 ((ArgDecContext)_localctx).arg =  new VariableDeclaration(((ArgDecContext)_localctx).name.idRet, ((ArgDecContext)_localctx).typ.typeRet);
 			       _localctx.arg.setLine(((ArgDecContext)_localctx).name.idRet.getLine()); 
@@ -1337,28 +1334,28 @@ public class SimpleLOOPParser extends Parser {
 			enterOuterAlt(_localctx, 1);
 			{
 			 ((MethodArgsContext)_localctx).methodCallArgsRet =  new ArrayList<>(); 
-			setState(318);
+			setState(308);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << SELF) | (1L << MINUS) | (1L << NOT) | (1L << TRUE) | (1L << FALSE) | (1L << SET) | (1L << LPAR) | (1L << INT_VALUE) | (1L << IDENTIFIER) | (1L << CLASS_IDENTIFIER))) != 0)) {
 				{
-				setState(307);
+				setState(297);
 				((MethodArgsContext)_localctx).e1 = expression();
 				 _localctx.methodCallArgsRet.add(((MethodArgsContext)_localctx).e1.expRet); 
-				setState(315);
+				setState(305);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==COMMA) {
 					{
 					{
-					setState(309);
+					setState(299);
 					match(COMMA);
-					setState(310);
+					setState(300);
 					((MethodArgsContext)_localctx).e2 = expression();
 					 _localctx.methodCallArgsRet.add(((MethodArgsContext)_localctx).e2.expRet); 
 					}
 					}
-					setState(317);
+					setState(307);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
@@ -1418,12 +1415,12 @@ public class SimpleLOOPParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(331);
+			setState(321);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case LBRACE:
 				{
-				setState(320);
+				setState(310);
 				((BodyContext)_localctx).bs = blockStatement();
 				 ((BodyContext)_localctx).statementRet =  ((BodyContext)_localctx).bs.blockRet; 
 				}
@@ -1431,21 +1428,21 @@ public class SimpleLOOPParser extends Parser {
 			case NEWLINE:
 				{
 				{
-				setState(324); 
+				setState(314); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				do {
 					{
 					{
-					setState(323);
+					setState(313);
 					match(NEWLINE);
 					}
 					}
-					setState(326); 
+					setState(316); 
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				} while ( _la==NEWLINE );
-				setState(328);
+				setState(318);
 				((BodyContext)_localctx).ss = singleStatement();
 				 ((BodyContext)_localctx).statementRet =  ((BodyContext)_localctx).ss.singleRet; 
 				}
@@ -1509,54 +1506,54 @@ public class SimpleLOOPParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(333);
+			setState(323);
 			((BlockStatementContext)_localctx).lb = match(LBRACE);
 			 ((BlockStatementContext)_localctx).blockRet =  new BlockStmt();
 			        _localctx.blockRet.setLine(((BlockStatementContext)_localctx).lb.getLine());
-			setState(336); 
+			setState(326); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			do {
 				{
 				{
-				setState(335);
+				setState(325);
 				match(NEWLINE);
 				}
 				}
-				setState(338); 
+				setState(328); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			} while ( _la==NEWLINE );
-			setState(349);
+			setState(339);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << SELF) | (1L << RETURN) | (1L << PRINT) | (1L << IF) | (1L << MINUS) | (1L << NOT) | (1L << TRUE) | (1L << FALSE) | (1L << SET) | (1L << LPAR) | (1L << INT_VALUE) | (1L << IDENTIFIER) | (1L << CLASS_IDENTIFIER))) != 0)) {
 				{
 				{
-				setState(340);
+				setState(330);
 				((BlockStatementContext)_localctx).ss = singleStatement();
 				 _localctx.blockRet.addStatement(((BlockStatementContext)_localctx).ss.singleRet);
-				setState(343); 
+				setState(333); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				do {
 					{
 					{
-					setState(342);
+					setState(332);
 					match(NEWLINE);
 					}
 					}
-					setState(345); 
+					setState(335); 
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				} while ( _la==NEWLINE );
 				}
 				}
-				setState(351);
+				setState(341);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(352);
+			setState(342);
 			match(RBRACE);
 			}
 		}
@@ -1632,13 +1629,13 @@ public class SimpleLOOPParser extends Parser {
 		SingleStatementContext _localctx = new SingleStatementContext(_ctx, getState());
 		enterRule(_localctx, 24, RULE_singleStatement);
 		try {
-			setState(381);
+			setState(371);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,35,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(354);
+				setState(344);
 				((SingleStatementContext)_localctx).i = ifStatement();
 				 ((SingleStatementContext)_localctx).singleRet =  ((SingleStatementContext)_localctx).i.ifRet; 
 				}
@@ -1646,7 +1643,7 @@ public class SimpleLOOPParser extends Parser {
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(357);
+				setState(347);
 				((SingleStatementContext)_localctx).p = printStatement();
 				 ((SingleStatementContext)_localctx).singleRet =  ((SingleStatementContext)_localctx).p.printRet;
 				}
@@ -1654,7 +1651,7 @@ public class SimpleLOOPParser extends Parser {
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(360);
+				setState(350);
 				((SingleStatementContext)_localctx).m = methodCallStmt();
 				 ((SingleStatementContext)_localctx).singleRet =  ((SingleStatementContext)_localctx).m.methRet;
 				}
@@ -1662,7 +1659,7 @@ public class SimpleLOOPParser extends Parser {
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(363);
+				setState(353);
 				((SingleStatementContext)_localctx).r = returnStatement();
 				 ((SingleStatementContext)_localctx).singleRet =  ((SingleStatementContext)_localctx).r.returnRet;
 				}
@@ -1670,7 +1667,7 @@ public class SimpleLOOPParser extends Parser {
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(366);
+				setState(356);
 				((SingleStatementContext)_localctx).as = assignmentStatement();
 				 ((SingleStatementContext)_localctx).singleRet =  ((SingleStatementContext)_localctx).as.assignRet;
 				}
@@ -1678,7 +1675,7 @@ public class SimpleLOOPParser extends Parser {
 			case 6:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(369);
+				setState(359);
 				((SingleStatementContext)_localctx).l = loopStatement();
 				 ((SingleStatementContext)_localctx).singleRet =  ((SingleStatementContext)_localctx).l.loopRet;
 				}
@@ -1686,7 +1683,7 @@ public class SimpleLOOPParser extends Parser {
 			case 7:
 				enterOuterAlt(_localctx, 7);
 				{
-				setState(372);
+				setState(362);
 				((SingleStatementContext)_localctx).ad = addStatement();
 				 ((SingleStatementContext)_localctx).singleRet =  ((SingleStatementContext)_localctx).ad.addRet;
 				}
@@ -1694,7 +1691,7 @@ public class SimpleLOOPParser extends Parser {
 			case 8:
 				enterOuterAlt(_localctx, 8);
 				{
-				setState(375);
+				setState(365);
 				((SingleStatementContext)_localctx).me = mergeStatement();
 				 ((SingleStatementContext)_localctx).singleRet =  ((SingleStatementContext)_localctx).me.mergeRet;
 				}
@@ -1702,7 +1699,7 @@ public class SimpleLOOPParser extends Parser {
 			case 9:
 				enterOuterAlt(_localctx, 9);
 				{
-				setState(378);
+				setState(368);
 				((SingleStatementContext)_localctx).d = deleteStatement();
 				 ((SingleStatementContext)_localctx).singleRet =  ((SingleStatementContext)_localctx).d.deleteRet;
 				}
@@ -1760,17 +1757,17 @@ public class SimpleLOOPParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(383);
+			setState(373);
 			((AddStatementContext)_localctx).exp = expression();
-			setState(384);
+			setState(374);
 			match(DOT);
-			setState(385);
+			setState(375);
 			((AddStatementContext)_localctx).add = match(ADD);
-			setState(386);
+			setState(376);
 			match(LPAR);
-			setState(387);
+			setState(377);
 			((AddStatementContext)_localctx).orexp = orExpression();
-			setState(388);
+			setState(378);
 			match(RPAR);
 
 			        ((AddStatementContext)_localctx).addRet =  new SetAdd(((AddStatementContext)_localctx).exp.expRet, ((AddStatementContext)_localctx).orexp.orExprRet);
@@ -1838,34 +1835,34 @@ public class SimpleLOOPParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(391);
+			setState(381);
 			((MergeStatementContext)_localctx).exp = expression();
-			setState(392);
+			setState(382);
 			match(DOT);
-			setState(393);
+			setState(383);
 			((MergeStatementContext)_localctx).merge = match(MERGE);
-			setState(394);
+			setState(384);
 			match(LPAR);
-			setState(395);
+			setState(385);
 			((MergeStatementContext)_localctx).orexp = orExpression();
 
 			        ((MergeStatementContext)_localctx).expArgs =  new ArrayList<>();
 			        _localctx.expArgs.add(((MergeStatementContext)_localctx).orexp.orExprRet);
 			    
-			setState(403);
+			setState(393);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==COMMA) {
 				{
 				{
-				setState(397);
+				setState(387);
 				match(COMMA);
-				setState(398);
+				setState(388);
 				((MergeStatementContext)_localctx).orexp = orExpression();
 				 _localctx.expArgs.add(((MergeStatementContext)_localctx).orexp.orExprRet); 
 				}
 				}
-				setState(405);
+				setState(395);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -1873,7 +1870,7 @@ public class SimpleLOOPParser extends Parser {
 			        ((MergeStatementContext)_localctx).mergeRet =  new SetMerge(((MergeStatementContext)_localctx).exp.expRet, _localctx.expArgs);
 			        _localctx.mergeRet.setLine(((MergeStatementContext)_localctx).merge.getLine());
 			    
-			setState(407);
+			setState(397);
 			match(RPAR);
 			}
 		}
@@ -1928,17 +1925,17 @@ public class SimpleLOOPParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(409);
+			setState(399);
 			((DeleteStatementContext)_localctx).exp = expression();
-			setState(410);
+			setState(400);
 			match(DOT);
-			setState(411);
+			setState(401);
 			((DeleteStatementContext)_localctx).delete = match(DELETE);
-			setState(412);
+			setState(402);
 			match(LPAR);
-			setState(413);
+			setState(403);
 			((DeleteStatementContext)_localctx).orexp = orExpression();
-			setState(414);
+			setState(404);
 			match(RPAR);
 
 			        ((DeleteStatementContext)_localctx).deleteRet =  new SetDelete(((DeleteStatementContext)_localctx).exp.expRet, ((DeleteStatementContext)_localctx).orexp.orExprRet);
@@ -2001,9 +1998,9 @@ public class SimpleLOOPParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(417);
+			setState(407);
 			((VarDecStatementContext)_localctx).t = type();
-			setState(418);
+			setState(408);
 			((VarDecStatementContext)_localctx).name = identifier();
 
 			     ((VarDecStatementContext)_localctx).varDecStmtRet =  new ArrayList<>();
@@ -2011,15 +2008,15 @@ public class SimpleLOOPParser extends Parser {
 			     newDec.setLine(((VarDecStatementContext)_localctx).name.idRet.getLine());
 			     _localctx.varDecStmtRet.add(newDec);
 			    
-			setState(426);
+			setState(416);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==COMMA) {
 				{
 				{
-				setState(420);
+				setState(410);
 				match(COMMA);
-				setState(421);
+				setState(411);
 				((VarDecStatementContext)_localctx).n = identifier();
 
 				                            var extraDec = new VariableDeclaration(((VarDecStatementContext)_localctx).n.idRet, ((VarDecStatementContext)_localctx).t.typeRet);
@@ -2028,7 +2025,7 @@ public class SimpleLOOPParser extends Parser {
 				                        
 				}
 				}
-				setState(428);
+				setState(418);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -2094,39 +2091,39 @@ public class SimpleLOOPParser extends Parser {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(429);
+			setState(419);
 			((IfStatementContext)_localctx).i = match(IF);
-			setState(430);
+			setState(420);
 			((IfStatementContext)_localctx).c = condition();
-			setState(431);
+			setState(421);
 			((IfStatementContext)_localctx).b = body();
 
 			        ((IfStatementContext)_localctx).ifRet =  new ConditionalStmt(((IfStatementContext)_localctx).c.conditionRet, ((IfStatementContext)_localctx).b.statementRet);
 			        _localctx.ifRet.setLine(((IfStatementContext)_localctx).i.getLine());
 			    
-			setState(438);
+			setState(428);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,38,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(433);
+					setState(423);
 					((IfStatementContext)_localctx).ei = elsifStatement();
 					 _localctx.ifRet.addElsif(((IfStatementContext)_localctx).ei.elsifRet); 
 					}
 					} 
 				}
-				setState(440);
+				setState(430);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,38,_ctx);
 			}
-			setState(444);
+			setState(434);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,39,_ctx) ) {
 			case 1:
 				{
-				setState(441);
+				setState(431);
 				((IfStatementContext)_localctx).e = elseStatement();
 				 _localctx.ifRet.setElseBody(((IfStatementContext)_localctx).e.elseRet); 
 				}
@@ -2187,25 +2184,25 @@ public class SimpleLOOPParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(449);
+			setState(439);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==NEWLINE) {
 				{
 				{
-				setState(446);
+				setState(436);
 				match(NEWLINE);
 				}
 				}
-				setState(451);
+				setState(441);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(452);
+			setState(442);
 			((ElsifStatementContext)_localctx).el = match(ELSIF);
-			setState(453);
+			setState(443);
 			((ElsifStatementContext)_localctx).c = condition();
-			setState(454);
+			setState(444);
 			((ElsifStatementContext)_localctx).b = body();
 
 			        ((ElsifStatementContext)_localctx).elsifRet =  new ElsifStmt(((ElsifStatementContext)_localctx).c.conditionRet, ((ElsifStatementContext)_localctx).b.statementRet);
@@ -2255,19 +2252,19 @@ public class SimpleLOOPParser extends Parser {
 		ConditionContext _localctx = new ConditionContext(_ctx, getState());
 		enterRule(_localctx, 38, RULE_condition);
 		try {
-			setState(465);
+			setState(455);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,41,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
 				{
-				setState(457);
+				setState(447);
 				match(LPAR);
-				setState(458);
+				setState(448);
 				((ConditionContext)_localctx).ex = expression();
 				((ConditionContext)_localctx).conditionRet =  ((ConditionContext)_localctx).ex.expRet;
-				setState(460);
+				setState(450);
 				match(RPAR);
 				}
 				}
@@ -2276,7 +2273,7 @@ public class SimpleLOOPParser extends Parser {
 				enterOuterAlt(_localctx, 2);
 				{
 				{
-				setState(462);
+				setState(452);
 				((ConditionContext)_localctx).ex = expression();
 				((ConditionContext)_localctx).conditionRet =  ((ConditionContext)_localctx).ex.expRet;
 				}
@@ -2332,23 +2329,23 @@ public class SimpleLOOPParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(470);
+			setState(460);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==NEWLINE) {
 				{
 				{
-				setState(467);
+				setState(457);
 				match(NEWLINE);
 				}
 				}
-				setState(472);
+				setState(462);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(473);
+			setState(463);
 			match(ELSE);
-			setState(474);
+			setState(464);
 			((ElseStatementContext)_localctx).b = body();
 			((ElseStatementContext)_localctx).elseRet =  ((ElseStatementContext)_localctx).b.statementRet;
 			}
@@ -2399,17 +2396,17 @@ public class SimpleLOOPParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(477);
+			setState(467);
 			((PrintStatementContext)_localctx).p = match(PRINT);
-			setState(478);
+			setState(468);
 			match(LPAR);
-			setState(479);
+			setState(469);
 			((PrintStatementContext)_localctx).e = expression();
 
 			        ((PrintStatementContext)_localctx).printRet =  new PrintStmt(((PrintStatementContext)_localctx).e.expRet);
 			        _localctx.printRet.setLine(((PrintStatementContext)_localctx).p.getLine());
 			    
-			setState(481);
+			setState(471);
 			match(RPAR);
 			}
 		}
@@ -2481,30 +2478,30 @@ public class SimpleLOOPParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(483);
+			setState(473);
 			((MethodCallStmtContext)_localctx).ax = accessExpression();
 			 ((MethodCallStmtContext)_localctx).inst =  ((MethodCallStmtContext)_localctx).ax.accessExprRet; 
-			setState(495);
+			setState(485);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==DOT) {
 				{
 				{
-				setState(485);
+				setState(475);
 				match(DOT);
-				setState(491);
+				setState(481);
 				_errHandler.sync(this);
 				switch (_input.LA(1)) {
 				case INITIALIZE:
 					{
-					setState(486);
+					setState(476);
 					((MethodCallStmtContext)_localctx).init = match(INITIALIZE);
 					((MethodCallStmtContext)_localctx).inst =  new ObjectMemberAccess(_localctx.inst, new Identifier(((MethodCallStmtContext)_localctx).init.toString())); 
 					}
 					break;
 				case IDENTIFIER:
 					{
-					setState(488);
+					setState(478);
 					((MethodCallStmtContext)_localctx).id = identifier();
 					((MethodCallStmtContext)_localctx).inst =  new ObjectMemberAccess(_localctx.inst, new Identifier(((MethodCallStmtContext)_localctx).id.idRet.toString())); 
 					}
@@ -2514,18 +2511,18 @@ public class SimpleLOOPParser extends Parser {
 				}
 				}
 				}
-				setState(497);
+				setState(487);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
 			{
-			setState(498);
+			setState(488);
 			((MethodCallStmtContext)_localctx).l = match(LPAR);
-			setState(499);
+			setState(489);
 			((MethodCallStmtContext)_localctx).args = methodArgs();
 			((MethodCallStmtContext)_localctx).methCallExpr =  new MethodCall(_localctx.inst, ((MethodCallStmtContext)_localctx).args.methodCallArgsRet);
 			                             _localctx.methCallExpr.setLine(((MethodCallStmtContext)_localctx).l.getLine());
-			setState(501);
+			setState(491);
 			match(RPAR);
 			}
 
@@ -2579,16 +2576,16 @@ public class SimpleLOOPParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(505);
+			setState(495);
 			((ReturnStatementContext)_localctx).r = match(RETURN);
 			 ((ReturnStatementContext)_localctx).returnRet =  new ReturnStmt();
 			               _localctx.returnRet.setLine(((ReturnStatementContext)_localctx).r.getLine()); 
-			setState(510);
+			setState(500);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << SELF) | (1L << MINUS) | (1L << NOT) | (1L << TRUE) | (1L << FALSE) | (1L << SET) | (1L << LPAR) | (1L << INT_VALUE) | (1L << IDENTIFIER) | (1L << CLASS_IDENTIFIER))) != 0)) {
 				{
-				setState(507);
+				setState(497);
 				((ReturnStatementContext)_localctx).e = expression();
 				 _localctx.returnRet.setReturnedExpr(((ReturnStatementContext)_localctx).e.expRet); 
 				}
@@ -2644,13 +2641,13 @@ public class SimpleLOOPParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(512);
+			setState(502);
 			((AssignmentStatementContext)_localctx).e = orExpression();
 			{
 			{
-			setState(513);
+			setState(503);
 			((AssignmentStatementContext)_localctx).a = match(ASSIGN);
-			setState(514);
+			setState(504);
 			((AssignmentStatementContext)_localctx).ex = expression();
 
 			        ((AssignmentStatementContext)_localctx).assignRet =  new AssignmentStmt(((AssignmentStatementContext)_localctx).e.orExprRet, ((AssignmentStatementContext)_localctx).ex.expRet);
@@ -2733,13 +2730,13 @@ public class SimpleLOOPParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(528);
+			setState(518);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,46,_ctx) ) {
 			case 1:
 				{
 				{
-				setState(517);
+				setState(507);
 				((LoopStatementContext)_localctx).ax = accessExpression();
 				 ((LoopStatementContext)_localctx).list =  ((LoopStatementContext)_localctx).ax.accessExprRet; 
 				}
@@ -2748,17 +2745,17 @@ public class SimpleLOOPParser extends Parser {
 			case 2:
 				{
 				{
-				setState(520);
+				setState(510);
 				((LoopStatementContext)_localctx).l = match(LPAR);
-				setState(521);
+				setState(511);
 				((LoopStatementContext)_localctx).el = expression();
-				setState(522);
+				setState(512);
 				match(DOT);
-				setState(523);
+				setState(513);
 				match(DOT);
-				setState(524);
+				setState(514);
 				((LoopStatementContext)_localctx).er = expression();
-				setState(525);
+				setState(515);
 				match(RPAR);
 				 var rangeExpr = new RangeExpression(((LoopStatementContext)_localctx).el.expRet, ((LoopStatementContext)_localctx).er.expRet);
 				          rangeExpr.setLine(((LoopStatementContext)_localctx).l.getLine());
@@ -2768,19 +2765,19 @@ public class SimpleLOOPParser extends Parser {
 				}
 				break;
 			}
-			setState(530);
+			setState(520);
 			match(DOT);
-			setState(531);
+			setState(521);
 			((LoopStatementContext)_localctx).each = match(EACH);
-			setState(532);
+			setState(522);
 			match(DO);
-			setState(533);
+			setState(523);
 			match(BAR);
-			setState(534);
+			setState(524);
 			((LoopStatementContext)_localctx).name = identifier();
-			setState(535);
+			setState(525);
 			match(BAR);
-			setState(536);
+			setState(526);
 			((LoopStatementContext)_localctx).b = body();
 
 			        ((LoopStatementContext)_localctx).loopRet =  new EachStmt(((LoopStatementContext)_localctx).name.idRet, _localctx.list);
@@ -2847,17 +2844,17 @@ public class SimpleLOOPParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(539);
+			setState(529);
 			((ExpressionContext)_localctx).tex = ternaryExpression();
 			((ExpressionContext)_localctx).expRet =  ((ExpressionContext)_localctx).tex.ternaryExprRet;
-			setState(545);
+			setState(535);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==ASSIGN) {
 				{
-				setState(541);
+				setState(531);
 				((ExpressionContext)_localctx).op = match(ASSIGN);
-				setState(542);
+				setState(532);
 				((ExpressionContext)_localctx).ex = expression();
 
 				        BinaryOperator opr = BinaryOperator.assign;
@@ -2867,20 +2864,20 @@ public class SimpleLOOPParser extends Parser {
 				}
 			}
 
-			setState(554);
+			setState(544);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,48,_ctx) ) {
 			case 1:
 				{
-				setState(547);
+				setState(537);
 				match(DOT);
-				setState(548);
+				setState(538);
 				((ExpressionContext)_localctx).inc = match(INCLUDE);
-				setState(549);
+				setState(539);
 				match(LPAR);
-				setState(550);
+				setState(540);
 				((ExpressionContext)_localctx).oe = orExpression();
-				setState(551);
+				setState(541);
 				match(RPAR);
 				 ((ExpressionContext)_localctx).expRet =  new SetInclude(_localctx.expRet, ((ExpressionContext)_localctx).oe.orExprRet);
 				                                                     _localctx.expRet.setLine(((ExpressionContext)_localctx).inc.getLine()); 
@@ -2943,21 +2940,21 @@ public class SimpleLOOPParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(556);
+			setState(546);
 			((TernaryExpressionContext)_localctx).oex = orExpression();
 			 ((TernaryExpressionContext)_localctx).ternaryExprRet =  ((TernaryExpressionContext)_localctx).oex.orExprRet; 
-			setState(564);
+			setState(554);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==TIF) {
 				{
-				setState(558);
+				setState(548);
 				((TernaryExpressionContext)_localctx).q = match(TIF);
-				setState(559);
+				setState(549);
 				((TernaryExpressionContext)_localctx).ttex = ternaryExpression();
-				setState(560);
+				setState(550);
 				match(TELSE);
-				setState(561);
+				setState(551);
 				((TernaryExpressionContext)_localctx).ftex = ternaryExpression();
 
 				          TernaryOperator opr = TernaryOperator.ternary;
@@ -2982,252 +2979,29 @@ public class SimpleLOOPParser extends Parser {
 
 	public static class OrExpressionContext extends ParserRuleContext {
 		public Expression orExprRet;
-		public AndExpressionContext expl;
-		public Token op;
-		public AndExpressionContext expr;
-		public List<AndExpressionContext> andExpression() {
-			return getRuleContexts(AndExpressionContext.class);
+		public BinaryExpressionBuilder builder;
+		public BinaryOperator op;
+		public PreUnaryExpressionContext first;
+		public Token o;
+		public PreUnaryExpressionContext next;
+		public List<PreUnaryExpressionContext> preUnaryExpression() {
+			return getRuleContexts(PreUnaryExpressionContext.class);
 		}
-		public AndExpressionContext andExpression(int i) {
-			return getRuleContext(AndExpressionContext.class,i);
+		public PreUnaryExpressionContext preUnaryExpression(int i) {
+			return getRuleContext(PreUnaryExpressionContext.class,i);
 		}
 		public List<TerminalNode> OR() { return getTokens(SimpleLOOPParser.OR); }
 		public TerminalNode OR(int i) {
 			return getToken(SimpleLOOPParser.OR, i);
 		}
-		public OrExpressionContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_orExpression; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof SimpleLOOPListener ) ((SimpleLOOPListener)listener).enterOrExpression(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof SimpleLOOPListener ) ((SimpleLOOPListener)listener).exitOrExpression(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof SimpleLOOPVisitor ) return ((SimpleLOOPVisitor<? extends T>)visitor).visitOrExpression(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-
-	public final OrExpressionContext orExpression() throws RecognitionException {
-		OrExpressionContext _localctx = new OrExpressionContext(_ctx, getState());
-		enterRule(_localctx, 56, RULE_orExpression);
-		int _la;
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(566);
-			((OrExpressionContext)_localctx).expl = andExpression();
-			((OrExpressionContext)_localctx).orExprRet =  ((OrExpressionContext)_localctx).expl.andExprRet;
-			setState(574);
-			_errHandler.sync(this);
-			_la = _input.LA(1);
-			while (_la==OR) {
-				{
-				{
-				setState(568);
-				((OrExpressionContext)_localctx).op = match(OR);
-				setState(569);
-				((OrExpressionContext)_localctx).expr = andExpression();
-
-				        BinaryOperator opr = BinaryOperator.or;
-				        ((OrExpressionContext)_localctx).orExprRet =  new BinaryExpression(_localctx.orExprRet, ((OrExpressionContext)_localctx).expr.andExprRet, opr);
-				        _localctx.orExprRet.setLine(((OrExpressionContext)_localctx).op.getLine());
-				    
-				}
-				}
-				setState(576);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-			}
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	public static class AndExpressionContext extends ParserRuleContext {
-		public Expression andExprRet;
-		public EqualityExpressionContext expl;
-		public Token op;
-		public EqualityExpressionContext expr;
-		public List<EqualityExpressionContext> equalityExpression() {
-			return getRuleContexts(EqualityExpressionContext.class);
-		}
-		public EqualityExpressionContext equalityExpression(int i) {
-			return getRuleContext(EqualityExpressionContext.class,i);
-		}
 		public List<TerminalNode> AND() { return getTokens(SimpleLOOPParser.AND); }
 		public TerminalNode AND(int i) {
 			return getToken(SimpleLOOPParser.AND, i);
 		}
-		public AndExpressionContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_andExpression; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof SimpleLOOPListener ) ((SimpleLOOPListener)listener).enterAndExpression(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof SimpleLOOPListener ) ((SimpleLOOPListener)listener).exitAndExpression(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof SimpleLOOPVisitor ) return ((SimpleLOOPVisitor<? extends T>)visitor).visitAndExpression(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-
-	public final AndExpressionContext andExpression() throws RecognitionException {
-		AndExpressionContext _localctx = new AndExpressionContext(_ctx, getState());
-		enterRule(_localctx, 58, RULE_andExpression);
-		int _la;
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(577);
-			((AndExpressionContext)_localctx).expl = equalityExpression();
-			((AndExpressionContext)_localctx).andExprRet =  ((AndExpressionContext)_localctx).expl.equalityExprRet;
-			setState(585);
-			_errHandler.sync(this);
-			_la = _input.LA(1);
-			while (_la==AND) {
-				{
-				{
-				setState(579);
-				((AndExpressionContext)_localctx).op = match(AND);
-				setState(580);
-				((AndExpressionContext)_localctx).expr = equalityExpression();
-
-				        BinaryOperator opr = BinaryOperator.and;
-				        ((AndExpressionContext)_localctx).andExprRet =  new BinaryExpression(_localctx.andExprRet, ((AndExpressionContext)_localctx).expr.equalityExprRet, opr);
-				        _localctx.andExprRet.setLine(((AndExpressionContext)_localctx).op.getLine());
-				    
-				}
-				}
-				setState(587);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-			}
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	public static class EqualityExpressionContext extends ParserRuleContext {
-		public Expression equalityExprRet;
-		public RelationalExpressionContext expl;
-		public Token op;
-		public RelationalExpressionContext expr;
-		public List<RelationalExpressionContext> relationalExpression() {
-			return getRuleContexts(RelationalExpressionContext.class);
-		}
-		public RelationalExpressionContext relationalExpression(int i) {
-			return getRuleContext(RelationalExpressionContext.class,i);
-		}
 		public List<TerminalNode> EQUAL() { return getTokens(SimpleLOOPParser.EQUAL); }
 		public TerminalNode EQUAL(int i) {
 			return getToken(SimpleLOOPParser.EQUAL, i);
 		}
-		public EqualityExpressionContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_equalityExpression; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof SimpleLOOPListener ) ((SimpleLOOPListener)listener).enterEqualityExpression(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof SimpleLOOPListener ) ((SimpleLOOPListener)listener).exitEqualityExpression(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof SimpleLOOPVisitor ) return ((SimpleLOOPVisitor<? extends T>)visitor).visitEqualityExpression(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-
-	public final EqualityExpressionContext equalityExpression() throws RecognitionException {
-		EqualityExpressionContext _localctx = new EqualityExpressionContext(_ctx, getState());
-		enterRule(_localctx, 60, RULE_equalityExpression);
-		int _la;
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(588);
-			((EqualityExpressionContext)_localctx).expl = relationalExpression();
-			((EqualityExpressionContext)_localctx).equalityExprRet =  ((EqualityExpressionContext)_localctx).expl.relationalExprRet;
-			setState(596);
-			_errHandler.sync(this);
-			_la = _input.LA(1);
-			while (_la==EQUAL) {
-				{
-				{
-				setState(590);
-				((EqualityExpressionContext)_localctx).op = match(EQUAL);
-				setState(591);
-				((EqualityExpressionContext)_localctx).expr = relationalExpression();
-
-				        BinaryOperator opr = BinaryOperator.eq;
-				        ((EqualityExpressionContext)_localctx).equalityExprRet =  new BinaryExpression(_localctx.equalityExprRet, ((EqualityExpressionContext)_localctx).expr.relationalExprRet, opr);
-				        _localctx.equalityExprRet.setLine(((EqualityExpressionContext)_localctx).op.getLine());
-				    
-				}
-				}
-				setState(598);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-			}
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	public static class RelationalExpressionContext extends ParserRuleContext {
-		public Expression relationalExprRet;
-		public BinaryOperator op;
-		public int line;
-		public AdditiveExpressionContext l;
-		public Token op1;
-		public Token op2;
-		public AdditiveExpressionContext r;
-		public List<AdditiveExpressionContext> additiveExpression() {
-			return getRuleContexts(AdditiveExpressionContext.class);
-		}
-		public AdditiveExpressionContext additiveExpression(int i) {
-			return getRuleContext(AdditiveExpressionContext.class,i);
-		}
 		public List<TerminalNode> GREATER_THAN() { return getTokens(SimpleLOOPParser.GREATER_THAN); }
 		public TerminalNode GREATER_THAN(int i) {
 			return getToken(SimpleLOOPParser.GREATER_THAN, i);
@@ -3236,100 +3010,6 @@ public class SimpleLOOPParser extends Parser {
 		public TerminalNode LESS_THAN(int i) {
 			return getToken(SimpleLOOPParser.LESS_THAN, i);
 		}
-		public RelationalExpressionContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_relationalExpression; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof SimpleLOOPListener ) ((SimpleLOOPListener)listener).enterRelationalExpression(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof SimpleLOOPListener ) ((SimpleLOOPListener)listener).exitRelationalExpression(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof SimpleLOOPVisitor ) return ((SimpleLOOPVisitor<? extends T>)visitor).visitRelationalExpression(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-
-	public final RelationalExpressionContext relationalExpression() throws RecognitionException {
-		RelationalExpressionContext _localctx = new RelationalExpressionContext(_ctx, getState());
-		enterRule(_localctx, 62, RULE_relationalExpression);
-		int _la;
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(599);
-			((RelationalExpressionContext)_localctx).l = additiveExpression();
-			((RelationalExpressionContext)_localctx).relationalExprRet =  ((RelationalExpressionContext)_localctx).l.expr;
-			setState(612);
-			_errHandler.sync(this);
-			_la = _input.LA(1);
-			while (_la==GREATER_THAN || _la==LESS_THAN) {
-				{
-				{
-				setState(605);
-				_errHandler.sync(this);
-				switch (_input.LA(1)) {
-				case GREATER_THAN:
-					{
-					setState(601);
-					((RelationalExpressionContext)_localctx).op1 = match(GREATER_THAN);
-					((RelationalExpressionContext)_localctx).op =  BinaryOperator.gt;
-					    ((RelationalExpressionContext)_localctx).line =  ((RelationalExpressionContext)_localctx).op1.getLine();
-					}
-					break;
-				case LESS_THAN:
-					{
-					setState(603);
-					((RelationalExpressionContext)_localctx).op2 = match(LESS_THAN);
-					((RelationalExpressionContext)_localctx).op =  BinaryOperator.lt;
-					     ((RelationalExpressionContext)_localctx).line =  ((RelationalExpressionContext)_localctx).op2.getLine();
-					}
-					break;
-				default:
-					throw new NoViableAltException(this);
-				}
-				setState(607);
-				((RelationalExpressionContext)_localctx).r = additiveExpression();
-				((RelationalExpressionContext)_localctx).relationalExprRet =  new BinaryExpression(_localctx.relationalExprRet,((RelationalExpressionContext)_localctx).r.expr,_localctx.op);
-				     _localctx.relationalExprRet.setLine(_localctx.line);
-				}
-				}
-				setState(614);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-			}
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	public static class AdditiveExpressionContext extends ParserRuleContext {
-		public Expression expr;
-		public BinaryOperator op;
-		public int line;
-		public MultiplicativeExpressionContext l;
-		public Token op1;
-		public Token op2;
-		public MultiplicativeExpressionContext r;
-		public List<MultiplicativeExpressionContext> multiplicativeExpression() {
-			return getRuleContexts(MultiplicativeExpressionContext.class);
-		}
-		public MultiplicativeExpressionContext multiplicativeExpression(int i) {
-			return getRuleContext(MultiplicativeExpressionContext.class,i);
-		}
 		public List<TerminalNode> PLUS() { return getTokens(SimpleLOOPParser.PLUS); }
 		public TerminalNode PLUS(int i) {
 			return getToken(SimpleLOOPParser.PLUS, i);
@@ -3338,100 +3018,6 @@ public class SimpleLOOPParser extends Parser {
 		public TerminalNode MINUS(int i) {
 			return getToken(SimpleLOOPParser.MINUS, i);
 		}
-		public AdditiveExpressionContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_additiveExpression; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof SimpleLOOPListener ) ((SimpleLOOPListener)listener).enterAdditiveExpression(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof SimpleLOOPListener ) ((SimpleLOOPListener)listener).exitAdditiveExpression(this);
-		}
-		@Override
-		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof SimpleLOOPVisitor ) return ((SimpleLOOPVisitor<? extends T>)visitor).visitAdditiveExpression(this);
-			else return visitor.visitChildren(this);
-		}
-	}
-
-	public final AdditiveExpressionContext additiveExpression() throws RecognitionException {
-		AdditiveExpressionContext _localctx = new AdditiveExpressionContext(_ctx, getState());
-		enterRule(_localctx, 64, RULE_additiveExpression);
-		int _la;
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(615);
-			((AdditiveExpressionContext)_localctx).l = multiplicativeExpression();
-			((AdditiveExpressionContext)_localctx).expr =  ((AdditiveExpressionContext)_localctx).l.expr;
-			setState(628);
-			_errHandler.sync(this);
-			_la = _input.LA(1);
-			while (_la==PLUS || _la==MINUS) {
-				{
-				{
-				setState(621);
-				_errHandler.sync(this);
-				switch (_input.LA(1)) {
-				case PLUS:
-					{
-					setState(617);
-					((AdditiveExpressionContext)_localctx).op1 = match(PLUS);
-					((AdditiveExpressionContext)_localctx).op =  BinaryOperator.add;
-					     ((AdditiveExpressionContext)_localctx).line =  ((AdditiveExpressionContext)_localctx).op1.getLine();
-					}
-					break;
-				case MINUS:
-					{
-					setState(619);
-					((AdditiveExpressionContext)_localctx).op2 = match(MINUS);
-					((AdditiveExpressionContext)_localctx).op =  BinaryOperator.sub;
-					     ((AdditiveExpressionContext)_localctx).line =  ((AdditiveExpressionContext)_localctx).op2.getLine();
-					}
-					break;
-				default:
-					throw new NoViableAltException(this);
-				}
-				setState(623);
-				((AdditiveExpressionContext)_localctx).r = multiplicativeExpression();
-				((AdditiveExpressionContext)_localctx).expr =  new BinaryExpression(_localctx.expr,((AdditiveExpressionContext)_localctx).r.expr,_localctx.op);
-				     _localctx.expr.setLine(_localctx.line);
-				}
-				}
-				setState(630);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-			}
-			}
-		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
-		}
-		finally {
-			exitRule();
-		}
-		return _localctx;
-	}
-
-	public static class MultiplicativeExpressionContext extends ParserRuleContext {
-		public Expression expr;
-		public BinaryOperator op;
-		public int line;
-		public PreUnaryExpressionContext l;
-		public Token op1;
-		public Token op2;
-		public PreUnaryExpressionContext r;
-		public List<PreUnaryExpressionContext> preUnaryExpression() {
-			return getRuleContexts(PreUnaryExpressionContext.class);
-		}
-		public PreUnaryExpressionContext preUnaryExpression(int i) {
-			return getRuleContext(PreUnaryExpressionContext.class,i);
-		}
 		public List<TerminalNode> MULT() { return getTokens(SimpleLOOPParser.MULT); }
 		public TerminalNode MULT(int i) {
 			return getToken(SimpleLOOPParser.MULT, i);
@@ -3440,73 +3026,127 @@ public class SimpleLOOPParser extends Parser {
 		public TerminalNode DIVIDE(int i) {
 			return getToken(SimpleLOOPParser.DIVIDE, i);
 		}
-		public MultiplicativeExpressionContext(ParserRuleContext parent, int invokingState) {
+		public OrExpressionContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
-		@Override public int getRuleIndex() { return RULE_multiplicativeExpression; }
+		@Override public int getRuleIndex() { return RULE_orExpression; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof SimpleLOOPListener ) ((SimpleLOOPListener)listener).enterMultiplicativeExpression(this);
+			if ( listener instanceof SimpleLOOPListener ) ((SimpleLOOPListener)listener).enterOrExpression(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof SimpleLOOPListener ) ((SimpleLOOPListener)listener).exitMultiplicativeExpression(this);
+			if ( listener instanceof SimpleLOOPListener ) ((SimpleLOOPListener)listener).exitOrExpression(this);
 		}
 		@Override
 		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
-			if ( visitor instanceof SimpleLOOPVisitor ) return ((SimpleLOOPVisitor<? extends T>)visitor).visitMultiplicativeExpression(this);
+			if ( visitor instanceof SimpleLOOPVisitor ) return ((SimpleLOOPVisitor<? extends T>)visitor).visitOrExpression(this);
 			else return visitor.visitChildren(this);
 		}
 	}
 
-	public final MultiplicativeExpressionContext multiplicativeExpression() throws RecognitionException {
-		MultiplicativeExpressionContext _localctx = new MultiplicativeExpressionContext(_ctx, getState());
-		enterRule(_localctx, 66, RULE_multiplicativeExpression);
+	public final OrExpressionContext orExpression() throws RecognitionException {
+		OrExpressionContext _localctx = new OrExpressionContext(_ctx, getState());
+		enterRule(_localctx, 56, RULE_orExpression);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(631);
-			((MultiplicativeExpressionContext)_localctx).l = preUnaryExpression();
-			((MultiplicativeExpressionContext)_localctx).expr =  ((MultiplicativeExpressionContext)_localctx).l.expr;
-			setState(644);
+			setState(556);
+			((OrExpressionContext)_localctx).first = preUnaryExpression();
+			 ((OrExpressionContext)_localctx).orExprRet =  ((OrExpressionContext)_localctx).first.expr; 
+			setState(583);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while (_la==MULT || _la==DIVIDE) {
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << PLUS) | (1L << MINUS) | (1L << MULT) | (1L << DIVIDE) | (1L << EQUAL) | (1L << GREATER_THAN) | (1L << LESS_THAN) | (1L << AND) | (1L << OR))) != 0)) {
 				{
 				{
-				setState(637);
+				setState(576);
 				_errHandler.sync(this);
 				switch (_input.LA(1)) {
+				case OR:
+					{
+					setState(558);
+					((OrExpressionContext)_localctx).o = match(OR);
+					((OrExpressionContext)_localctx).op =  BinaryOperator.or;
+					}
+					break;
+				case AND:
+					{
+					setState(560);
+					((OrExpressionContext)_localctx).o = match(AND);
+					((OrExpressionContext)_localctx).op =  BinaryOperator.and;
+					}
+					break;
+				case EQUAL:
+					{
+					setState(562);
+					((OrExpressionContext)_localctx).o = match(EQUAL);
+					((OrExpressionContext)_localctx).op =  BinaryOperator.eq;
+					}
+					break;
+				case GREATER_THAN:
+					{
+					setState(564);
+					((OrExpressionContext)_localctx).o = match(GREATER_THAN);
+					((OrExpressionContext)_localctx).op =  BinaryOperator.gt;
+					}
+					break;
+				case LESS_THAN:
+					{
+					setState(566);
+					((OrExpressionContext)_localctx).o = match(LESS_THAN);
+					((OrExpressionContext)_localctx).op =  BinaryOperator.lt;
+					}
+					break;
+				case PLUS:
+					{
+					setState(568);
+					((OrExpressionContext)_localctx).o = match(PLUS);
+					((OrExpressionContext)_localctx).op =  BinaryOperator.add;
+					}
+					break;
+				case MINUS:
+					{
+					setState(570);
+					((OrExpressionContext)_localctx).o = match(MINUS);
+					((OrExpressionContext)_localctx).op =  BinaryOperator.sub;
+					}
+					break;
 				case MULT:
 					{
-					setState(633);
-					((MultiplicativeExpressionContext)_localctx).op1 = match(MULT);
-					((MultiplicativeExpressionContext)_localctx).op =  BinaryOperator.mult;
-					     ((MultiplicativeExpressionContext)_localctx).line =  ((MultiplicativeExpressionContext)_localctx).op1.getLine();
+					setState(572);
+					((OrExpressionContext)_localctx).o = match(MULT);
+					((OrExpressionContext)_localctx).op =  BinaryOperator.mult;
 					}
 					break;
 				case DIVIDE:
 					{
-					setState(635);
-					((MultiplicativeExpressionContext)_localctx).op2 = match(DIVIDE);
-					((MultiplicativeExpressionContext)_localctx).op =  BinaryOperator.div;
-					     ((MultiplicativeExpressionContext)_localctx).line =  ((MultiplicativeExpressionContext)_localctx).op2.getLine();
+					setState(574);
+					((OrExpressionContext)_localctx).o = match(DIVIDE);
+					((OrExpressionContext)_localctx).op =  BinaryOperator.div;
 					}
 					break;
 				default:
 					throw new NoViableAltException(this);
 				}
-				setState(639);
-				((MultiplicativeExpressionContext)_localctx).r = preUnaryExpression();
-				((MultiplicativeExpressionContext)_localctx).expr =  new BinaryExpression(_localctx.expr,((MultiplicativeExpressionContext)_localctx).r.expr,_localctx.op);
-				    _localctx.expr.setLine(_localctx.line);
+				setState(578);
+				((OrExpressionContext)_localctx).next = preUnaryExpression();
+
+				        if (_localctx.builder == null)
+				            ((OrExpressionContext)_localctx).builder =  new BinaryExpressionBuilder(_localctx.orExprRet);
+				        _localctx.builder.add(_localctx.op, ((OrExpressionContext)_localctx).o.getLine(), ((OrExpressionContext)_localctx).next.expr);
+				    
 				}
 				}
-				setState(646);
+				setState(585);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
+
+			        if (_localctx.builder != null)
+			            ((OrExpressionContext)_localctx).orExprRet =  _localctx.builder.build();
+			    
 			}
 		}
 		catch (RecognitionException re) {
@@ -3557,9 +3197,9 @@ public class SimpleLOOPParser extends Parser {
 
 	public final PreUnaryExpressionContext preUnaryExpression() throws RecognitionException {
 		PreUnaryExpressionContext _localctx = new PreUnaryExpressionContext(_ctx, getState());
-		enterRule(_localctx, 68, RULE_preUnaryExpression);
+		enterRule(_localctx, 58, RULE_preUnaryExpression);
 		try {
-			setState(659);
+			setState(600);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case MINUS:
@@ -3567,12 +3207,12 @@ public class SimpleLOOPParser extends Parser {
 				enterOuterAlt(_localctx, 1);
 				{
 				{
-				setState(651);
+				setState(592);
 				_errHandler.sync(this);
 				switch (_input.LA(1)) {
 				case NOT:
 					{
-					setState(647);
+					setState(588);
 					((PreUnaryExpressionContext)_localctx).op1 = match(NOT);
 					((PreUnaryExpressionContext)_localctx).op =  UnaryOperator.not;
 					     ((PreUnaryExpressionContext)_localctx).line =  ((PreUnaryExpressionContext)_localctx).op1.getLine();
@@ -3580,7 +3220,7 @@ public class SimpleLOOPParser extends Parser {
 					break;
 				case MINUS:
 					{
-					setState(649);
+					setState(590);
 					((PreUnaryExpressionContext)_localctx).op2 = match(MINUS);
 					((PreUnaryExpressionContext)_localctx).op =  UnaryOperator.minus;
 					     ((PreUnaryExpressionContext)_localctx).line =  ((PreUnaryExpressionContext)_localctx).op2.getLine();
@@ -3589,7 +3229,7 @@ public class SimpleLOOPParser extends Parser {
 				default:
 					throw new NoViableAltException(this);
 				}
-				setState(653);
+				setState(594);
 				((PreUnaryExpressionContext)_localctx).pre = preUnaryExpression();
 				((PreUnaryExpressionContext)_localctx).expr =  new UnaryExpression(((PreUnaryExpressionContext)_localctx).pre.expr, _localctx.op);
 				     _localctx.expr.setLine(_localctx.line);
@@ -3606,7 +3246,7 @@ public class SimpleLOOPParser extends Parser {
 			case CLASS_IDENTIFIER:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(656);
+				setState(597);
 				((PreUnaryExpressionContext)_localctx).post = postUnaryExpression();
 				((PreUnaryExpressionContext)_localctx).expr =  ((PreUnaryExpressionContext)_localctx).post.postUnaryExprRet;
 				}
@@ -3657,25 +3297,25 @@ public class SimpleLOOPParser extends Parser {
 
 	public final PostUnaryExpressionContext postUnaryExpression() throws RecognitionException {
 		PostUnaryExpressionContext _localctx = new PostUnaryExpressionContext(_ctx, getState());
-		enterRule(_localctx, 70, RULE_postUnaryExpression);
+		enterRule(_localctx, 60, RULE_postUnaryExpression);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(661);
+			setState(602);
 			((PostUnaryExpressionContext)_localctx).ae = accessExpression();
 			 ((PostUnaryExpressionContext)_localctx).postUnaryExprRet =  ((PostUnaryExpressionContext)_localctx).ae.accessExprRet; 
-			setState(669);
+			setState(610);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==INC || _la==DEC) {
 				{
-				setState(667);
+				setState(608);
 				_errHandler.sync(this);
 				switch (_input.LA(1)) {
 				case INC:
 					{
-					setState(663);
+					setState(604);
 					((PostUnaryExpressionContext)_localctx).postinc = match(INC);
 
 					        UnaryOperator op = UnaryOperator.postinc;
@@ -3686,7 +3326,7 @@ public class SimpleLOOPParser extends Parser {
 					break;
 				case DEC:
 					{
-					setState(665);
+					setState(606);
 					((PostUnaryExpressionContext)_localctx).postdec = match(DEC);
 
 					        UnaryOperator op = UnaryOperator.postdec;
@@ -3788,29 +3428,29 @@ public class SimpleLOOPParser extends Parser {
 
 	public final AccessExpressionContext accessExpression() throws RecognitionException {
 		AccessExpressionContext _localctx = new AccessExpressionContext(_ctx, getState());
-		enterRule(_localctx, 72, RULE_accessExpression);
+		enterRule(_localctx, 62, RULE_accessExpression);
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(671);
+			setState(612);
 			((AccessExpressionContext)_localctx).oe = otherExpression();
 			 ((AccessExpressionContext)_localctx).accessExprRet =  ((AccessExpressionContext)_localctx).oe.otherExprRet; 
-			setState(688);
+			setState(629);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,65,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,58,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
-					setState(686);
+					setState(627);
 					_errHandler.sync(this);
 					switch (_input.LA(1)) {
 					case LPAR:
 						{
 						{
-						setState(673);
+						setState(614);
 						((AccessExpressionContext)_localctx).l = match(LPAR);
-						setState(674);
+						setState(615);
 						((AccessExpressionContext)_localctx).m = methodArgs();
 
 						        if (_localctx.accessExprRet instanceof NewClassInstance)
@@ -3820,7 +3460,7 @@ public class SimpleLOOPParser extends Parser {
 						            _localctx.accessExprRet.setLine((((AccessExpressionContext)_localctx).l!=null?((AccessExpressionContext)_localctx).l.getLine():0));
 						        }
 						    
-						setState(676);
+						setState(617);
 						match(RPAR);
 						}
 						}
@@ -3828,14 +3468,14 @@ public class SimpleLOOPParser extends Parser {
 					case DOT:
 						{
 						{
-						setState(678);
+						setState(619);
 						match(DOT);
-						setState(684);
+						setState(625);
 						_errHandler.sync(this);
 						switch (_input.LA(1)) {
 						case IDENTIFIER:
 							{
-							setState(679);
+							setState(620);
 							((AccessExpressionContext)_localctx).name = identifier();
 
 							                ((AccessExpressionContext)_localctx).accessExprRet =  new ObjectMemberAccess(_localctx.accessExprRet, ((AccessExpressionContext)_localctx).name.idRet);
@@ -3845,7 +3485,7 @@ public class SimpleLOOPParser extends Parser {
 							break;
 						case NEW:
 							{
-							setState(682);
+							setState(623);
 							((AccessExpressionContext)_localctx).n = match(NEW);
 
 							                var classType = new ClassType((Identifier) _localctx.accessExprRet);
@@ -3865,26 +3505,26 @@ public class SimpleLOOPParser extends Parser {
 					}
 					} 
 				}
-				setState(690);
+				setState(631);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,65,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,58,_ctx);
 			}
-			setState(702);
+			setState(643);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,67,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,60,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
-					setState(700);
+					setState(641);
 					_errHandler.sync(this);
 					switch (_input.LA(1)) {
 					case DOT:
 						{
 						{
-						setState(691);
+						setState(632);
 						match(DOT);
 						{
-						setState(692);
+						setState(633);
 						((AccessExpressionContext)_localctx).name = identifier();
 
 						                ((AccessExpressionContext)_localctx).accessExprRet =  new ObjectMemberAccess(_localctx.accessExprRet, ((AccessExpressionContext)_localctx).name.idRet);
@@ -3897,11 +3537,11 @@ public class SimpleLOOPParser extends Parser {
 					case LBRACK:
 						{
 						{
-						setState(695);
+						setState(636);
 						((AccessExpressionContext)_localctx).l = match(LBRACK);
-						setState(696);
+						setState(637);
 						((AccessExpressionContext)_localctx).index = expression();
-						setState(697);
+						setState(638);
 						match(RBRACK);
 
 						                ((AccessExpressionContext)_localctx).accessExprRet =  new ArrayAccessByIndex(_localctx.accessExprRet, ((AccessExpressionContext)_localctx).index.expRet);
@@ -3915,9 +3555,9 @@ public class SimpleLOOPParser extends Parser {
 					}
 					} 
 				}
-				setState(704);
+				setState(645);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,67,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,60,_ctx);
 			}
 			}
 		}
@@ -3979,15 +3619,15 @@ public class SimpleLOOPParser extends Parser {
 
 	public final OtherExpressionContext otherExpression() throws RecognitionException {
 		OtherExpressionContext _localctx = new OtherExpressionContext(_ctx, getState());
-		enterRule(_localctx, 74, RULE_otherExpression);
+		enterRule(_localctx, 64, RULE_otherExpression);
 		try {
-			setState(724);
+			setState(665);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case SELF:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(705);
+				setState(646);
 				((OtherExpressionContext)_localctx).s = match(SELF);
 
 				        ((OtherExpressionContext)_localctx).otherExprRet =  new SelfClass();
@@ -3998,7 +3638,7 @@ public class SimpleLOOPParser extends Parser {
 			case CLASS_IDENTIFIER:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(707);
+				setState(648);
 				((OtherExpressionContext)_localctx).cid = class_identifier();
 				 ((OtherExpressionContext)_localctx).otherExprRet =  ((OtherExpressionContext)_localctx).cid.idRet; 
 				}
@@ -4008,7 +3648,7 @@ public class SimpleLOOPParser extends Parser {
 			case INT_VALUE:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(710);
+				setState(651);
 				((OtherExpressionContext)_localctx).v = value();
 				 ((OtherExpressionContext)_localctx).otherExprRet =  ((OtherExpressionContext)_localctx).v.valuesRet; 
 				}
@@ -4016,7 +3656,7 @@ public class SimpleLOOPParser extends Parser {
 			case IDENTIFIER:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(713);
+				setState(654);
 				((OtherExpressionContext)_localctx).id = identifier();
 				 ((OtherExpressionContext)_localctx).otherExprRet =  ((OtherExpressionContext)_localctx).id.idRet; 
 				}
@@ -4024,7 +3664,7 @@ public class SimpleLOOPParser extends Parser {
 			case SET:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(716);
+				setState(657);
 				((OtherExpressionContext)_localctx).sn = setNew();
 				 ((OtherExpressionContext)_localctx).otherExprRet =  ((OtherExpressionContext)_localctx).sn.setNewRet; 
 				}
@@ -4032,11 +3672,11 @@ public class SimpleLOOPParser extends Parser {
 			case LPAR:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(719);
+				setState(660);
 				match(LPAR);
-				setState(720);
+				setState(661);
 				((OtherExpressionContext)_localctx).e = expression();
-				setState(721);
+				setState(662);
 				match(RPAR);
 				 ((OtherExpressionContext)_localctx).otherExprRet =  ((OtherExpressionContext)_localctx).e.expRet; 
 				}
@@ -4104,48 +3744,48 @@ public class SimpleLOOPParser extends Parser {
 
 	public final SetNewContext setNew() throws RecognitionException {
 		SetNewContext _localctx = new SetNewContext(_ctx, getState());
-		enterRule(_localctx, 76, RULE_setNew);
+		enterRule(_localctx, 66, RULE_setNew);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
 			 ((SetNewContext)_localctx).args =  new ArrayList<>();
-			setState(727);
+			setState(668);
 			match(SET);
-			setState(728);
+			setState(669);
 			match(DOT);
-			setState(729);
+			setState(670);
 			((SetNewContext)_localctx).n = match(NEW);
-			setState(730);
+			setState(671);
 			match(LPAR);
-			setState(745);
+			setState(686);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==LPAR) {
 				{
-				setState(731);
+				setState(672);
 				match(LPAR);
-				setState(732);
+				setState(673);
 				((SetNewContext)_localctx).oe = orExpression();
 				 _localctx.args.add(((SetNewContext)_localctx).oe.orExprRet);
-				setState(740);
+				setState(681);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==COMMA) {
 					{
 					{
-					setState(734);
+					setState(675);
 					match(COMMA);
-					setState(735);
+					setState(676);
 					((SetNewContext)_localctx).oex = orExpression();
 					 _localctx.args.add(((SetNewContext)_localctx).oex.orExprRet);
 					}
 					}
-					setState(742);
+					setState(683);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
-				setState(743);
+				setState(684);
 				match(RPAR);
 				}
 			}
@@ -4154,7 +3794,7 @@ public class SimpleLOOPParser extends Parser {
 			                ((SetNewContext)_localctx).setNewRet =  new SetNew(_localctx.args);
 			                _localctx.setNewRet.setLine(((SetNewContext)_localctx).n.getLine());
 			               
-			setState(748);
+			setState(689);
 			match(RPAR);
 			}
 		}
@@ -4198,16 +3838,16 @@ public class SimpleLOOPParser extends Parser {
 
 	public final ValueContext value() throws RecognitionException {
 		ValueContext _localctx = new ValueContext(_ctx, getState());
-		enterRule(_localctx, 78, RULE_value);
+		enterRule(_localctx, 68, RULE_value);
 		try {
-			setState(755);
+			setState(696);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case TRUE:
 			case FALSE:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(750);
+				setState(691);
 				((ValueContext)_localctx).b = boolValue();
 
 				        ((ValueContext)_localctx).valuesRet =  new BoolValue(((ValueContext)_localctx).b.boolValueRet);
@@ -4218,7 +3858,7 @@ public class SimpleLOOPParser extends Parser {
 			case INT_VALUE:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(753);
+				setState(694);
 				((ValueContext)_localctx).i = match(INT_VALUE);
 
 				        ((ValueContext)_localctx).valuesRet =  new IntValue((((ValueContext)_localctx).i!=null?Integer.valueOf(((ValueContext)_localctx).i.getText()):0));
@@ -4269,15 +3909,15 @@ public class SimpleLOOPParser extends Parser {
 
 	public final BoolValueContext boolValue() throws RecognitionException {
 		BoolValueContext _localctx = new BoolValueContext(_ctx, getState());
-		enterRule(_localctx, 80, RULE_boolValue);
+		enterRule(_localctx, 70, RULE_boolValue);
 		try {
-			setState(761);
+			setState(702);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case TRUE:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(757);
+				setState(698);
 				((BoolValueContext)_localctx).t = match(TRUE);
 
 				        ((BoolValueContext)_localctx).boolValueRet =  true;
@@ -4288,7 +3928,7 @@ public class SimpleLOOPParser extends Parser {
 			case FALSE:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(759);
+				setState(700);
 				((BoolValueContext)_localctx).f = match(FALSE);
 
 				        ((BoolValueContext)_localctx).boolValueRet =  false;
@@ -4337,11 +3977,11 @@ public class SimpleLOOPParser extends Parser {
 
 	public final Class_identifierContext class_identifier() throws RecognitionException {
 		Class_identifierContext _localctx = new Class_identifierContext(_ctx, getState());
-		enterRule(_localctx, 82, RULE_class_identifier);
+		enterRule(_localctx, 72, RULE_class_identifier);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(763);
+			setState(704);
 			((Class_identifierContext)_localctx).cid = match(CLASS_IDENTIFIER);
 
 			        ((Class_identifierContext)_localctx).idRet =  new Identifier((((Class_identifierContext)_localctx).cid!=null?((Class_identifierContext)_localctx).cid.getText():null));
@@ -4387,11 +4027,11 @@ public class SimpleLOOPParser extends Parser {
 
 	public final IdentifierContext identifier() throws RecognitionException {
 		IdentifierContext _localctx = new IdentifierContext(_ctx, getState());
-		enterRule(_localctx, 84, RULE_identifier);
+		enterRule(_localctx, 74, RULE_identifier);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(766);
+			setState(707);
 			((IdentifierContext)_localctx).id = match(IDENTIFIER);
 
 			        ((IdentifierContext)_localctx).idRet =  new Identifier((((IdentifierContext)_localctx).id!=null?((IdentifierContext)_localctx).id.getText():null));
@@ -4452,15 +4092,15 @@ public class SimpleLOOPParser extends Parser {
 
 	public final TypeContext type() throws RecognitionException {
 		TypeContext _localctx = new TypeContext(_ctx, getState());
-		enterRule(_localctx, 86, RULE_type);
+		enterRule(_localctx, 76, RULE_type);
 		try {
-			setState(785);
+			setState(726);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,73,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,66,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(769);
+				setState(710);
 				match(INT);
 				 ((TypeContext)_localctx).typeRet =  new IntType(); 
 				}
@@ -4468,7 +4108,7 @@ public class SimpleLOOPParser extends Parser {
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(771);
+				setState(712);
 				match(BOOL);
 				 ((TypeContext)_localctx).typeRet =  new BoolType(); 
 				}
@@ -4476,7 +4116,7 @@ public class SimpleLOOPParser extends Parser {
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(773);
+				setState(714);
 				((TypeContext)_localctx).arr = array_type();
 				 ((TypeContext)_localctx).typeRet =  ((TypeContext)_localctx).arr.arrTypeRet; 
 				}
@@ -4484,7 +4124,7 @@ public class SimpleLOOPParser extends Parser {
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(776);
+				setState(717);
 				((TypeContext)_localctx).f = fptr_type();
 				 ((TypeContext)_localctx).typeRet =  ((TypeContext)_localctx).f.fptrTypeRet; 
 				}
@@ -4492,7 +4132,7 @@ public class SimpleLOOPParser extends Parser {
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(779);
+				setState(720);
 				((TypeContext)_localctx).s = set_type();
 				 ((TypeContext)_localctx).typeRet =  ((TypeContext)_localctx).s.setTypeRet; 
 				}
@@ -4500,7 +4140,7 @@ public class SimpleLOOPParser extends Parser {
 			case 6:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(782);
+				setState(723);
 				((TypeContext)_localctx).cid = class_identifier();
 				 ((TypeContext)_localctx).typeRet =  new ClassType(((TypeContext)_localctx).cid.idRet); 
 				}
@@ -4564,32 +4204,32 @@ public class SimpleLOOPParser extends Parser {
 
 	public final Array_typeContext array_type() throws RecognitionException {
 		Array_typeContext _localctx = new Array_typeContext(_ctx, getState());
-		enterRule(_localctx, 88, RULE_array_type);
+		enterRule(_localctx, 78, RULE_array_type);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
 			 ((Array_typeContext)_localctx).dims =  new ArrayList<>(); 
-			setState(795);
+			setState(736);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case INT:
 				{
-				setState(788);
+				setState(729);
 				match(INT);
 				 ((Array_typeContext)_localctx).t =  new IntType(); 
 				}
 				break;
 			case BOOL:
 				{
-				setState(790);
+				setState(731);
 				match(BOOL);
 				 ((Array_typeContext)_localctx).t =  new BoolType(); 
 				}
 				break;
 			case CLASS_IDENTIFIER:
 				{
-				setState(792);
+				setState(733);
 				((Array_typeContext)_localctx).cid = class_identifier();
 				 ((Array_typeContext)_localctx).t =  new ClassType(((Array_typeContext)_localctx).cid.idRet); 
 				}
@@ -4597,22 +4237,22 @@ public class SimpleLOOPParser extends Parser {
 			default:
 				throw new NoViableAltException(this);
 			}
-			setState(802); 
+			setState(743); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			do {
 				{
 				{
-				setState(797);
+				setState(738);
 				match(LBRACK);
-				setState(798);
+				setState(739);
 				((Array_typeContext)_localctx).ex = expression();
-				setState(799);
+				setState(740);
 				match(RBRACK);
 				 _localctx.dims.add(((Array_typeContext)_localctx).ex.expRet); 
 				}
 				}
-				setState(804); 
+				setState(745); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			} while ( _la==LBRACK );
@@ -4674,22 +4314,22 @@ public class SimpleLOOPParser extends Parser {
 
 	public final Fptr_typeContext fptr_type() throws RecognitionException {
 		Fptr_typeContext _localctx = new Fptr_typeContext(_ctx, getState());
-		enterRule(_localctx, 90, RULE_fptr_type);
+		enterRule(_localctx, 80, RULE_fptr_type);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
 			 ArrayList<Type> args = new ArrayList<>(); 
-			setState(809);
+			setState(750);
 			match(FPTR);
-			setState(810);
+			setState(751);
 			match(LESS_THAN);
-			setState(823);
+			setState(764);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case VOID:
 				{
-				setState(811);
+				setState(752);
 				match(VOID);
 				}
 				break;
@@ -4700,23 +4340,23 @@ public class SimpleLOOPParser extends Parser {
 			case CLASS_IDENTIFIER:
 				{
 				{
-				setState(812);
+				setState(753);
 				((Fptr_typeContext)_localctx).t1 = type();
 				 args.add(((Fptr_typeContext)_localctx).t1.typeRet); 
-				setState(820);
+				setState(761);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==COMMA) {
 					{
 					{
-					setState(814);
+					setState(755);
 					match(COMMA);
-					setState(815);
+					setState(756);
 					((Fptr_typeContext)_localctx).t2 = type();
 					 args.add(((Fptr_typeContext)_localctx).t2.typeRet); 
 					}
 					}
-					setState(822);
+					setState(763);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
@@ -4726,9 +4366,9 @@ public class SimpleLOOPParser extends Parser {
 			default:
 				throw new NoViableAltException(this);
 			}
-			setState(825);
+			setState(766);
 			match(ARROW);
-			setState(831);
+			setState(772);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case INT:
@@ -4737,14 +4377,14 @@ public class SimpleLOOPParser extends Parser {
 			case SET:
 			case CLASS_IDENTIFIER:
 				{
-				setState(826);
+				setState(767);
 				((Fptr_typeContext)_localctx).t3 = type();
 				((Fptr_typeContext)_localctx).fptrTypeRet =  new FptrType(args, ((Fptr_typeContext)_localctx).t3.typeRet);
 				}
 				break;
 			case VOID:
 				{
-				setState(829);
+				setState(770);
 				match(VOID);
 				((Fptr_typeContext)_localctx).fptrTypeRet =  new FptrType(args, new VoidType());
 				}
@@ -4752,7 +4392,7 @@ public class SimpleLOOPParser extends Parser {
 			default:
 				throw new NoViableAltException(this);
 			}
-			setState(833);
+			setState(774);
 			match(GREATER_THAN);
 			}
 		}
@@ -4794,19 +4434,19 @@ public class SimpleLOOPParser extends Parser {
 
 	public final Set_typeContext set_type() throws RecognitionException {
 		Set_typeContext _localctx = new Set_typeContext(_ctx, getState());
-		enterRule(_localctx, 92, RULE_set_type);
+		enterRule(_localctx, 82, RULE_set_type);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(835);
+			setState(776);
 			match(SET);
-			setState(836);
+			setState(777);
 			match(LESS_THAN);
 			{
-			setState(837);
+			setState(778);
 			match(INT);
 			}
-			setState(838);
+			setState(779);
 			match(GREATER_THAN);
 			 ((Set_typeContext)_localctx).setTypeRet =  new SetType(); 
 			}
@@ -4823,315 +4463,296 @@ public class SimpleLOOPParser extends Parser {
 	}
 
 	public static final String _serializedATN =
-		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\3@\u034c\4\2\t\2\4"+
+		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\3@\u0311\4\2\t\2\4"+
 		"\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13\t"+
 		"\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22\t\22"+
 		"\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\4\27\t\27\4\30\t\30\4\31\t\31"+
 		"\4\32\t\32\4\33\t\33\4\34\t\34\4\35\t\35\4\36\t\36\4\37\t\37\4 \t \4!"+
-		"\t!\4\"\t\"\4#\t#\4$\t$\4%\t%\4&\t&\4\'\t\'\4(\t(\4)\t)\4*\t*\4+\t+\4"+
-		",\t,\4-\t-\4.\t.\4/\t/\4\60\t\60\3\2\7\2b\n\2\f\2\16\2e\13\2\3\2\3\2\3"+
-		"\2\7\2j\n\2\f\2\16\2m\13\2\3\2\3\2\3\3\3\3\3\3\6\3t\n\3\r\3\16\3u\3\3"+
-		"\3\3\7\3z\n\3\f\3\16\3}\13\3\3\3\3\3\6\3\u0081\n\3\r\3\16\3\u0082\3\3"+
-		"\3\3\7\3\u0087\n\3\f\3\16\3\u008a\13\3\3\4\3\4\3\4\3\4\3\4\7\4\u0091\n"+
-		"\4\f\4\16\4\u0094\13\4\3\4\3\4\3\4\3\4\3\5\3\5\3\5\3\5\3\5\3\5\3\5\5\5"+
-		"\u00a1\n\5\3\5\7\5\u00a4\n\5\f\5\16\5\u00a7\13\5\3\5\3\5\6\5\u00ab\n\5"+
-		"\r\5\16\5\u00ac\3\5\3\5\3\5\6\5\u00b2\n\5\r\5\16\5\u00b3\6\5\u00b6\n\5"+
-		"\r\5\16\5\u00b7\3\5\3\5\3\5\3\5\3\5\5\5\u00bf\n\5\3\6\3\6\3\6\3\6\3\6"+
-		"\3\6\3\6\3\6\5\6\u00c9\n\6\3\6\3\6\3\6\5\6\u00ce\n\6\3\7\3\7\3\7\3\7\3"+
-		"\7\5\7\u00d5\n\7\3\7\3\7\3\7\7\7\u00da\n\7\f\7\16\7\u00dd\13\7\3\7\3\7"+
-		"\3\7\3\b\3\b\3\b\6\b\u00e5\n\b\r\b\16\b\u00e6\3\b\3\b\6\b\u00eb\n\b\r"+
-		"\b\16\b\u00ec\3\b\3\b\7\b\u00f1\n\b\f\b\16\b\u00f4\13\b\3\b\3\b\6\b\u00f8"+
-		"\n\b\r\b\16\b\u00f9\3\b\3\b\7\b\u00fe\n\b\f\b\16\b\u0101\13\b\3\b\3\b"+
-		"\3\b\3\b\3\b\3\b\3\b\3\b\5\b\u010b\n\b\5\b\u010d\n\b\3\t\3\t\3\t\3\t\3"+
-		"\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t\7\t\u011b\n\t\f\t\16\t\u011e\13\t\5\t\u0120"+
-		"\n\t\3\t\3\t\3\t\3\t\3\t\3\t\7\t\u0128\n\t\f\t\16\t\u012b\13\t\5\t\u012d"+
-		"\n\t\3\t\3\t\3\n\3\n\3\n\3\n\3\13\3\13\3\13\3\13\3\13\3\13\3\13\7\13\u013c"+
-		"\n\13\f\13\16\13\u013f\13\13\5\13\u0141\n\13\3\f\3\f\3\f\3\f\6\f\u0147"+
-		"\n\f\r\f\16\f\u0148\3\f\3\f\3\f\5\f\u014e\n\f\3\r\3\r\3\r\6\r\u0153\n"+
-		"\r\r\r\16\r\u0154\3\r\3\r\3\r\6\r\u015a\n\r\r\r\16\r\u015b\7\r\u015e\n"+
-		"\r\f\r\16\r\u0161\13\r\3\r\3\r\3\16\3\16\3\16\3\16\3\16\3\16\3\16\3\16"+
+		"\t!\4\"\t\"\4#\t#\4$\t$\4%\t%\4&\t&\4\'\t\'\4(\t(\4)\t)\4*\t*\4+\t+\3"+
+		"\2\7\2X\n\2\f\2\16\2[\13\2\3\2\3\2\3\2\7\2`\n\2\f\2\16\2c\13\2\3\2\3\2"+
+		"\3\3\3\3\3\3\6\3j\n\3\r\3\16\3k\3\3\3\3\7\3p\n\3\f\3\16\3s\13\3\3\3\3"+
+		"\3\6\3w\n\3\r\3\16\3x\3\3\3\3\7\3}\n\3\f\3\16\3\u0080\13\3\3\4\3\4\3\4"+
+		"\3\4\3\4\7\4\u0087\n\4\f\4\16\4\u008a\13\4\3\4\3\4\3\4\3\4\3\5\3\5\3\5"+
+		"\3\5\3\5\3\5\3\5\5\5\u0097\n\5\3\5\7\5\u009a\n\5\f\5\16\5\u009d\13\5\3"+
+		"\5\3\5\6\5\u00a1\n\5\r\5\16\5\u00a2\3\5\3\5\3\5\6\5\u00a8\n\5\r\5\16\5"+
+		"\u00a9\6\5\u00ac\n\5\r\5\16\5\u00ad\3\5\3\5\3\5\3\5\3\5\5\5\u00b5\n\5"+
+		"\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\5\6\u00bf\n\6\3\6\3\6\3\6\5\6\u00c4\n"+
+		"\6\3\7\3\7\3\7\3\7\3\7\5\7\u00cb\n\7\3\7\3\7\3\7\7\7\u00d0\n\7\f\7\16"+
+		"\7\u00d3\13\7\3\7\3\7\3\7\3\b\3\b\3\b\6\b\u00db\n\b\r\b\16\b\u00dc\3\b"+
+		"\3\b\6\b\u00e1\n\b\r\b\16\b\u00e2\3\b\3\b\7\b\u00e7\n\b\f\b\16\b\u00ea"+
+		"\13\b\3\b\3\b\6\b\u00ee\n\b\r\b\16\b\u00ef\3\b\3\b\7\b\u00f4\n\b\f\b\16"+
+		"\b\u00f7\13\b\3\b\3\b\3\b\3\b\3\b\3\b\3\b\3\b\5\b\u0101\n\b\5\b\u0103"+
+		"\n\b\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t\7\t\u0111\n\t\f\t"+
+		"\16\t\u0114\13\t\5\t\u0116\n\t\3\t\3\t\3\t\3\t\3\t\3\t\7\t\u011e\n\t\f"+
+		"\t\16\t\u0121\13\t\5\t\u0123\n\t\3\t\3\t\3\n\3\n\3\n\3\n\3\13\3\13\3\13"+
+		"\3\13\3\13\3\13\3\13\7\13\u0132\n\13\f\13\16\13\u0135\13\13\5\13\u0137"+
+		"\n\13\3\f\3\f\3\f\3\f\6\f\u013d\n\f\r\f\16\f\u013e\3\f\3\f\3\f\5\f\u0144"+
+		"\n\f\3\r\3\r\3\r\6\r\u0149\n\r\r\r\16\r\u014a\3\r\3\r\3\r\6\r\u0150\n"+
+		"\r\r\r\16\r\u0151\7\r\u0154\n\r\f\r\16\r\u0157\13\r\3\r\3\r\3\16\3\16"+
 		"\3\16\3\16\3\16\3\16\3\16\3\16\3\16\3\16\3\16\3\16\3\16\3\16\3\16\3\16"+
-		"\3\16\3\16\3\16\3\16\3\16\5\16\u0180\n\16\3\17\3\17\3\17\3\17\3\17\3\17"+
-		"\3\17\3\17\3\20\3\20\3\20\3\20\3\20\3\20\3\20\3\20\3\20\3\20\7\20\u0194"+
-		"\n\20\f\20\16\20\u0197\13\20\3\20\3\20\3\20\3\21\3\21\3\21\3\21\3\21\3"+
-		"\21\3\21\3\21\3\22\3\22\3\22\3\22\3\22\3\22\3\22\7\22\u01ab\n\22\f\22"+
-		"\16\22\u01ae\13\22\3\23\3\23\3\23\3\23\3\23\3\23\3\23\7\23\u01b7\n\23"+
-		"\f\23\16\23\u01ba\13\23\3\23\3\23\3\23\5\23\u01bf\n\23\3\24\7\24\u01c2"+
-		"\n\24\f\24\16\24\u01c5\13\24\3\24\3\24\3\24\3\24\3\24\3\25\3\25\3\25\3"+
-		"\25\3\25\3\25\3\25\3\25\5\25\u01d4\n\25\3\26\7\26\u01d7\n\26\f\26\16\26"+
-		"\u01da\13\26\3\26\3\26\3\26\3\26\3\27\3\27\3\27\3\27\3\27\3\27\3\30\3"+
-		"\30\3\30\3\30\3\30\3\30\3\30\3\30\5\30\u01ee\n\30\7\30\u01f0\n\30\f\30"+
-		"\16\30\u01f3\13\30\3\30\3\30\3\30\3\30\3\30\3\30\3\30\3\31\3\31\3\31\3"+
-		"\31\3\31\5\31\u0201\n\31\3\32\3\32\3\32\3\32\3\32\3\33\3\33\3\33\3\33"+
-		"\3\33\3\33\3\33\3\33\3\33\3\33\3\33\5\33\u0213\n\33\3\33\3\33\3\33\3\33"+
-		"\3\33\3\33\3\33\3\33\3\33\3\34\3\34\3\34\3\34\3\34\3\34\5\34\u0224\n\34"+
-		"\3\34\3\34\3\34\3\34\3\34\3\34\3\34\5\34\u022d\n\34\3\35\3\35\3\35\3\35"+
-		"\3\35\3\35\3\35\3\35\5\35\u0237\n\35\3\36\3\36\3\36\3\36\3\36\3\36\7\36"+
-		"\u023f\n\36\f\36\16\36\u0242\13\36\3\37\3\37\3\37\3\37\3\37\3\37\7\37"+
-		"\u024a\n\37\f\37\16\37\u024d\13\37\3 \3 \3 \3 \3 \3 \7 \u0255\n \f \16"+
-		" \u0258\13 \3!\3!\3!\3!\3!\3!\5!\u0260\n!\3!\3!\3!\7!\u0265\n!\f!\16!"+
-		"\u0268\13!\3\"\3\"\3\"\3\"\3\"\3\"\5\"\u0270\n\"\3\"\3\"\3\"\7\"\u0275"+
-		"\n\"\f\"\16\"\u0278\13\"\3#\3#\3#\3#\3#\3#\5#\u0280\n#\3#\3#\3#\7#\u0285"+
-		"\n#\f#\16#\u0288\13#\3$\3$\3$\3$\5$\u028e\n$\3$\3$\3$\3$\3$\3$\5$\u0296"+
-		"\n$\3%\3%\3%\3%\3%\3%\5%\u029e\n%\5%\u02a0\n%\3&\3&\3&\3&\3&\3&\3&\3&"+
-		"\3&\3&\3&\3&\3&\5&\u02af\n&\7&\u02b1\n&\f&\16&\u02b4\13&\3&\3&\3&\3&\3"+
-		"&\3&\3&\3&\3&\7&\u02bf\n&\f&\16&\u02c2\13&\3\'\3\'\3\'\3\'\3\'\3\'\3\'"+
-		"\3\'\3\'\3\'\3\'\3\'\3\'\3\'\3\'\3\'\3\'\3\'\3\'\5\'\u02d7\n\'\3(\3(\3"+
-		"(\3(\3(\3(\3(\3(\3(\3(\3(\3(\7(\u02e5\n(\f(\16(\u02e8\13(\3(\3(\5(\u02ec"+
-		"\n(\3(\3(\3(\3)\3)\3)\3)\3)\5)\u02f6\n)\3*\3*\3*\3*\5*\u02fc\n*\3+\3+"+
-		"\3+\3,\3,\3,\3-\3-\3-\3-\3-\3-\3-\3-\3-\3-\3-\3-\3-\3-\3-\3-\5-\u0314"+
-		"\n-\3.\3.\3.\3.\3.\3.\3.\3.\5.\u031e\n.\3.\3.\3.\3.\3.\6.\u0325\n.\r."+
-		"\16.\u0326\3.\3.\3/\3/\3/\3/\3/\3/\3/\3/\3/\3/\7/\u0335\n/\f/\16/\u0338"+
-		"\13/\5/\u033a\n/\3/\3/\3/\3/\3/\3/\5/\u0342\n/\3/\3/\3\60\3\60\3\60\3"+
-		"\60\3\60\3\60\3\60\2\2\61\2\4\6\b\n\f\16\20\22\24\26\30\32\34\36 \"$&"+
-		"(*,.\60\62\64\668:<>@BDFHJLNPRTVXZ\\^\2\3\3\2\5\6\2\u037b\2c\3\2\2\2\4"+
-		"p\3\2\2\2\6\u008b\3\2\2\2\b\u0099\3\2\2\2\n\u00c0\3\2\2\2\f\u00d4\3\2"+
-		"\2\2\16\u010c\3\2\2\2\20\u010e\3\2\2\2\22\u0130\3\2\2\2\24\u0134\3\2\2"+
-		"\2\26\u014d\3\2\2\2\30\u014f\3\2\2\2\32\u017f\3\2\2\2\34\u0181\3\2\2\2"+
-		"\36\u0189\3\2\2\2 \u019b\3\2\2\2\"\u01a3\3\2\2\2$\u01af\3\2\2\2&\u01c3"+
-		"\3\2\2\2(\u01d3\3\2\2\2*\u01d8\3\2\2\2,\u01df\3\2\2\2.\u01e5\3\2\2\2\60"+
-		"\u01fb\3\2\2\2\62\u0202\3\2\2\2\64\u0212\3\2\2\2\66\u021d\3\2\2\28\u022e"+
-		"\3\2\2\2:\u0238\3\2\2\2<\u0243\3\2\2\2>\u024e\3\2\2\2@\u0259\3\2\2\2B"+
-		"\u0269\3\2\2\2D\u0279\3\2\2\2F\u0295\3\2\2\2H\u0297\3\2\2\2J\u02a1\3\2"+
-		"\2\2L\u02d6\3\2\2\2N\u02d8\3\2\2\2P\u02f5\3\2\2\2R\u02fb\3\2\2\2T\u02fd"+
-		"\3\2\2\2V\u0300\3\2\2\2X\u0313\3\2\2\2Z\u0315\3\2\2\2\\\u032a\3\2\2\2"+
-		"^\u0345\3\2\2\2`b\7:\2\2a`\3\2\2\2be\3\2\2\2ca\3\2\2\2cd\3\2\2\2df\3\2"+
-		"\2\2ec\3\2\2\2fg\5\4\3\2gk\b\2\1\2hj\7:\2\2ih\3\2\2\2jm\3\2\2\2ki\3\2"+
-		"\2\2kl\3\2\2\2ln\3\2\2\2mk\3\2\2\2no\7\2\2\3o\3\3\2\2\2p{\b\3\1\2qs\5"+
-		"\"\22\2rt\7:\2\2sr\3\2\2\2tu\3\2\2\2us\3\2\2\2uv\3\2\2\2vw\3\2\2\2wx\b"+
-		"\3\1\2xz\3\2\2\2yq\3\2\2\2z}\3\2\2\2{y\3\2\2\2{|\3\2\2\2|\u0088\3\2\2"+
-		"\2}{\3\2\2\2~\u0080\5\b\5\2\177\u0081\7:\2\2\u0080\177\3\2\2\2\u0081\u0082"+
-		"\3\2\2\2\u0082\u0080\3\2\2\2\u0082\u0083\3\2\2\2\u0083\u0084\3\2\2\2\u0084"+
-		"\u0085\b\3\1\2\u0085\u0087\3\2\2\2\u0086~\3\2\2\2\u0087\u008a\3\2\2\2"+
-		"\u0088\u0086\3\2\2\2\u0088\u0089\3\2\2\2\u0089\5\3\2\2\2\u008a\u0088\3"+
-		"\2\2\2\u008b\u008c\7\5\2\2\u008c\u008d\7\7\2\2\u008d\u008e\b\4\1\2\u008e"+
-		"\u0092\5\20\t\2\u008f\u0091\7:\2\2\u0090\u008f\3\2\2\2\u0091\u0094\3\2"+
-		"\2\2\u0092\u0090\3\2\2\2\u0092\u0093\3\2\2\2\u0093\u0095\3\2\2\2\u0094"+
-		"\u0092\3\2\2\2\u0095\u0096\b\4\1\2\u0096\u0097\5\16\b\2\u0097\u0098\b"+
-		"\4\1\2\u0098\7\3\2\2\2\u0099\u009a\7\4\2\2\u009a\u009b\5T+\2\u009b\u00a0"+
-		"\b\5\1\2\u009c\u009d\7\34\2\2\u009d\u009e\5T+\2\u009e\u009f\b\5\1\2\u009f"+
-		"\u00a1\3\2\2\2\u00a0\u009c\3\2\2\2\u00a0\u00a1\3\2\2\2\u00a1\u00a5\3\2"+
-		"\2\2\u00a2\u00a4\7:\2\2\u00a3\u00a2\3\2\2\2\u00a4\u00a7\3\2\2\2\u00a5"+
-		"\u00a3\3\2\2\2\u00a5\u00a6\3\2\2\2\u00a6\u00be\3\2\2\2\u00a7\u00a5\3\2"+
-		"\2\2\u00a8\u00aa\7\65\2\2\u00a9\u00ab\7:\2\2\u00aa\u00a9\3\2\2\2\u00ab"+
-		"\u00ac\3\2\2\2\u00ac\u00aa\3\2\2\2\u00ac\u00ad\3\2\2\2\u00ad\u00b5\3\2"+
-		"\2\2\u00ae\u00af\5\n\6\2\u00af\u00b1\b\5\1\2\u00b0\u00b2\7:\2\2\u00b1"+
-		"\u00b0\3\2\2\2\u00b2\u00b3\3\2\2\2\u00b3\u00b1\3\2\2\2\u00b3\u00b4\3\2"+
-		"\2\2\u00b4\u00b6\3\2\2\2\u00b5\u00ae\3\2\2\2\u00b6\u00b7\3\2\2\2\u00b7"+
-		"\u00b5\3\2\2\2\u00b7\u00b8\3\2\2\2\u00b8\u00b9\3\2\2\2\u00b9\u00ba\7\66"+
-		"\2\2\u00ba\u00bf\3\2\2\2\u00bb\u00bc\5\n\6\2\u00bc\u00bd\b\5\1\2\u00bd"+
-		"\u00bf\3\2\2\2\u00be\u00a8\3\2\2\2\u00be\u00bb\3\2\2\2\u00bf\t\3\2\2\2"+
-		"\u00c0\u00cd\b\6\1\2\u00c1\u00c8\t\2\2\2\u00c2\u00c3\5\"\22\2\u00c3\u00c4"+
-		"\b\6\1\2\u00c4\u00c9\3\2\2\2\u00c5\u00c6\5\f\7\2\u00c6\u00c7\b\6\1\2\u00c7"+
-		"\u00c9\3\2\2\2\u00c8\u00c2\3\2\2\2\u00c8\u00c5\3\2\2\2\u00c9\u00ce\3\2"+
-		"\2\2\u00ca\u00cb\5\6\4\2\u00cb\u00cc\b\6\1\2\u00cc\u00ce\3\2\2\2\u00cd"+
-		"\u00c1\3\2\2\2\u00cd\u00ca\3\2\2\2\u00ce\13\3\2\2\2\u00cf\u00d0\5X-\2"+
-		"\u00d0\u00d1\b\7\1\2\u00d1\u00d5\3\2\2\2\u00d2\u00d3\7\13\2\2\u00d3\u00d5"+
-		"\b\7\1\2\u00d4\u00cf\3\2\2\2\u00d4\u00d2\3\2\2\2\u00d5\u00d6\3\2\2\2\u00d6"+
-		"\u00d7\5V,\2\u00d7\u00db\5\20\t\2\u00d8\u00da\7:\2\2\u00d9\u00d8\3\2\2"+
-		"\2\u00da\u00dd\3\2\2\2\u00db\u00d9\3\2\2\2\u00db\u00dc\3\2\2\2\u00dc\u00de"+
-		"\3\2\2\2\u00dd\u00db\3\2\2\2\u00de\u00df\5\16\b\2\u00df\u00e0\b\7\1\2"+
-		"\u00e0\r\3\2\2\2\u00e1\u00e2\b\b\1\2\u00e2\u00e4\7\65\2\2\u00e3\u00e5"+
-		"\7:\2\2\u00e4\u00e3\3\2\2\2\u00e5\u00e6\3\2\2\2\u00e6\u00e4\3\2\2\2\u00e6"+
-		"\u00e7\3\2\2\2\u00e7\u00f2\3\2\2\2\u00e8\u00ea\5\"\22\2\u00e9\u00eb\7"+
-		":\2\2\u00ea\u00e9\3\2\2\2\u00eb\u00ec\3\2\2\2\u00ec\u00ea\3\2\2\2\u00ec"+
-		"\u00ed\3\2\2\2\u00ed\u00ee\3\2\2\2\u00ee\u00ef\b\b\1\2\u00ef\u00f1\3\2"+
-		"\2\2\u00f0\u00e8\3\2\2\2\u00f1\u00f4\3\2\2\2\u00f2\u00f0\3\2\2\2\u00f2"+
-		"\u00f3\3\2\2\2\u00f3\u00ff\3\2\2\2\u00f4\u00f2\3\2\2\2\u00f5\u00f7\5\32"+
-		"\16\2\u00f6\u00f8\7:\2\2\u00f7\u00f6\3\2\2\2\u00f8\u00f9\3\2\2\2\u00f9"+
-		"\u00f7\3\2\2\2\u00f9\u00fa\3\2\2\2\u00fa\u00fb\3\2\2\2\u00fb\u00fc\b\b"+
-		"\1\2\u00fc\u00fe\3\2\2\2\u00fd\u00f5\3\2\2\2\u00fe\u0101\3\2\2\2\u00ff"+
-		"\u00fd\3\2\2\2\u00ff\u0100\3\2\2\2\u0100\u0102\3\2\2\2\u0101\u00ff\3\2"+
-		"\2\2\u0102\u010d\7\66\2\2\u0103\u010a\b\b\1\2\u0104\u0105\5\"\22\2\u0105"+
-		"\u0106\b\b\1\2\u0106\u010b\3\2\2\2\u0107\u0108\5\32\16\2\u0108\u0109\b"+
-		"\b\1\2\u0109\u010b\3\2\2\2\u010a\u0104\3\2\2\2\u010a\u0107\3\2\2\2\u010b"+
-		"\u010d\3\2\2\2\u010c\u00e1\3\2\2\2\u010c\u0103\3\2\2\2\u010d\17\3\2\2"+
-		"\2\u010e\u010f\7\61\2\2\u010f\u012c\b\t\1\2\u0110\u0111\5\22\n\2\u0111"+
-		"\u011f\b\t\1\2\u0112\u0113\7/\2\2\u0113\u0114\5:\36\2\u0114\u0115\b\t"+
-		"\1\2\u0115\u0120\3\2\2\2\u0116\u0117\7\67\2\2\u0117\u0118\5\22\n\2\u0118"+
-		"\u0119\b\t\1\2\u0119\u011b\3\2\2\2\u011a\u0116\3\2\2\2\u011b\u011e\3\2"+
-		"\2\2\u011c\u011a\3\2\2\2\u011c\u011d\3\2\2\2\u011d\u0120\3\2\2\2\u011e"+
-		"\u011c\3\2\2\2\u011f\u0112\3\2\2\2\u011f\u011c\3\2\2\2\u0120\u0129\3\2"+
-		"\2\2\u0121\u0122\7\67\2\2\u0122\u0123\5\22\n\2\u0123\u0124\7/\2\2\u0124"+
-		"\u0125\5:\36\2\u0125\u0126\b\t\1\2\u0126\u0128\3\2\2\2\u0127\u0121\3\2"+
-		"\2\2\u0128\u012b\3\2\2\2\u0129\u0127\3\2\2\2\u0129\u012a\3\2\2\2\u012a"+
-		"\u012d\3\2\2\2\u012b\u0129\3\2\2\2\u012c\u0110\3\2\2\2\u012c\u012d\3\2"+
-		"\2\2\u012d\u012e\3\2\2\2\u012e\u012f\7\62\2\2\u012f\21\3\2\2\2\u0130\u0131"+
-		"\5X-\2\u0131\u0132\5V,\2\u0132\u0133\b\n\1\2\u0133\23\3\2\2\2\u0134\u0140"+
-		"\b\13\1\2\u0135\u0136\5\66\34\2\u0136\u013d\b\13\1\2\u0137\u0138\7\67"+
-		"\2\2\u0138\u0139\5\66\34\2\u0139\u013a\b\13\1\2\u013a\u013c\3\2\2\2\u013b"+
-		"\u0137\3\2\2\2\u013c\u013f\3\2\2\2\u013d\u013b\3\2\2\2\u013d\u013e\3\2"+
-		"\2\2\u013e\u0141\3\2\2\2\u013f\u013d\3\2\2\2\u0140\u0135\3\2\2\2\u0140"+
-		"\u0141\3\2\2\2\u0141\25\3\2\2\2\u0142\u0143\5\30\r\2\u0143\u0144\b\f\1"+
-		"\2\u0144\u014e\3\2\2\2\u0145\u0147\7:\2\2\u0146\u0145\3\2\2\2\u0147\u0148"+
-		"\3\2\2\2\u0148\u0146\3\2\2\2\u0148\u0149\3\2\2\2\u0149\u014a\3\2\2\2\u014a"+
-		"\u014b\5\32\16\2\u014b\u014c\b\f\1\2\u014c\u014e\3\2\2\2\u014d\u0142\3"+
-		"\2\2\2\u014d\u0146\3\2\2\2\u014e\27\3\2\2\2\u014f\u0150\7\65\2\2\u0150"+
-		"\u0152\b\r\1\2\u0151\u0153\7:\2\2\u0152\u0151\3\2\2\2\u0153\u0154\3\2"+
-		"\2\2\u0154\u0152\3\2\2\2\u0154\u0155\3\2\2\2\u0155\u015f\3\2\2\2\u0156"+
-		"\u0157\5\32\16\2\u0157\u0159\b\r\1\2\u0158\u015a\7:\2\2\u0159\u0158\3"+
-		"\2\2\2\u015a\u015b\3\2\2\2\u015b\u0159\3\2\2\2\u015b\u015c\3\2\2\2\u015c"+
-		"\u015e\3\2\2\2\u015d\u0156\3\2\2\2\u015e\u0161\3\2\2\2\u015f\u015d\3\2"+
-		"\2\2\u015f\u0160\3\2\2\2\u0160\u0162\3\2\2\2\u0161\u015f\3\2\2\2\u0162"+
-		"\u0163\7\66\2\2\u0163\31\3\2\2\2\u0164\u0165\5$\23\2\u0165\u0166\b\16"+
-		"\1\2\u0166\u0180\3\2\2\2\u0167\u0168\5,\27\2\u0168\u0169\b\16\1\2\u0169"+
-		"\u0180\3\2\2\2\u016a\u016b\5.\30\2\u016b\u016c\b\16\1\2\u016c\u0180\3"+
-		"\2\2\2\u016d\u016e\5\60\31\2\u016e\u016f\b\16\1\2\u016f\u0180\3\2\2\2"+
-		"\u0170\u0171\5\62\32\2\u0171\u0172\b\16\1\2\u0172\u0180\3\2\2\2\u0173"+
-		"\u0174\5\64\33\2\u0174\u0175\b\16\1\2\u0175\u0180\3\2\2\2\u0176\u0177"+
-		"\5\34\17\2\u0177\u0178\b\16\1\2\u0178\u0180\3\2\2\2\u0179\u017a\5\36\20"+
-		"\2\u017a\u017b\b\16\1\2\u017b\u0180\3\2\2\2\u017c\u017d\5 \21\2\u017d"+
-		"\u017e\b\16\1\2\u017e\u0180\3\2\2\2\u017f\u0164\3\2\2\2\u017f\u0167\3"+
-		"\2\2\2\u017f\u016a\3\2\2\2\u017f\u016d\3\2\2\2\u017f\u0170\3\2\2\2\u017f"+
-		"\u0173\3\2\2\2\u017f\u0176\3\2\2\2\u017f\u0179\3\2\2\2\u017f\u017c\3\2"+
-		"\2\2\u0180\33\3\2\2\2\u0181\u0182\5\66\34\2\u0182\u0183\78\2\2\u0183\u0184"+
-		"\7\16\2\2\u0184\u0185\7\61\2\2\u0185\u0186\5:\36\2\u0186\u0187\7\62\2"+
-		"\2\u0187\u0188\b\17\1\2\u0188\35\3\2\2\2\u0189\u018a\5\66\34\2\u018a\u018b"+
-		"\78\2\2\u018b\u018c\7\17\2\2\u018c\u018d\7\61\2\2\u018d\u018e\5:\36\2"+
-		"\u018e\u0195\b\20\1\2\u018f\u0190\7\67\2\2\u0190\u0191\5:\36\2\u0191\u0192"+
-		"\b\20\1\2\u0192\u0194\3\2\2\2\u0193\u018f\3\2\2\2\u0194\u0197\3\2\2\2"+
-		"\u0195\u0193\3\2\2\2\u0195\u0196\3\2\2\2\u0196\u0198\3\2\2\2\u0197\u0195"+
-		"\3\2\2\2\u0198\u0199\b\20\1\2\u0199\u019a\7\62\2\2\u019a\37\3\2\2\2\u019b"+
-		"\u019c\5\66\34\2\u019c\u019d\78\2\2\u019d\u019e\7\f\2\2\u019e\u019f\7"+
-		"\61\2\2\u019f\u01a0\5:\36\2\u01a0\u01a1\7\62\2\2\u01a1\u01a2\b\21\1\2"+
-		"\u01a2!\3\2\2\2\u01a3\u01a4\5X-\2\u01a4\u01a5\5V,\2\u01a5\u01ac\b\22\1"+
-		"\2\u01a6\u01a7\7\67\2\2\u01a7\u01a8\5V,\2\u01a8\u01a9\b\22\1\2\u01a9\u01ab"+
-		"\3\2\2\2\u01aa\u01a6\3\2\2\2\u01ab\u01ae\3\2\2\2\u01ac\u01aa\3\2\2\2\u01ac"+
-		"\u01ad\3\2\2\2\u01ad#\3\2\2\2\u01ae\u01ac\3\2\2\2\u01af\u01b0\7\21\2\2"+
-		"\u01b0\u01b1\5(\25\2\u01b1\u01b2\5\26\f\2\u01b2\u01b8\b\23\1\2\u01b3\u01b4"+
-		"\5&\24\2\u01b4\u01b5\b\23\1\2\u01b5\u01b7\3\2\2\2\u01b6\u01b3\3\2\2\2"+
-		"\u01b7\u01ba\3\2\2\2\u01b8\u01b6\3\2\2\2\u01b8\u01b9\3\2\2\2\u01b9\u01be"+
-		"\3\2\2\2\u01ba\u01b8\3\2\2\2\u01bb\u01bc\5*\26\2\u01bc\u01bd\b\23\1\2"+
-		"\u01bd\u01bf\3\2\2\2\u01be\u01bb\3\2\2\2\u01be\u01bf\3\2\2\2\u01bf%\3"+
-		"\2\2\2\u01c0\u01c2\7:\2\2\u01c1\u01c0\3\2\2\2\u01c2\u01c5\3\2\2\2\u01c3"+
-		"\u01c1\3\2\2\2\u01c3\u01c4\3\2\2\2\u01c4\u01c6\3\2\2\2\u01c5\u01c3\3\2"+
-		"\2\2\u01c6\u01c7\7\23\2\2\u01c7\u01c8\5(\25\2\u01c8\u01c9\5\26\f\2\u01c9"+
-		"\u01ca\b\24\1\2\u01ca\'\3\2\2\2\u01cb\u01cc\7\61\2\2\u01cc\u01cd\5\66"+
-		"\34\2\u01cd\u01ce\b\25\1\2\u01ce\u01cf\7\62\2\2\u01cf\u01d4\3\2\2\2\u01d0"+
-		"\u01d1\5\66\34\2\u01d1\u01d2\b\25\1\2\u01d2\u01d4\3\2\2\2\u01d3\u01cb"+
-		"\3\2\2\2\u01d3\u01d0\3\2\2\2\u01d4)\3\2\2\2\u01d5\u01d7\7:\2\2\u01d6\u01d5"+
-		"\3\2\2\2\u01d7\u01da\3\2\2\2\u01d8\u01d6\3\2\2\2\u01d8\u01d9\3\2\2\2\u01d9"+
-		"\u01db\3\2\2\2\u01da\u01d8\3\2\2\2\u01db\u01dc\7\22\2\2\u01dc\u01dd\5"+
-		"\26\f\2\u01dd\u01de\b\26\1\2\u01de+\3\2\2\2\u01df\u01e0\7\20\2\2\u01e0"+
-		"\u01e1\7\61\2\2\u01e1\u01e2\5\66\34\2\u01e2\u01e3\b\27\1\2\u01e3\u01e4"+
-		"\7\62\2\2\u01e4-\3\2\2\2\u01e5\u01e6\5J&\2\u01e6\u01f1\b\30\1\2\u01e7"+
-		"\u01ed\78\2\2\u01e8\u01e9\7\7\2\2\u01e9\u01ee\b\30\1\2\u01ea\u01eb\5V"+
-		",\2\u01eb\u01ec\b\30\1\2\u01ec\u01ee\3\2\2\2\u01ed\u01e8\3\2\2\2\u01ed"+
-		"\u01ea\3\2\2\2\u01ee\u01f0\3\2\2\2\u01ef\u01e7\3\2\2\2\u01f0\u01f3\3\2"+
-		"\2\2\u01f1\u01ef\3\2\2\2\u01f1\u01f2\3\2\2\2\u01f2\u01f4\3\2\2\2\u01f3"+
-		"\u01f1\3\2\2\2\u01f4\u01f5\7\61\2\2\u01f5\u01f6\5\24\13\2\u01f6\u01f7"+
-		"\b\30\1\2\u01f7\u01f8\7\62\2\2\u01f8\u01f9\3\2\2\2\u01f9\u01fa\b\30\1"+
-		"\2\u01fa/\3\2\2\2\u01fb\u01fc\7\n\2\2\u01fc\u0200\b\31\1\2\u01fd\u01fe"+
-		"\5\66\34\2\u01fe\u01ff\b\31\1\2\u01ff\u0201\3\2\2\2\u0200\u01fd\3\2\2"+
-		"\2\u0200\u0201\3\2\2\2\u0201\61\3\2\2\2\u0202\u0203\5:\36\2\u0203\u0204"+
-		"\7/\2\2\u0204\u0205\5\66\34\2\u0205\u0206\b\32\1\2\u0206\63\3\2\2\2\u0207"+
-		"\u0208\5J&\2\u0208\u0209\b\33\1\2\u0209\u0213\3\2\2\2\u020a\u020b\7\61"+
-		"\2\2\u020b\u020c\5\66\34\2\u020c\u020d\78\2\2\u020d\u020e\78\2\2\u020e"+
-		"\u020f\5\66\34\2\u020f\u0210\7\62\2\2\u0210\u0211\b\33\1\2\u0211\u0213"+
-		"\3\2\2\2\u0212\u0207\3\2\2\2\u0212\u020a\3\2\2\2\u0213\u0214\3\2\2\2\u0214"+
-		"\u0215\78\2\2\u0215\u0216\7-\2\2\u0216\u0217\7.\2\2\u0217\u0218\7\36\2"+
-		"\2\u0218\u0219\5V,\2\u0219\u021a\7\36\2\2\u021a\u021b\5\26\f\2\u021b\u021c"+
-		"\b\33\1\2\u021c\65\3\2\2\2\u021d\u021e\58\35\2\u021e\u0223\b\34\1\2\u021f"+
-		"\u0220\7/\2\2\u0220\u0221\5\66\34\2\u0221\u0222\b\34\1\2\u0222\u0224\3"+
-		"\2\2\2\u0223\u021f\3\2\2\2\u0223\u0224\3\2\2\2\u0224\u022c\3\2\2\2\u0225"+
-		"\u0226\78\2\2\u0226\u0227\7\r\2\2\u0227\u0228\7\61\2\2\u0228\u0229\5:"+
-		"\36\2\u0229\u022a\7\62\2\2\u022a\u022b\b\34\1\2\u022b\u022d\3\2\2\2\u022c"+
-		"\u0225\3\2\2\2\u022c\u022d\3\2\2\2\u022d\67\3\2\2\2\u022e\u022f\5:\36"+
-		"\2\u022f\u0236\b\35\1\2\u0230\u0231\7\"\2\2\u0231\u0232\58\35\2\u0232"+
-		"\u0233\7#\2\2\u0233\u0234\58\35\2\u0234\u0235\b\35\1\2\u0235\u0237\3\2"+
-		"\2\2\u0236\u0230\3\2\2\2\u0236\u0237\3\2\2\2\u02379\3\2\2\2\u0238\u0239"+
-		"\5<\37\2\u0239\u0240\b\36\1\2\u023a\u023b\7 \2\2\u023b\u023c\5<\37\2\u023c"+
-		"\u023d\b\36\1\2\u023d\u023f\3\2\2\2\u023e\u023a\3\2\2\2\u023f\u0242\3"+
-		"\2\2\2\u0240\u023e\3\2\2\2\u0240\u0241\3\2\2\2\u0241;\3\2\2\2\u0242\u0240"+
-		"\3\2\2\2\u0243\u0244\5> \2\u0244\u024b\b\37\1\2\u0245\u0246\7\37\2\2\u0246"+
-		"\u0247\5> \2\u0247\u0248\b\37\1\2\u0248\u024a\3\2\2\2\u0249\u0245\3\2"+
-		"\2\2\u024a\u024d\3\2\2\2\u024b\u0249\3\2\2\2\u024b\u024c\3\2\2\2\u024c"+
-		"=\3\2\2\2\u024d\u024b\3\2\2\2\u024e\u024f\5@!\2\u024f\u0256\b \1\2\u0250"+
-		"\u0251\7\32\2\2\u0251\u0252\5@!\2\u0252\u0253\b \1\2\u0253\u0255\3\2\2"+
-		"\2\u0254\u0250\3\2\2\2\u0255\u0258\3\2\2\2\u0256\u0254\3\2\2\2\u0256\u0257"+
-		"\3\2\2\2\u0257?\3\2\2\2\u0258\u0256\3\2\2\2\u0259\u025a\5B\"\2\u025a\u0266"+
-		"\b!\1\2\u025b\u025c\7\33\2\2\u025c\u0260\b!\1\2\u025d\u025e\7\34\2\2\u025e"+
-		"\u0260\b!\1\2\u025f\u025b\3\2\2\2\u025f\u025d\3\2\2\2\u0260\u0261\3\2"+
-		"\2\2\u0261\u0262\5B\"\2\u0262\u0263\b!\1\2\u0263\u0265\3\2\2\2\u0264\u025f"+
-		"\3\2\2\2\u0265\u0268\3\2\2\2\u0266\u0264\3\2\2\2\u0266\u0267\3\2\2\2\u0267"+
-		"A\3\2\2\2\u0268\u0266\3\2\2\2\u0269\u026a\5D#\2\u026a\u0276\b\"\1\2\u026b"+
-		"\u026c\7\24\2\2\u026c\u0270\b\"\1\2\u026d\u026e\7\25\2\2\u026e\u0270\b"+
-		"\"\1\2\u026f\u026b\3\2\2\2\u026f\u026d\3\2\2\2\u0270\u0271\3\2\2\2\u0271"+
-		"\u0272\5D#\2\u0272\u0273\b\"\1\2\u0273\u0275\3\2\2\2\u0274\u026f\3\2\2"+
-		"\2\u0275\u0278\3\2\2\2\u0276\u0274\3\2\2\2\u0276\u0277\3\2\2\2\u0277C"+
-		"\3\2\2\2\u0278\u0276\3\2\2\2\u0279\u027a\5F$\2\u027a\u0286\b#\1\2\u027b"+
-		"\u027c\7\26\2\2\u027c\u0280\b#\1\2\u027d\u027e\7\27\2\2\u027e\u0280\b"+
-		"#\1\2\u027f\u027b\3\2\2\2\u027f\u027d\3\2\2\2\u0280\u0281\3\2\2\2\u0281"+
-		"\u0282\5F$\2\u0282\u0283\b#\1\2\u0283\u0285\3\2\2\2\u0284\u027f\3\2\2"+
-		"\2\u0285\u0288\3\2\2\2\u0286\u0284\3\2\2\2\u0286\u0287\3\2\2\2\u0287E"+
-		"\3\2\2\2\u0288\u0286\3\2\2\2\u0289\u028a\7!\2\2\u028a\u028e\b$\1\2\u028b"+
-		"\u028c\7\25\2\2\u028c\u028e\b$\1\2\u028d\u0289\3\2\2\2\u028d\u028b\3\2"+
-		"\2\2\u028e\u028f\3\2\2\2\u028f\u0290\5F$\2\u0290\u0291\b$\1\2\u0291\u0296"+
-		"\3\2\2\2\u0292\u0293\5H%\2\u0293\u0294\b$\1\2\u0294\u0296\3\2\2\2\u0295"+
-		"\u028d\3\2\2\2\u0295\u0292\3\2\2\2\u0296G\3\2\2\2\u0297\u0298\5J&\2\u0298"+
-		"\u029f\b%\1\2\u0299\u029a\7\30\2\2\u029a\u029e\b%\1\2\u029b\u029c\7\31"+
-		"\2\2\u029c\u029e\b%\1\2\u029d\u0299\3\2\2\2\u029d\u029b\3\2\2\2\u029e"+
-		"\u02a0\3\2\2\2\u029f\u029d\3\2\2\2\u029f\u02a0\3\2\2\2\u02a0I\3\2\2\2"+
-		"\u02a1\u02a2\5L\'\2\u02a2\u02b2\b&\1\2\u02a3\u02a4\7\61\2\2\u02a4\u02a5"+
-		"\5\24\13\2\u02a5\u02a6\b&\1\2\u02a6\u02a7\7\62\2\2\u02a7\u02b1\3\2\2\2"+
-		"\u02a8\u02ae\78\2\2\u02a9\u02aa\5V,\2\u02aa\u02ab\b&\1\2\u02ab\u02af\3"+
-		"\2\2\2\u02ac\u02ad\7\b\2\2\u02ad\u02af\b&\1\2\u02ae\u02a9\3\2\2\2\u02ae"+
-		"\u02ac\3\2\2\2\u02af\u02b1\3\2\2\2\u02b0\u02a3\3\2\2\2\u02b0\u02a8\3\2"+
-		"\2\2\u02b1\u02b4\3\2\2\2\u02b2\u02b0\3\2\2\2\u02b2\u02b3\3\2\2\2\u02b3"+
-		"\u02c0\3\2\2\2\u02b4\u02b2\3\2\2\2\u02b5\u02b6\78\2\2\u02b6\u02b7\5V,"+
-		"\2\u02b7\u02b8\b&\1\2\u02b8\u02bf\3\2\2\2\u02b9\u02ba\7\63\2\2\u02ba\u02bb"+
-		"\5\66\34\2\u02bb\u02bc\7\64\2\2\u02bc\u02bd\b&\1\2\u02bd\u02bf\3\2\2\2"+
-		"\u02be\u02b5\3\2\2\2\u02be\u02b9\3\2\2\2\u02bf\u02c2\3\2\2\2\u02c0\u02be"+
-		"\3\2\2\2\u02c0\u02c1\3\2\2\2\u02c1K\3\2\2\2\u02c2\u02c0\3\2\2\2\u02c3"+
-		"\u02c4\7\t\2\2\u02c4\u02d7\b\'\1\2\u02c5\u02c6\5T+\2\u02c6\u02c7\b\'\1"+
-		"\2\u02c7\u02d7\3\2\2\2\u02c8\u02c9\5P)\2\u02c9\u02ca\b\'\1\2\u02ca\u02d7"+
-		"\3\2\2\2\u02cb\u02cc\5V,\2\u02cc\u02cd\b\'\1\2\u02cd\u02d7\3\2\2\2\u02ce"+
-		"\u02cf\5N(\2\u02cf\u02d0\b\'\1\2\u02d0\u02d7\3\2\2\2\u02d1\u02d2\7\61"+
-		"\2\2\u02d2\u02d3\5\66\34\2\u02d3\u02d4\7\62\2\2\u02d4\u02d5\b\'\1\2\u02d5"+
-		"\u02d7\3\2\2\2\u02d6\u02c3\3\2\2\2\u02d6\u02c5\3\2\2\2\u02d6\u02c8\3\2"+
-		"\2\2\u02d6\u02cb\3\2\2\2\u02d6\u02ce\3\2\2\2\u02d6\u02d1\3\2\2\2\u02d7"+
-		"M\3\2\2\2\u02d8\u02d9\b(\1\2\u02d9\u02da\7,\2\2\u02da\u02db\78\2\2\u02db"+
-		"\u02dc\7\b\2\2\u02dc\u02eb\7\61\2\2\u02dd\u02de\7\61\2\2\u02de\u02df\5"+
-		":\36\2\u02df\u02e6\b(\1\2\u02e0\u02e1\7\67\2\2\u02e1\u02e2\5:\36\2\u02e2"+
-		"\u02e3\b(\1\2\u02e3\u02e5\3\2\2\2\u02e4\u02e0\3\2\2\2\u02e5\u02e8\3\2"+
-		"\2\2\u02e6\u02e4\3\2\2\2\u02e6\u02e7\3\2\2\2\u02e7\u02e9\3\2\2\2\u02e8"+
-		"\u02e6\3\2\2\2\u02e9\u02ea\7\62\2\2\u02ea\u02ec\3\2\2\2\u02eb\u02dd\3"+
-		"\2\2\2\u02eb\u02ec\3\2\2\2\u02ec\u02ed\3\2\2\2\u02ed\u02ee\b(\1\2\u02ee"+
-		"\u02ef\7\62\2\2\u02efO\3\2\2\2\u02f0\u02f1\5R*\2\u02f1\u02f2\b)\1\2\u02f2"+
-		"\u02f6\3\2\2\2\u02f3\u02f4\7;\2\2\u02f4\u02f6\b)\1\2\u02f5\u02f0\3\2\2"+
-		"\2\u02f5\u02f3\3\2\2\2\u02f6Q\3\2\2\2\u02f7\u02f8\7$\2\2\u02f8\u02fc\b"+
-		"*\1\2\u02f9\u02fa\7%\2\2\u02fa\u02fc\b*\1\2\u02fb\u02f7\3\2\2\2\u02fb"+
-		"\u02f9\3\2\2\2\u02fcS\3\2\2\2\u02fd\u02fe\7=\2\2\u02fe\u02ff\b+\1\2\u02ff"+
-		"U\3\2\2\2\u0300\u0301\7<\2\2\u0301\u0302\b,\1\2\u0302W\3\2\2\2\u0303\u0304"+
-		"\7)\2\2\u0304\u0314\b-\1\2\u0305\u0306\7*\2\2\u0306\u0314\b-\1\2\u0307"+
-		"\u0308\5Z.\2\u0308\u0309\b-\1\2\u0309\u0314\3\2\2\2\u030a\u030b\5\\/\2"+
-		"\u030b\u030c\b-\1\2\u030c\u0314\3\2\2\2\u030d\u030e\5^\60\2\u030e\u030f"+
-		"\b-\1\2\u030f\u0314\3\2\2\2\u0310\u0311\5T+\2\u0311\u0312\b-\1\2\u0312"+
-		"\u0314\3\2\2\2\u0313\u0303\3\2\2\2\u0313\u0305\3\2\2\2\u0313\u0307\3\2"+
-		"\2\2\u0313\u030a\3\2\2\2\u0313\u030d\3\2\2\2\u0313\u0310\3\2\2\2\u0314"+
-		"Y\3\2\2\2\u0315\u031d\b.\1\2\u0316\u0317\7)\2\2\u0317\u031e\b.\1\2\u0318"+
-		"\u0319\7*\2\2\u0319\u031e\b.\1\2\u031a\u031b\5T+\2\u031b\u031c\b.\1\2"+
-		"\u031c\u031e\3\2\2\2\u031d\u0316\3\2\2\2\u031d\u0318\3\2\2\2\u031d\u031a"+
-		"\3\2\2\2\u031e\u0324\3\2\2\2\u031f\u0320\7\63\2\2\u0320\u0321\5\66\34"+
-		"\2\u0321\u0322\7\64\2\2\u0322\u0323\b.\1\2\u0323\u0325\3\2\2\2\u0324\u031f"+
-		"\3\2\2\2\u0325\u0326\3\2\2\2\u0326\u0324\3\2\2\2\u0326\u0327\3\2\2\2\u0327"+
-		"\u0328\3\2\2\2\u0328\u0329\b.\1\2\u0329[\3\2\2\2\u032a\u032b\b/\1\2\u032b"+
-		"\u032c\7+\2\2\u032c\u0339\7\34\2\2\u032d\u033a\7\13\2\2\u032e\u032f\5"+
-		"X-\2\u032f\u0336\b/\1\2\u0330\u0331\7\67\2\2\u0331\u0332\5X-\2\u0332\u0333"+
-		"\b/\1\2\u0333\u0335\3\2\2\2\u0334\u0330\3\2\2\2\u0335\u0338\3\2\2\2\u0336"+
-		"\u0334\3\2\2\2\u0336\u0337\3\2\2\2\u0337\u033a\3\2\2\2\u0338\u0336\3\2"+
-		"\2\2\u0339\u032d\3\2\2\2\u0339\u032e\3\2\2\2\u033a\u033b\3\2\2\2\u033b"+
-		"\u0341\7\35\2\2\u033c\u033d\5X-\2\u033d\u033e\b/\1\2\u033e\u0342\3\2\2"+
-		"\2\u033f\u0340\7\13\2\2\u0340\u0342\b/\1\2\u0341\u033c\3\2\2\2\u0341\u033f"+
-		"\3\2\2\2\u0342\u0343\3\2\2\2\u0343\u0344\7\33\2\2\u0344]\3\2\2\2\u0345"+
-		"\u0346\7,\2\2\u0346\u0347\7\34\2\2\u0347\u0348\7)\2\2\u0348\u0349\7\33"+
-		"\2\2\u0349\u034a\b\60\1\2\u034a_\3\2\2\2Qcku{\u0082\u0088\u0092\u00a0"+
-		"\u00a5\u00ac\u00b3\u00b7\u00be\u00c8\u00cd\u00d4\u00db\u00e6\u00ec\u00f2"+
-		"\u00f9\u00ff\u010a\u010c\u011c\u011f\u0129\u012c\u013d\u0140\u0148\u014d"+
-		"\u0154\u015b\u015f\u017f\u0195\u01ac\u01b8\u01be\u01c3\u01d3\u01d8\u01ed"+
-		"\u01f1\u0200\u0212\u0223\u022c\u0236\u0240\u024b\u0256\u025f\u0266\u026f"+
-		"\u0276\u027f\u0286\u028d\u0295\u029d\u029f\u02ae\u02b0\u02b2\u02be\u02c0"+
-		"\u02d6\u02e6\u02eb\u02f5\u02fb\u0313\u031d\u0326\u0336\u0339\u0341";
+		"\3\16\3\16\3\16\3\16\3\16\3\16\3\16\3\16\3\16\3\16\3\16\5\16\u0176\n\16"+
+		"\3\17\3\17\3\17\3\17\3\17\3\17\3\17\3\17\3\20\3\20\3\20\3\20\3\20\3\20"+
+		"\3\20\3\20\3\20\3\20\7\20\u018a\n\20\f\20\16\20\u018d\13\20\3\20\3\20"+
+		"\3\20\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\22\3\22\3\22\3\22\3\22"+
+		"\3\22\3\22\7\22\u01a1\n\22\f\22\16\22\u01a4\13\22\3\23\3\23\3\23\3\23"+
+		"\3\23\3\23\3\23\7\23\u01ad\n\23\f\23\16\23\u01b0\13\23\3\23\3\23\3\23"+
+		"\5\23\u01b5\n\23\3\24\7\24\u01b8\n\24\f\24\16\24\u01bb\13\24\3\24\3\24"+
+		"\3\24\3\24\3\24\3\25\3\25\3\25\3\25\3\25\3\25\3\25\3\25\5\25\u01ca\n\25"+
+		"\3\26\7\26\u01cd\n\26\f\26\16\26\u01d0\13\26\3\26\3\26\3\26\3\26\3\27"+
+		"\3\27\3\27\3\27\3\27\3\27\3\30\3\30\3\30\3\30\3\30\3\30\3\30\3\30\5\30"+
+		"\u01e4\n\30\7\30\u01e6\n\30\f\30\16\30\u01e9\13\30\3\30\3\30\3\30\3\30"+
+		"\3\30\3\30\3\30\3\31\3\31\3\31\3\31\3\31\5\31\u01f7\n\31\3\32\3\32\3\32"+
+		"\3\32\3\32\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\5\33"+
+		"\u0209\n\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\34\3\34\3\34"+
+		"\3\34\3\34\3\34\5\34\u021a\n\34\3\34\3\34\3\34\3\34\3\34\3\34\3\34\5\34"+
+		"\u0223\n\34\3\35\3\35\3\35\3\35\3\35\3\35\3\35\3\35\5\35\u022d\n\35\3"+
+		"\36\3\36\3\36\3\36\3\36\3\36\3\36\3\36\3\36\3\36\3\36\3\36\3\36\3\36\3"+
+		"\36\3\36\3\36\3\36\3\36\3\36\5\36\u0243\n\36\3\36\3\36\3\36\7\36\u0248"+
+		"\n\36\f\36\16\36\u024b\13\36\3\36\3\36\3\37\3\37\3\37\3\37\5\37\u0253"+
+		"\n\37\3\37\3\37\3\37\3\37\3\37\3\37\5\37\u025b\n\37\3 \3 \3 \3 \3 \3 "+
+		"\5 \u0263\n \5 \u0265\n \3!\3!\3!\3!\3!\3!\3!\3!\3!\3!\3!\3!\3!\5!\u0274"+
+		"\n!\7!\u0276\n!\f!\16!\u0279\13!\3!\3!\3!\3!\3!\3!\3!\3!\3!\7!\u0284\n"+
+		"!\f!\16!\u0287\13!\3\"\3\"\3\"\3\"\3\"\3\"\3\"\3\"\3\"\3\"\3\"\3\"\3\""+
+		"\3\"\3\"\3\"\3\"\3\"\3\"\5\"\u029c\n\"\3#\3#\3#\3#\3#\3#\3#\3#\3#\3#\3"+
+		"#\3#\7#\u02aa\n#\f#\16#\u02ad\13#\3#\3#\5#\u02b1\n#\3#\3#\3#\3$\3$\3$"+
+		"\3$\3$\5$\u02bb\n$\3%\3%\3%\3%\5%\u02c1\n%\3&\3&\3&\3\'\3\'\3\'\3(\3("+
+		"\3(\3(\3(\3(\3(\3(\3(\3(\3(\3(\3(\3(\3(\3(\5(\u02d9\n(\3)\3)\3)\3)\3)"+
+		"\3)\3)\3)\5)\u02e3\n)\3)\3)\3)\3)\3)\6)\u02ea\n)\r)\16)\u02eb\3)\3)\3"+
+		"*\3*\3*\3*\3*\3*\3*\3*\3*\3*\7*\u02fa\n*\f*\16*\u02fd\13*\5*\u02ff\n*"+
+		"\3*\3*\3*\3*\3*\3*\5*\u0307\n*\3*\3*\3+\3+\3+\3+\3+\3+\3+\2\2,\2\4\6\b"+
+		"\n\f\16\20\22\24\26\30\32\34\36 \"$&(*,.\60\62\64\668:<>@BDFHJLNPRT\2"+
+		"\3\3\2\5\6\2\u0345\2Y\3\2\2\2\4f\3\2\2\2\6\u0081\3\2\2\2\b\u008f\3\2\2"+
+		"\2\n\u00b6\3\2\2\2\f\u00ca\3\2\2\2\16\u0102\3\2\2\2\20\u0104\3\2\2\2\22"+
+		"\u0126\3\2\2\2\24\u012a\3\2\2\2\26\u0143\3\2\2\2\30\u0145\3\2\2\2\32\u0175"+
+		"\3\2\2\2\34\u0177\3\2\2\2\36\u017f\3\2\2\2 \u0191\3\2\2\2\"\u0199\3\2"+
+		"\2\2$\u01a5\3\2\2\2&\u01b9\3\2\2\2(\u01c9\3\2\2\2*\u01ce\3\2\2\2,\u01d5"+
+		"\3\2\2\2.\u01db\3\2\2\2\60\u01f1\3\2\2\2\62\u01f8\3\2\2\2\64\u0208\3\2"+
+		"\2\2\66\u0213\3\2\2\28\u0224\3\2\2\2:\u022e\3\2\2\2<\u025a\3\2\2\2>\u025c"+
+		"\3\2\2\2@\u0266\3\2\2\2B\u029b\3\2\2\2D\u029d\3\2\2\2F\u02ba\3\2\2\2H"+
+		"\u02c0\3\2\2\2J\u02c2\3\2\2\2L\u02c5\3\2\2\2N\u02d8\3\2\2\2P\u02da\3\2"+
+		"\2\2R\u02ef\3\2\2\2T\u030a\3\2\2\2VX\7:\2\2WV\3\2\2\2X[\3\2\2\2YW\3\2"+
+		"\2\2YZ\3\2\2\2Z\\\3\2\2\2[Y\3\2\2\2\\]\5\4\3\2]a\b\2\1\2^`\7:\2\2_^\3"+
+		"\2\2\2`c\3\2\2\2a_\3\2\2\2ab\3\2\2\2bd\3\2\2\2ca\3\2\2\2de\7\2\2\3e\3"+
+		"\3\2\2\2fq\b\3\1\2gi\5\"\22\2hj\7:\2\2ih\3\2\2\2jk\3\2\2\2ki\3\2\2\2k"+
+		"l\3\2\2\2lm\3\2\2\2mn\b\3\1\2np\3\2\2\2og\3\2\2\2ps\3\2\2\2qo\3\2\2\2"+
+		"qr\3\2\2\2r~\3\2\2\2sq\3\2\2\2tv\5\b\5\2uw\7:\2\2vu\3\2\2\2wx\3\2\2\2"+
+		"xv\3\2\2\2xy\3\2\2\2yz\3\2\2\2z{\b\3\1\2{}\3\2\2\2|t\3\2\2\2}\u0080\3"+
+		"\2\2\2~|\3\2\2\2~\177\3\2\2\2\177\5\3\2\2\2\u0080~\3\2\2\2\u0081\u0082"+
+		"\7\5\2\2\u0082\u0083\7\7\2\2\u0083\u0084\b\4\1\2\u0084\u0088\5\20\t\2"+
+		"\u0085\u0087\7:\2\2\u0086\u0085\3\2\2\2\u0087\u008a\3\2\2\2\u0088\u0086"+
+		"\3\2\2\2\u0088\u0089\3\2\2\2\u0089\u008b\3\2\2\2\u008a\u0088\3\2\2\2\u008b"+
+		"\u008c\b\4\1\2\u008c\u008d\5\16\b\2\u008d\u008e\b\4\1\2\u008e\7\3\2\2"+
+		"\2\u008f\u0090\7\4\2\2\u0090\u0091\5J&\2\u0091\u0096\b\5\1\2\u0092\u0093"+
+		"\7\34\2\2\u0093\u0094\5J&\2\u0094\u0095\b\5\1\2\u0095\u0097\3\2\2\2\u0096"+
+		"\u0092\3\2\2\2\u0096\u0097\3\2\2\2\u0097\u009b\3\2\2\2\u0098\u009a\7:"+
+		"\2\2\u0099\u0098\3\2\2\2\u009a\u009d\3\2\2\2\u009b\u0099\3\2\2\2\u009b"+
+		"\u009c\3\2\2\2\u009c\u00b4\3\2\2\2\u009d\u009b\3\2\2\2\u009e\u00a0\7\65"+
+		"\2\2\u009f\u00a1\7:\2\2\u00a0\u009f\3\2\2\2\u00a1\u00a2\3\2\2\2\u00a2"+
+		"\u00a0\3\2\2\2\u00a2\u00a3\3\2\2\2\u00a3\u00ab\3\2\2\2\u00a4\u00a5\5\n"+
+		"\6\2\u00a5\u00a7\b\5\1\2\u00a6\u00a8\7:\2\2\u00a7\u00a6\3\2\2\2\u00a8"+
+		"\u00a9\3\2\2\2\u00a9\u00a7\3\2\2\2\u00a9\u00aa\3\2\2\2\u00aa\u00ac\3\2"+
+		"\2\2\u00ab\u00a4\3\2\2\2\u00ac\u00ad\3\2\2\2\u00ad\u00ab\3\2\2\2\u00ad"+
+		"\u00ae\3\2\2\2\u00ae\u00af\3\2\2\2\u00af\u00b0\7\66\2\2\u00b0\u00b5\3"+
+		"\2\2\2\u00b1\u00b2\5\n\6\2\u00b2\u00b3\b\5\1\2\u00b3\u00b5\3\2\2\2\u00b4"+
+		"\u009e\3\2\2\2\u00b4\u00b1\3\2\2\2\u00b5\t\3\2\2\2\u00b6\u00c3\b\6\1\2"+
+		"\u00b7\u00be\t\2\2\2\u00b8\u00b9\5\"\22\2\u00b9\u00ba\b\6\1\2\u00ba\u00bf"+
+		"\3\2\2\2\u00bb\u00bc\5\f\7\2\u00bc\u00bd\b\6\1\2\u00bd\u00bf\3\2\2\2\u00be"+
+		"\u00b8\3\2\2\2\u00be\u00bb\3\2\2\2\u00bf\u00c4\3\2\2\2\u00c0\u00c1\5\6"+
+		"\4\2\u00c1\u00c2\b\6\1\2\u00c2\u00c4\3\2\2\2\u00c3\u00b7\3\2\2\2\u00c3"+
+		"\u00c0\3\2\2\2\u00c4\13\3\2\2\2\u00c5\u00c6\5N(\2\u00c6\u00c7\b\7\1\2"+
+		"\u00c7\u00cb\3\2\2\2\u00c8\u00c9\7\13\2\2\u00c9\u00cb\b\7\1\2\u00ca\u00c5"+
+		"\3\2\2\2\u00ca\u00c8\3\2\2\2\u00cb\u00cc\3\2\2\2\u00cc\u00cd\5L\'\2\u00cd"+
+		"\u00d1\5\20\t\2\u00ce\u00d0\7:\2\2\u00cf\u00ce\3\2\2\2\u00d0\u00d3\3\2"+
+		"\2\2\u00d1\u00cf\3\2\2\2\u00d1\u00d2\3\2\2\2\u00d2\u00d4\3\2\2\2\u00d3"+
+		"\u00d1\3\2\2\2\u00d4\u00d5\5\16\b\2\u00d5\u00d6\b\7\1\2\u00d6\r\3\2\2"+
+		"\2\u00d7\u00d8\b\b\1\2\u00d8\u00da\7\65\2\2\u00d9\u00db\7:\2\2\u00da\u00d9"+
+		"\3\2\2\2\u00db\u00dc\3\2\2\2\u00dc\u00da\3\2\2\2\u00dc\u00dd\3\2\2\2\u00dd"+
+		"\u00e8\3\2\2\2\u00de\u00e0\5\"\22\2\u00df\u00e1\7:\2\2\u00e0\u00df\3\2"+
+		"\2\2\u00e1\u00e2\3\2\2\2\u00e2\u00e0\3\2\2\2\u00e2\u00e3\3\2\2\2\u00e3"+
+		"\u00e4\3\2\2\2\u00e4\u00e5\b\b\1\2\u00e5\u00e7\3\2\2\2\u00e6\u00de\3\2"+
+		"\2\2\u00e7\u00ea\3\2\2\2\u00e8\u00e6\3\2\2\2\u00e8\u00e9\3\2\2\2\u00e9"+
+		"\u00f5\3\2\2\2\u00ea\u00e8\3\2\2\2\u00eb\u00ed\5\32\16\2\u00ec\u00ee\7"+
+		":\2\2\u00ed\u00ec\3\2\2\2\u00ee\u00ef\3\2\2\2\u00ef\u00ed\3\2\2\2\u00ef"+
+		"\u00f0\3\2\2\2\u00f0\u00f1\3\2\2\2\u00f1\u00f2\b\b\1\2\u00f2\u00f4\3\2"+
+		"\2\2\u00f3\u00eb\3\2\2\2\u00f4\u00f7\3\2\2\2\u00f5\u00f3\3\2\2\2\u00f5"+
+		"\u00f6\3\2\2\2\u00f6\u00f8\3\2\2\2\u00f7\u00f5\3\2\2\2\u00f8\u0103\7\66"+
+		"\2\2\u00f9\u0100\b\b\1\2\u00fa\u00fb\5\"\22\2\u00fb\u00fc\b\b\1\2\u00fc"+
+		"\u0101\3\2\2\2\u00fd\u00fe\5\32\16\2\u00fe\u00ff\b\b\1\2\u00ff\u0101\3"+
+		"\2\2\2\u0100\u00fa\3\2\2\2\u0100\u00fd\3\2\2\2\u0101\u0103\3\2\2\2\u0102"+
+		"\u00d7\3\2\2\2\u0102\u00f9\3\2\2\2\u0103\17\3\2\2\2\u0104\u0105\7\61\2"+
+		"\2\u0105\u0122\b\t\1\2\u0106\u0107\5\22\n\2\u0107\u0115\b\t\1\2\u0108"+
+		"\u0109\7/\2\2\u0109\u010a\5:\36\2\u010a\u010b\b\t\1\2\u010b\u0116\3\2"+
+		"\2\2\u010c\u010d\7\67\2\2\u010d\u010e\5\22\n\2\u010e\u010f\b\t\1\2\u010f"+
+		"\u0111\3\2\2\2\u0110\u010c\3\2\2\2\u0111\u0114\3\2\2\2\u0112\u0110\3\2"+
+		"\2\2\u0112\u0113\3\2\2\2\u0113\u0116\3\2\2\2\u0114\u0112\3\2\2\2\u0115"+
+		"\u0108\3\2\2\2\u0115\u0112\3\2\2\2\u0116\u011f\3\2\2\2\u0117\u0118\7\67"+
+		"\2\2\u0118\u0119\5\22\n\2\u0119\u011a\7/\2\2\u011a\u011b\5:\36\2\u011b"+
+		"\u011c\b\t\1\2\u011c\u011e\3\2\2\2\u011d\u0117\3\2\2\2\u011e\u0121\3\2"+
+		"\2\2\u011f\u011d\3\2\2\2\u011f\u0120\3\2\2\2\u0120\u0123\3\2\2\2\u0121"+
+		"\u011f\3\2\2\2\u0122\u0106\3\2\2\2\u0122\u0123\3\2\2\2\u0123\u0124\3\2"+
+		"\2\2\u0124\u0125\7\62\2\2\u0125\21\3\2\2\2\u0126\u0127\5N(\2\u0127\u0128"+
+		"\5L\'\2\u0128\u0129\b\n\1\2\u0129\23\3\2\2\2\u012a\u0136\b\13\1\2\u012b"+
+		"\u012c\5\66\34\2\u012c\u0133\b\13\1\2\u012d\u012e\7\67\2\2\u012e\u012f"+
+		"\5\66\34\2\u012f\u0130\b\13\1\2\u0130\u0132\3\2\2\2\u0131\u012d\3\2\2"+
+		"\2\u0132\u0135\3\2\2\2\u0133\u0131\3\2\2\2\u0133\u0134\3\2\2\2\u0134\u0137"+
+		"\3\2\2\2\u0135\u0133\3\2\2\2\u0136\u012b\3\2\2\2\u0136\u0137\3\2\2\2\u0137"+
+		"\25\3\2\2\2\u0138\u0139\5\30\r\2\u0139\u013a\b\f\1\2\u013a\u0144\3\2\2"+
+		"\2\u013b\u013d\7:\2\2\u013c\u013b\3\2\2\2\u013d\u013e\3\2\2\2\u013e\u013c"+
+		"\3\2\2\2\u013e\u013f\3\2\2\2\u013f\u0140\3\2\2\2\u0140\u0141\5\32\16\2"+
+		"\u0141\u0142\b\f\1\2\u0142\u0144\3\2\2\2\u0143\u0138\3\2\2\2\u0143\u013c"+
+		"\3\2\2\2\u0144\27\3\2\2\2\u0145\u0146\7\65\2\2\u0146\u0148\b\r\1\2\u0147"+
+		"\u0149\7:\2\2\u0148\u0147\3\2\2\2\u0149\u014a\3\2\2\2\u014a\u0148\3\2"+
+		"\2\2\u014a\u014b\3\2\2\2\u014b\u0155\3\2\2\2\u014c\u014d\5\32\16\2\u014d"+
+		"\u014f\b\r\1\2\u014e\u0150\7:\2\2\u014f\u014e\3\2\2\2\u0150\u0151\3\2"+
+		"\2\2\u0151\u014f\3\2\2\2\u0151\u0152\3\2\2\2\u0152\u0154\3\2\2\2\u0153"+
+		"\u014c\3\2\2\2\u0154\u0157\3\2\2\2\u0155\u0153\3\2\2\2\u0155\u0156\3\2"+
+		"\2\2\u0156\u0158\3\2\2\2\u0157\u0155\3\2\2\2\u0158\u0159\7\66\2\2\u0159"+
+		"\31\3\2\2\2\u015a\u015b\5$\23\2\u015b\u015c\b\16\1\2\u015c\u0176\3\2\2"+
+		"\2\u015d\u015e\5,\27\2\u015e\u015f\b\16\1\2\u015f\u0176\3\2\2\2\u0160"+
+		"\u0161\5.\30\2\u0161\u0162\b\16\1\2\u0162\u0176\3\2\2\2\u0163\u0164\5"+
+		"\60\31\2\u0164\u0165\b\16\1\2\u0165\u0176\3\2\2\2\u0166\u0167\5\62\32"+
+		"\2\u0167\u0168\b\16\1\2\u0168\u0176\3\2\2\2\u0169\u016a\5\64\33\2\u016a"+
+		"\u016b\b\16\1\2\u016b\u0176\3\2\2\2\u016c\u016d\5\34\17\2\u016d\u016e"+
+		"\b\16\1\2\u016e\u0176\3\2\2\2\u016f\u0170\5\36\20\2\u0170\u0171\b\16\1"+
+		"\2\u0171\u0176\3\2\2\2\u0172\u0173\5 \21\2\u0173\u0174\b\16\1\2\u0174"+
+		"\u0176\3\2\2\2\u0175\u015a\3\2\2\2\u0175\u015d\3\2\2\2\u0175\u0160\3\2"+
+		"\2\2\u0175\u0163\3\2\2\2\u0175\u0166\3\2\2\2\u0175\u0169\3\2\2\2\u0175"+
+		"\u016c\3\2\2\2\u0175\u016f\3\2\2\2\u0175\u0172\3\2\2\2\u0176\33\3\2\2"+
+		"\2\u0177\u0178\5\66\34\2\u0178\u0179\78\2\2\u0179\u017a\7\16\2\2\u017a"+
+		"\u017b\7\61\2\2\u017b\u017c\5:\36\2\u017c\u017d\7\62\2\2\u017d\u017e\b"+
+		"\17\1\2\u017e\35\3\2\2\2\u017f\u0180\5\66\34\2\u0180\u0181\78\2\2\u0181"+
+		"\u0182\7\17\2\2\u0182\u0183\7\61\2\2\u0183\u0184\5:\36\2\u0184\u018b\b"+
+		"\20\1\2\u0185\u0186\7\67\2\2\u0186\u0187\5:\36\2\u0187\u0188\b\20\1\2"+
+		"\u0188\u018a\3\2\2\2\u0189\u0185\3\2\2\2\u018a\u018d\3\2\2\2\u018b\u0189"+
+		"\3\2\2\2\u018b\u018c\3\2\2\2\u018c\u018e\3\2\2\2\u018d\u018b\3\2\2\2\u018e"+
+		"\u018f\b\20\1\2\u018f\u0190\7\62\2\2\u0190\37\3\2\2\2\u0191\u0192\5\66"+
+		"\34\2\u0192\u0193\78\2\2\u0193\u0194\7\f\2\2\u0194\u0195\7\61\2\2\u0195"+
+		"\u0196\5:\36\2\u0196\u0197\7\62\2\2\u0197\u0198\b\21\1\2\u0198!\3\2\2"+
+		"\2\u0199\u019a\5N(\2\u019a\u019b\5L\'\2\u019b\u01a2\b\22\1\2\u019c\u019d"+
+		"\7\67\2\2\u019d\u019e\5L\'\2\u019e\u019f\b\22\1\2\u019f\u01a1\3\2\2\2"+
+		"\u01a0\u019c\3\2\2\2\u01a1\u01a4\3\2\2\2\u01a2\u01a0\3\2\2\2\u01a2\u01a3"+
+		"\3\2\2\2\u01a3#\3\2\2\2\u01a4\u01a2\3\2\2\2\u01a5\u01a6\7\21\2\2\u01a6"+
+		"\u01a7\5(\25\2\u01a7\u01a8\5\26\f\2\u01a8\u01ae\b\23\1\2\u01a9\u01aa\5"+
+		"&\24\2\u01aa\u01ab\b\23\1\2\u01ab\u01ad\3\2\2\2\u01ac\u01a9\3\2\2\2\u01ad"+
+		"\u01b0\3\2\2\2\u01ae\u01ac\3\2\2\2\u01ae\u01af\3\2\2\2\u01af\u01b4\3\2"+
+		"\2\2\u01b0\u01ae\3\2\2\2\u01b1\u01b2\5*\26\2\u01b2\u01b3\b\23\1\2\u01b3"+
+		"\u01b5\3\2\2\2\u01b4\u01b1\3\2\2\2\u01b4\u01b5\3\2\2\2\u01b5%\3\2\2\2"+
+		"\u01b6\u01b8\7:\2\2\u01b7\u01b6\3\2\2\2\u01b8\u01bb\3\2\2\2\u01b9\u01b7"+
+		"\3\2\2\2\u01b9\u01ba\3\2\2\2\u01ba\u01bc\3\2\2\2\u01bb\u01b9\3\2\2\2\u01bc"+
+		"\u01bd\7\23\2\2\u01bd\u01be\5(\25\2\u01be\u01bf\5\26\f\2\u01bf\u01c0\b"+
+		"\24\1\2\u01c0\'\3\2\2\2\u01c1\u01c2\7\61\2\2\u01c2\u01c3\5\66\34\2\u01c3"+
+		"\u01c4\b\25\1\2\u01c4\u01c5\7\62\2\2\u01c5\u01ca\3\2\2\2\u01c6\u01c7\5"+
+		"\66\34\2\u01c7\u01c8\b\25\1\2\u01c8\u01ca\3\2\2\2\u01c9\u01c1\3\2\2\2"+
+		"\u01c9\u01c6\3\2\2\2\u01ca)\3\2\2\2\u01cb\u01cd\7:\2\2\u01cc\u01cb\3\2"+
+		"\2\2\u01cd\u01d0\3\2\2\2\u01ce\u01cc\3\2\2\2\u01ce\u01cf\3\2\2\2\u01cf"+
+		"\u01d1\3\2\2\2\u01d0\u01ce\3\2\2\2\u01d1\u01d2\7\22\2\2\u01d2\u01d3\5"+
+		"\26\f\2\u01d3\u01d4\b\26\1\2\u01d4+\3\2\2\2\u01d5\u01d6\7\20\2\2\u01d6"+
+		"\u01d7\7\61\2\2\u01d7\u01d8\5\66\34\2\u01d8\u01d9\b\27\1\2\u01d9\u01da"+
+		"\7\62\2\2\u01da-\3\2\2\2\u01db\u01dc\5@!\2\u01dc\u01e7\b\30\1\2\u01dd"+
+		"\u01e3\78\2\2\u01de\u01df\7\7\2\2\u01df\u01e4\b\30\1\2\u01e0\u01e1\5L"+
+		"\'\2\u01e1\u01e2\b\30\1\2\u01e2\u01e4\3\2\2\2\u01e3\u01de\3\2\2\2\u01e3"+
+		"\u01e0\3\2\2\2\u01e4\u01e6\3\2\2\2\u01e5\u01dd\3\2\2\2\u01e6\u01e9\3\2"+
+		"\2\2\u01e7\u01e5\3\2\2\2\u01e7\u01e8\3\2\2\2\u01e8\u01ea\3\2\2\2\u01e9"+
+		"\u01e7\3\2\2\2\u01ea\u01eb\7\61\2\2\u01eb\u01ec\5\24\13\2\u01ec\u01ed"+
+		"\b\30\1\2\u01ed\u01ee\7\62\2\2\u01ee\u01ef\3\2\2\2\u01ef\u01f0\b\30\1"+
+		"\2\u01f0/\3\2\2\2\u01f1\u01f2\7\n\2\2\u01f2\u01f6\b\31\1\2\u01f3\u01f4"+
+		"\5\66\34\2\u01f4\u01f5\b\31\1\2\u01f5\u01f7\3\2\2\2\u01f6\u01f3\3\2\2"+
+		"\2\u01f6\u01f7\3\2\2\2\u01f7\61\3\2\2\2\u01f8\u01f9\5:\36\2\u01f9\u01fa"+
+		"\7/\2\2\u01fa\u01fb\5\66\34\2\u01fb\u01fc\b\32\1\2\u01fc\63\3\2\2\2\u01fd"+
+		"\u01fe\5@!\2\u01fe\u01ff\b\33\1\2\u01ff\u0209\3\2\2\2\u0200\u0201\7\61"+
+		"\2\2\u0201\u0202\5\66\34\2\u0202\u0203\78\2\2\u0203\u0204\78\2\2\u0204"+
+		"\u0205\5\66\34\2\u0205\u0206\7\62\2\2\u0206\u0207\b\33\1\2\u0207\u0209"+
+		"\3\2\2\2\u0208\u01fd\3\2\2\2\u0208\u0200\3\2\2\2\u0209\u020a\3\2\2\2\u020a"+
+		"\u020b\78\2\2\u020b\u020c\7-\2\2\u020c\u020d\7.\2\2\u020d\u020e\7\36\2"+
+		"\2\u020e\u020f\5L\'\2\u020f\u0210\7\36\2\2\u0210\u0211\5\26\f\2\u0211"+
+		"\u0212\b\33\1\2\u0212\65\3\2\2\2\u0213\u0214\58\35\2\u0214\u0219\b\34"+
+		"\1\2\u0215\u0216\7/\2\2\u0216\u0217\5\66\34\2\u0217\u0218\b\34\1\2\u0218"+
+		"\u021a\3\2\2\2\u0219\u0215\3\2\2\2\u0219\u021a\3\2\2\2\u021a\u0222\3\2"+
+		"\2\2\u021b\u021c\78\2\2\u021c\u021d\7\r\2\2\u021d\u021e\7\61\2\2\u021e"+
+		"\u021f\5:\36\2\u021f\u0220\7\62\2\2\u0220\u0221\b\34\1\2\u0221\u0223\3"+
+		"\2\2\2\u0222\u021b\3\2\2\2\u0222\u0223\3\2\2\2\u0223\67\3\2\2\2\u0224"+
+		"\u0225\5:\36\2\u0225\u022c\b\35\1\2\u0226\u0227\7\"\2\2\u0227\u0228\5"+
+		"8\35\2\u0228\u0229\7#\2\2\u0229\u022a\58\35\2\u022a\u022b\b\35\1\2\u022b"+
+		"\u022d\3\2\2\2\u022c\u0226\3\2\2\2\u022c\u022d\3\2\2\2\u022d9\3\2\2\2"+
+		"\u022e\u022f\5<\37\2\u022f\u0249\b\36\1\2\u0230\u0231\7 \2\2\u0231\u0243"+
+		"\b\36\1\2\u0232\u0233\7\37\2\2\u0233\u0243\b\36\1\2\u0234\u0235\7\32\2"+
+		"\2\u0235\u0243\b\36\1\2\u0236\u0237\7\33\2\2\u0237\u0243\b\36\1\2\u0238"+
+		"\u0239\7\34\2\2\u0239\u0243\b\36\1\2\u023a\u023b\7\24\2\2\u023b\u0243"+
+		"\b\36\1\2\u023c\u023d\7\25\2\2\u023d\u0243\b\36\1\2\u023e\u023f\7\26\2"+
+		"\2\u023f\u0243\b\36\1\2\u0240\u0241\7\27\2\2\u0241\u0243\b\36\1\2\u0242"+
+		"\u0230\3\2\2\2\u0242\u0232\3\2\2\2\u0242\u0234\3\2\2\2\u0242\u0236\3\2"+
+		"\2\2\u0242\u0238\3\2\2\2\u0242\u023a\3\2\2\2\u0242\u023c\3\2\2\2\u0242"+
+		"\u023e\3\2\2\2\u0242\u0240\3\2\2\2\u0243\u0244\3\2\2\2\u0244\u0245\5<"+
+		"\37\2\u0245\u0246\b\36\1\2\u0246\u0248\3\2\2\2\u0247\u0242\3\2\2\2\u0248"+
+		"\u024b\3\2\2\2\u0249\u0247\3\2\2\2\u0249\u024a\3\2\2\2\u024a\u024c\3\2"+
+		"\2\2\u024b\u0249\3\2\2\2\u024c\u024d\b\36\1\2\u024d;\3\2\2\2\u024e\u024f"+
+		"\7!\2\2\u024f\u0253\b\37\1\2\u0250\u0251\7\25\2\2\u0251\u0253\b\37\1\2"+
+		"\u0252\u024e\3\2\2\2\u0252\u0250\3\2\2\2\u0253\u0254\3\2\2\2\u0254\u0255"+
+		"\5<\37\2\u0255\u0256\b\37\1\2\u0256\u025b\3\2\2\2\u0257\u0258\5> \2\u0258"+
+		"\u0259\b\37\1\2\u0259\u025b\3\2\2\2\u025a\u0252\3\2\2\2\u025a\u0257\3"+
+		"\2\2\2\u025b=\3\2\2\2\u025c\u025d\5@!\2\u025d\u0264\b \1\2\u025e\u025f"+
+		"\7\30\2\2\u025f\u0263\b \1\2\u0260\u0261\7\31\2\2\u0261\u0263\b \1\2\u0262"+
+		"\u025e\3\2\2\2\u0262\u0260\3\2\2\2\u0263\u0265\3\2\2\2\u0264\u0262\3\2"+
+		"\2\2\u0264\u0265\3\2\2\2\u0265?\3\2\2\2\u0266\u0267\5B\"\2\u0267\u0277"+
+		"\b!\1\2\u0268\u0269\7\61\2\2\u0269\u026a\5\24\13\2\u026a\u026b\b!\1\2"+
+		"\u026b\u026c\7\62\2\2\u026c\u0276\3\2\2\2\u026d\u0273\78\2\2\u026e\u026f"+
+		"\5L\'\2\u026f\u0270\b!\1\2\u0270\u0274\3\2\2\2\u0271\u0272\7\b\2\2\u0272"+
+		"\u0274\b!\1\2\u0273\u026e\3\2\2\2\u0273\u0271\3\2\2\2\u0274\u0276\3\2"+
+		"\2\2\u0275\u0268\3\2\2\2\u0275\u026d\3\2\2\2\u0276\u0279\3\2\2\2\u0277"+
+		"\u0275\3\2\2\2\u0277\u0278\3\2\2\2\u0278\u0285\3\2\2\2\u0279\u0277\3\2"+
+		"\2\2\u027a\u027b\78\2\2\u027b\u027c\5L\'\2\u027c\u027d\b!\1\2\u027d\u0284"+
+		"\3\2\2\2\u027e\u027f\7\63\2\2\u027f\u0280\5\66\34\2\u0280\u0281\7\64\2"+
+		"\2\u0281\u0282\b!\1\2\u0282\u0284\3\2\2\2\u0283\u027a\3\2\2\2\u0283\u027e"+
+		"\3\2\2\2\u0284\u0287\3\2\2\2\u0285\u0283\3\2\2\2\u0285\u0286\3\2\2\2\u0286"+
+		"A\3\2\2\2\u0287\u0285\3\2\2\2\u0288\u0289\7\t\2\2\u0289\u029c\b\"\1\2"+
+		"\u028a\u028b\5J&\2\u028b\u028c\b\"\1\2\u028c\u029c\3\2\2\2\u028d\u028e"+
+		"\5F$\2\u028e\u028f\b\"\1\2\u028f\u029c\3\2\2\2\u0290\u0291\5L\'\2\u0291"+
+		"\u0292\b\"\1\2\u0292\u029c\3\2\2\2\u0293\u0294\5D#\2\u0294\u0295\b\"\1"+
+		"\2\u0295\u029c\3\2\2\2\u0296\u0297\7\61\2\2\u0297\u0298\5\66\34\2\u0298"+
+		"\u0299\7\62\2\2\u0299\u029a\b\"\1\2\u029a\u029c\3\2\2\2\u029b\u0288\3"+
+		"\2\2\2\u029b\u028a\3\2\2\2\u029b\u028d\3\2\2\2\u029b\u0290\3\2\2\2\u029b"+
+		"\u0293\3\2\2\2\u029b\u0296\3\2\2\2\u029cC\3\2\2\2\u029d\u029e\b#\1\2\u029e"+
+		"\u029f\7,\2\2\u029f\u02a0\78\2\2\u02a0\u02a1\7\b\2\2\u02a1\u02b0\7\61"+
+		"\2\2\u02a2\u02a3\7\61\2\2\u02a3\u02a4\5:\36\2\u02a4\u02ab\b#\1\2\u02a5"+
+		"\u02a6\7\67\2\2\u02a6\u02a7\5:\36\2\u02a7\u02a8\b#\1\2\u02a8\u02aa\3\2"+
+		"\2\2\u02a9\u02a5\3\2\2\2\u02aa\u02ad\3\2\2\2\u02ab\u02a9\3\2\2\2\u02ab"+
+		"\u02ac\3\2\2\2\u02ac\u02ae\3\2\2\2\u02ad\u02ab\3\2\2\2\u02ae\u02af\7\62"+
+		"\2\2\u02af\u02b1\3\2\2\2\u02b0\u02a2\3\2\2\2\u02b0\u02b1\3\2\2\2\u02b1"+
+		"\u02b2\3\2\2\2\u02b2\u02b3\b#\1\2\u02b3\u02b4\7\62\2\2\u02b4E\3\2\2\2"+
+		"\u02b5\u02b6\5H%\2\u02b6\u02b7\b$\1\2\u02b7\u02bb\3\2\2\2\u02b8\u02b9"+
+		"\7;\2\2\u02b9\u02bb\b$\1\2\u02ba\u02b5\3\2\2\2\u02ba\u02b8\3\2\2\2\u02bb"+
+		"G\3\2\2\2\u02bc\u02bd\7$\2\2\u02bd\u02c1\b%\1\2\u02be\u02bf\7%\2\2\u02bf"+
+		"\u02c1\b%\1\2\u02c0\u02bc\3\2\2\2\u02c0\u02be\3\2\2\2\u02c1I\3\2\2\2\u02c2"+
+		"\u02c3\7=\2\2\u02c3\u02c4\b&\1\2\u02c4K\3\2\2\2\u02c5\u02c6\7<\2\2\u02c6"+
+		"\u02c7\b\'\1\2\u02c7M\3\2\2\2\u02c8\u02c9\7)\2\2\u02c9\u02d9\b(\1\2\u02ca"+
+		"\u02cb\7*\2\2\u02cb\u02d9\b(\1\2\u02cc\u02cd\5P)\2\u02cd\u02ce\b(\1\2"+
+		"\u02ce\u02d9\3\2\2\2\u02cf\u02d0\5R*\2\u02d0\u02d1\b(\1\2\u02d1\u02d9"+
+		"\3\2\2\2\u02d2\u02d3\5T+\2\u02d3\u02d4\b(\1\2\u02d4\u02d9\3\2\2\2\u02d5"+
+		"\u02d6\5J&\2\u02d6\u02d7\b(\1\2\u02d7\u02d9\3\2\2\2\u02d8\u02c8\3\2\2"+
+		"\2\u02d8\u02ca\3\2\2\2\u02d8\u02cc\3\2\2\2\u02d8\u02cf\3\2\2\2\u02d8\u02d2"+
+		"\3\2\2\2\u02d8\u02d5\3\2\2\2\u02d9O\3\2\2\2\u02da\u02e2\b)\1\2\u02db\u02dc"+
+		"\7)\2\2\u02dc\u02e3\b)\1\2\u02dd\u02de\7*\2\2\u02de\u02e3\b)\1\2\u02df"+
+		"\u02e0\5J&\2\u02e0\u02e1\b)\1\2\u02e1\u02e3\3\2\2\2\u02e2\u02db\3\2\2"+
+		"\2\u02e2\u02dd\3\2\2\2\u02e2\u02df\3\2\2\2\u02e3\u02e9\3\2\2\2\u02e4\u02e5"+
+		"\7\63\2\2\u02e5\u02e6\5\66\34\2\u02e6\u02e7\7\64\2\2\u02e7\u02e8\b)\1"+
+		"\2\u02e8\u02ea\3\2\2\2\u02e9\u02e4\3\2\2\2\u02ea\u02eb\3\2\2\2\u02eb\u02e9"+
+		"\3\2\2\2\u02eb\u02ec\3\2\2\2\u02ec\u02ed\3\2\2\2\u02ed\u02ee\b)\1\2\u02ee"+
+		"Q\3\2\2\2\u02ef\u02f0\b*\1\2\u02f0\u02f1\7+\2\2\u02f1\u02fe\7\34\2\2\u02f2"+
+		"\u02ff\7\13\2\2\u02f3\u02f4\5N(\2\u02f4\u02fb\b*\1\2\u02f5\u02f6\7\67"+
+		"\2\2\u02f6\u02f7\5N(\2\u02f7\u02f8\b*\1\2\u02f8\u02fa\3\2\2\2\u02f9\u02f5"+
+		"\3\2\2\2\u02fa\u02fd\3\2\2\2\u02fb\u02f9\3\2\2\2\u02fb\u02fc\3\2\2\2\u02fc"+
+		"\u02ff\3\2\2\2\u02fd\u02fb\3\2\2\2\u02fe\u02f2\3\2\2\2\u02fe\u02f3\3\2"+
+		"\2\2\u02ff\u0300\3\2\2\2\u0300\u0306\7\35\2\2\u0301\u0302\5N(\2\u0302"+
+		"\u0303\b*\1\2\u0303\u0307\3\2\2\2\u0304\u0305\7\13\2\2\u0305\u0307\b*"+
+		"\1\2\u0306\u0301\3\2\2\2\u0306\u0304\3\2\2\2\u0307\u0308\3\2\2\2\u0308"+
+		"\u0309\7\33\2\2\u0309S\3\2\2\2\u030a\u030b\7,\2\2\u030b\u030c\7\34\2\2"+
+		"\u030c\u030d\7)\2\2\u030d\u030e\7\33\2\2\u030e\u030f\b+\1\2\u030fU\3\2"+
+		"\2\2JYakqx~\u0088\u0096\u009b\u00a2\u00a9\u00ad\u00b4\u00be\u00c3\u00ca"+
+		"\u00d1\u00dc\u00e2\u00e8\u00ef\u00f5\u0100\u0102\u0112\u0115\u011f\u0122"+
+		"\u0133\u0136\u013e\u0143\u014a\u0151\u0155\u0175\u018b\u01a2\u01ae\u01b4"+
+		"\u01b9\u01c9\u01ce\u01e3\u01e7\u01f6\u0208\u0219\u0222\u022c\u0242\u0249"+
+		"\u0252\u025a\u0262\u0264\u0273\u0275\u0277\u0283\u0285\u029b\u02ab\u02b0"+
+		"\u02ba\u02c0\u02d8\u02e2\u02eb\u02fb\u02fe\u0306";
 	public static final ATN _ATN =
 		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 	static {
@@ -204,36 +204,6 @@ public interface SimpleLOOPVisitor<T> extends ParseTreeVisitor<T> {
 	 * @return the visitor result
 	 */
 	T visitOrExpression(SimpleLOOPParser.OrExpressionContext ctx);
-	/**
-	 * Visit a parse tree produced by {@link SimpleLOOPParser#andExpression}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitAndExpression(SimpleLOOPParser.AndExpressionContext ctx);
-	/**
-	 * Visit a parse tree produced by {@link SimpleLOOPParser#equalityExpression}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitEqualityExpression(SimpleLOOPParser.EqualityExpressionContext ctx);
-	/**
-	 * Visit a parse tree produced by {@link SimpleLOOPParser#relationalExpression}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitRelationalExpression(SimpleLOOPParser.RelationalExpressionContext ctx);
-	/**
-	 * Visit a parse tree produced by {@link SimpleLOOPParser#additiveExpression}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitAdditiveExpression(SimpleLOOPParser.AdditiveExpressionContext ctx);
-	/**
-	 * Visit a parse tree produced by {@link SimpleLOOPParser#multiplicativeExpression}.
-	 * @param ctx the parse tree
-	 * @return the visitor result
-	 */
-	T visitMultiplicativeExpression(SimpleLOOPParser.MultiplicativeExpressionContext ctx);
 	/**
 	 * Visit a parse tree produced by {@link SimpleLOOPParser#preUnaryExpression}.
 	 * @param ctx the parse tree